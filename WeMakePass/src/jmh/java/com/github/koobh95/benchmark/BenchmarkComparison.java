@@ -0,0 +1,124 @@
+package com.github.koobh95.benchmark;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * - 두 JMH 결과(JSON)를 비교하여 벤치마크별 점수의 변화율을 출력한다.
+ * - 벤치마크는 메서드 이름과 @Param 값으로 구분하며, 한쪽에만 있는 벤치마크는 비교하지 않는다.
+ * - 처리량(thrpt) 모드는 점수가 낮아진 경우, 나머지 모드(avgt, sample, ss)는 점수가 높아진 경우를
+ *  성능 저하로 판단한다.
+ * - 직접 실행할 경우 성능 저하가 하나라도 있다면 종료 코드 1을 반환한다.
+ *  > 사용법: BenchmarkComparison <baseline.json> <current.json> [threshold(%)]
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public final class BenchmarkComparison {
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private BenchmarkComparison() {}
+
+	public static void main(String[] args) throws IOException {
+		if(args.length < 2) {
+			System.err.println("사용법: BenchmarkComparison <baseline.json> "
+					+ "<current.json> [threshold(%)]");
+			System.exit(2);
+		}
+		double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+		int regressions = compare(Paths.get(args[0]), Paths.get(args[1]), 
+				threshold, System.out);
+		System.exit(regressions > 0 ? 1 : 0);
+	}
+
+	/**
+	 * 디렉토리에 저장된 결과 중 가장 최근 결과를 반환한다. 파일 이름이 시간 순으로 정렬된다고 가정한다.
+	 *
+	 * @param resultDir
+	 * @return 결과가 없다면 null
+	 */
+	public static Path latestResult(Path resultDir) throws IOException {
+		try(Stream<Path> files = Files.list(resultDir)) {
+			return files
+					.filter(p -> p.getFileName().toString().endsWith(".json"))
+					.max((a, b) -> a.getFileName().compareTo(b.getFileName()))
+					.orElse(null);
+		}
+	}
+
+	/**
+	 * 두 결과를 비교하여 출력하고, 성능이 threshold(%) 이상 저하된 벤치마크 수를 반환한다.
+	 *
+	 * @param baseline 기준 결과
+	 * @param current 비교할 결과
+	 * @param threshold 성능 저하로 판단할 변화율(%)
+	 * @param out 비교 결과를 출력할 스트림
+	 * @return
+	 */
+	public static int compare(Path baseline, Path current, double threshold,
+			PrintStream out) throws IOException {
+		Map<String, JsonNode> baselineScores = readScores(baseline);
+		Map<String, JsonNode> currentScores = readScores(current);
+		int regressions = 0;
+
+		out.println("기준: " + baseline.getFileName() + ", 비교: " 
+				+ current.getFileName() + ", 기준 변화율: " + threshold + "%");
+		for(Map.Entry<String, JsonNode> entry : currentScores.entrySet()) {
+			JsonNode before = baselineScores.get(entry.getKey());
+			if(before == null)
+				continue;
+			
+			JsonNode after = entry.getValue();
+			double beforeScore = before.path("primaryMetric").path("score").asDouble();
+			double afterScore = after.path("primaryMetric").path("score").asDouble();
+			if(beforeScore == 0)
+				continue;
+			
+			double change = (afterScore - beforeScore) / beforeScore * 100;
+			boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+			boolean regressed = higherIsBetter ? change <= -threshold 
+					: change >= threshold;
+			if(regressed)
+				regressions++;
+			out.println(String.format("%-90s %14.3f -> %14.3f %-10s %+7.1f%%%s",
+					entry.getKey(), beforeScore, afterScore, 
+					after.path("primaryMetric").path("scoreUnit").asText(), change,
+					regressed ? "  <- 성능 저하" : ""));
+		}
+		out.println("성능 저하: " + regressions + "건");
+		return regressions;
+	}
+
+	// 결과 파일을 읽어 "벤치마크 이름(파라미터)"를 키로 하는 Map으로 반환한다.
+	private static Map<String, JsonNode> readScores(Path file) throws IOException {
+		Map<String, JsonNode> scores = new LinkedHashMap<>();
+		for(JsonNode node : OBJECT_MAPPER.readTree(file.toFile())) {
+			StringBuilder key = new StringBuilder(node.path("benchmark").asText());
+			JsonNode params = node.path("params");
+			if(params.isObject()) {
+				key.append('(');
+				Iterator<Map.Entry<String, JsonNode>> it = params.fields();
+				while(it.hasNext()) {
+					Map.Entry<String, JsonNode> param = it.next();
+					key.append(param.getKey()).append('=')
+						.append(param.getValue().asText());
+					if(it.hasNext())
+						key.append(", ");
+				}
+				key.append(')');
+			}
+			scores.put(key.toString(), node);
+		}
+		return scores;
+	}
+}
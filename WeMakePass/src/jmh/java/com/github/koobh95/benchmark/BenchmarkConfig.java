@@ -0,0 +1,106 @@
+package com.github.koobh95.benchmark;
+
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import com.github.koobh95.service.impl.BoardServiceImpl;
+import com.github.koobh95.service.impl.PostHitServiceImpl;
+import com.github.koobh95.service.impl.PostIndexServiceImpl;
+import com.github.koobh95.service.impl.PostServiceImpl;
+import com.github.koobh95.service.impl.ReplyServiceImpl;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * - 벤치마크에서 사용하는 스프링 설정 클래스.
+ * - DBConfig와 같은 Repository, Entity를 사용하지만 Oracle 대신 내장 H2(In-memory) DB를
+ *  사용하며, 측정 대상 서비스만 bean으로 등록한다.
+ * - 측정 결과가 캐시 적중 여부에 따라 달라지지 않도록 2차 캐시와 쿼리 캐시는 사용하지 않는다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableTransactionManagement
+@EnableJpaRepositories("com.github.koobh95.data.repository")
+@Import({
+	PostServiceImpl.class,
+	BoardServiceImpl.class,
+	PostHitServiceImpl.class,
+	PostIndexServiceImpl.class,
+	ReplyServiceImpl.class })
+public class BenchmarkConfig {
+	@Bean
+	public LocalContainerEntityManagerFactoryBean entityManagerFactory() {
+		LocalContainerEntityManagerFactoryBean em
+			= new LocalContainerEntityManagerFactoryBean();
+		em.setDataSource(dataSource());
+		em.setPackagesToScan(new String[] {
+				"com.github.koobh95.data.model.entity" });
+		em.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		em.setJpaProperties(getProperties());
+		return em;
+	}
+
+	// H2 In-memory DB, 커넥션 풀 크기는 DBConfig의 기본값과 같게 한다.
+	@Bean
+	public DataSource dataSource() {
+		HikariConfig config = new HikariConfig();
+		config.setPoolName("wmp-benchmark-pool");
+		config.setJdbcUrl(
+				"jdbc:h2:mem:wmp_benchmark;DB_CLOSE_DELAY=-1");
+		config.setUsername("sa");
+		config.setMinimumIdle(5);
+		config.setMaximumPoolSize(20);
+		return new HikariDataSource(config);
+	}
+
+	@Bean
+	public JdbcTemplate jdbcTemplate() {
+		return new JdbcTemplate(dataSource());
+	}
+
+	@Bean
+	public PlatformTransactionManager transactionManager() {
+		JpaTransactionManager transactionManager =
+				new JpaTransactionManager(entityManagerFactory().getObject());
+		transactionManager.setDataSource(dataSource());
+		return transactionManager;
+	}
+
+	/**
+	 *  PostIndexServiceImpl이 색인 구축에 사용하는 Executor. 데이터를 생성한 뒤 BenchmarkData에서
+	 * 색인을 다시 구축하므로 호출한 스레드에서 바로 실행한다.
+	 */
+	@Bean
+	public Executor executor() {
+		return Runnable::run;
+	}
+
+	private Properties getProperties() {
+		Properties properties = new Properties();
+		properties.setProperty("hibernate.hbm2ddl.auto", "create");
+		properties.setProperty("hibernate.dialect",
+				"org.hibernate.dialect.H2Dialect");
+		properties.setProperty("hibernate.show_sql", "false");
+		properties.setProperty("hibernate.jdbc.batch_size", "50");
+		properties.setProperty("hibernate.order_inserts", "true");
+		properties.setProperty("hibernate.order_updates", "true");
+		properties.setProperty("hibernate.cache.use_second_level_cache", "false");
+		properties.setProperty("hibernate.cache.use_query_cache", "false");
+		return properties;
+	}
+}
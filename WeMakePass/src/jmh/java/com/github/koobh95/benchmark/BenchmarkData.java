@@ -0,0 +1,197 @@
+package com.github.koobh95.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.github.koobh95.service.PostIndexService;
+
+/**
+ * - 벤치마크에서 사용할 스프링 컨텍스트를 생성하고 H2 DB에 측정용 데이터를 생성한다.
+ * - JMH는 벤치마크마다 별도의 JVM(fork)에서 실행되므로 컨텍스트와 데이터는 JVM마다 한 번만
+ *  생성되며, 같은 시드의 Random을 사용하므로 매번 같은 데이터가 생성된다.
+ * - 생성되는 데이터
+ *  > 사용자 USER_COUNT명, 게시판 BOARD_COUNT개
+ *  > 게시판마다 POSTS_PER_BOARD개의 게시글, 이 중 약 2%는 삭제된 게시글
+ *  > REPLY_TREE_SIZES의 크기만큼 댓글을 가진 게시글. 댓글의 20%는 상위 댓글, 나머지는 답글이며
+ *   답글의 일부는 답글의 답글, 일부는 삭제된 댓글이다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public final class BenchmarkData {
+	public static final int USER_COUNT = 1_000;
+	public static final int BOARD_COUNT = 4;
+	public static final int POSTS_PER_BOARD = 12_500;
+	public static final int[] REPLY_TREE_SIZES = { 50, 500, 5_000 };
+	public static final long BOARD_NO = 1; // 측정에 사용하는 게시판
+	public static final String[] CATEGORIES = { "자유", "질문", "정보", "후기" };
+
+	// 앞쪽에 위치한 단어일수록 자주 사용된다.
+	private static final String[] WORDS = {
+			"시험", "기출", "문제", "합격", "공부", "필기", "실기", "정리", "질문", "답변",
+			"자격증", "정보처리기사", "후기", "요약", "오답", "개념", "데이터베이스", "네트워크",
+			"운영체제", "알고리즘", "자료구조", "보안", "SQL", "Java", "소프트웨어", "설계",
+			"테스트", "정규화", "트랜잭션", "인덱스", "전기기사", "회로", "전자기학", "계산기",
+			"모의고사", "교재", "인강", "일정", "접수", "가채점", "산업안전기사" };
+	private static final int BATCH_SIZE = 1_000;
+	private static final long RANDOM_SEED = 20261018L;
+
+	private static ApplicationContext context;
+
+	private BenchmarkData() {}
+
+	/**
+	 * 측정용 데이터가 생성된 스프링 컨텍스트를 반환한다. 최초 호출 시 컨텍스트와 데이터를 생성한다.
+	 *
+	 * @return
+	 */
+	public static synchronized ApplicationContext context() {
+		if(context == null) {
+			AnnotationConfigApplicationContext ctx =
+					new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+			populate(ctx.getBean(JdbcTemplate.class));
+			ctx.getBean(PostIndexService.class).rebuild();
+			context = ctx;
+		}
+		return context;
+	}
+
+	/**
+	 * 특정 개수의 댓글을 가진 게시글의 번호를 반환한다.
+	 *
+	 * @param replyCount REPLY_TREE_SIZES 중 하나
+	 * @return
+	 */
+	public static long replyTreePostNo(int replyCount) {
+		for(int i = 0; i < REPLY_TREE_SIZES.length; i++)
+			if(REPLY_TREE_SIZES[i] == replyCount)
+				return BOARD_COUNT * POSTS_PER_BOARD + i + 1;
+		throw new IllegalArgumentException("replyCount=" + replyCount);
+	}
+
+	private static void populate(JdbcTemplate jdbcTemplate) {
+		Random random = new Random(RANDOM_SEED);
+		LocalDateTime baseDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+		// hbm2ddl은 길이가 지정되지 않은 문자열을 VARCHAR(255)로 생성하므로 실제 테이블에 맞게 늘린다.
+		jdbcTemplate.execute("ALTER TABLE post_tb ALTER COLUMN content "
+				+ "SET DATA TYPE VARCHAR(4000)");
+
+		List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+		for(int i = 0; i < USER_COUNT; i++)
+			rows.add(new Object[] { userId(i), "{bcrypt}",
+					"user" + i + "@wmp.com", "닉네임" + i,
+					Timestamp.valueOf(baseDate) });
+		batchInsert(jdbcTemplate, "INSERT INTO user_tb(id, password, email, "
+				+ "nickname, role, reg_date, cert) "
+				+ "VALUES(?, ?, ?, ?, 'USER', ?, 'Y')", rows);
+
+		for(int i = 1; i <= BOARD_COUNT; i++)
+			rows.add(new Object[] { i, "게시판" + i });
+		batchInsert(jdbcTemplate,
+				"INSERT INTO board_tb(board_no, board_name) VALUES(?, ?)", rows);
+
+		final String postSql = "INSERT INTO post_tb(post_no, board_no, category, "
+				+ "writer, title, content, reg_date, delete_date, hit, reply_count) "
+				+ "VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+		long postCount = (long)BOARD_COUNT * POSTS_PER_BOARD;
+		for(long postNo = 1; postNo <= postCount; postNo++) {
+			LocalDateTime regDate = baseDate.plusMinutes(postNo);
+			rows.add(new Object[] {
+					postNo,
+					postNo % BOARD_COUNT + 1,
+					CATEGORIES[random.nextInt(CATEGORIES.length)],
+					userId(random.nextInt(USER_COUNT)),
+					sentence(random, 3 + random.nextInt(6)),
+					sentence(random, 30 + random.nextInt(90)),
+					Timestamp.valueOf(regDate),
+					random.nextInt(50) == 0 ? Timestamp.valueOf(regDate) : null,
+					random.nextInt(5_000),
+					0 });
+			if(rows.size() == BATCH_SIZE)
+				batchInsert(jdbcTemplate, postSql, rows);
+		}
+
+		long replyNo = 1;
+		for(int size : REPLY_TREE_SIZES) {
+			long postNo = replyTreePostNo(size);
+			rows.add(new Object[] { postNo, BOARD_NO, CATEGORIES[0], userId(0),
+					"댓글 " + size + "개", "댓글 " + size + "개",
+					Timestamp.valueOf(baseDate), null, 0, size });
+			batchInsert(jdbcTemplate, postSql, rows);
+			replyNo = populateReplyTree(jdbcTemplate, random, postNo, size,
+					replyNo, baseDate);
+		}
+	}
+
+	/**
+	 * 하나의 게시글에 size개의 댓글을 생성하고, 다음에 사용할 댓글 번호를 반환한다.
+	 */
+	private static long populateReplyTree(JdbcTemplate jdbcTemplate,
+			Random random, long postNo, int size, long firstReplyNo,
+			LocalDateTime baseDate) {
+		final String sql = "INSERT INTO reply_tb(reply_no, parent_reply_no, "
+				+ "post_no, writer, content, reg_date, delete_date) "
+				+ "VALUES(?, ?, ?, ?, ?, ?, ?)";
+		int parentCount = Math.max(1, size / 5);
+		List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+		for(int i = 0; i < size; i++) {
+			long replyNo = firstReplyNo + i;
+			long parentReplyNo;
+			if(i < parentCount)
+				parentReplyNo = -1;
+			else if(i > parentCount && random.nextInt(20) == 0) // 답글의 답글
+				parentReplyNo = firstReplyNo + parentCount
+					+ random.nextInt(i - parentCount);
+			else
+				parentReplyNo = firstReplyNo + random.nextInt(parentCount);
+
+			LocalDateTime regDate = baseDate.plusSeconds(i);
+			rows.add(new Object[] {
+					replyNo,
+					parentReplyNo,
+					postNo,
+					userId(random.nextInt(USER_COUNT)),
+					sentence(random, 5 + random.nextInt(20)),
+					Timestamp.valueOf(regDate),
+					random.nextInt(30) == 0 ? Timestamp.valueOf(regDate) : null });
+			if(rows.size() == BATCH_SIZE)
+				batchInsert(jdbcTemplate, sql, rows);
+		}
+		batchInsert(jdbcTemplate, sql, rows);
+		return firstReplyNo + size;
+	}
+
+	// 쌓인 행을 하나의 batch로 삽입하고 리스트를 비운다.
+	private static void batchInsert(JdbcTemplate jdbcTemplate, String sql,
+			List<Object[]> rows) {
+		if(rows.isEmpty())
+			return;
+		jdbcTemplate.batchUpdate(sql, rows);
+		rows.clear();
+	}
+
+	private static String userId(int index) {
+		return "user" + index;
+	}
+
+	// 앞쪽 단어가 더 자주 선택되도록 단어를 골라 문장을 만든다.
+	private static String sentence(Random random, int wordCount) {
+		StringBuilder sb = new StringBuilder(wordCount * 4);
+		for(int i = 0; i < wordCount; i++) {
+			double r = random.nextDouble();
+			if(i > 0)
+				sb.append(' ');
+			sb.append(WORDS[(int)(WORDS.length * r * r)]);
+		}
+		return sb.toString();
+	}
+}
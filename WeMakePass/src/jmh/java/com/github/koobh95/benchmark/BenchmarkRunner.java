@@ -0,0 +1,51 @@
+package com.github.koobh95.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * - 벤치마크를 실행하고 결과를 JSON 파일로 저장한다. pom.xml의 benchmark 프로파일에서 실행된다.
+ * - 인자는 JMH의 명령행 옵션(실행할 벤치마크의 정규식, -f, -wi 등)을 그대로 사용한다.
+ * - 결과는 "benchmark.resultDir/yyyyMMdd-HHmmss.json"에 저장되며, 같은 디렉토리에 이전 결과가
+ *  있다면 가장 최근 결과와 비교하여 benchmark.regressionThreshold(%) 이상 느려진 벤치마크를
+ *  출력한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public final class BenchmarkRunner {
+	private static final DateTimeFormatter FILE_NAME_FORMAT = 
+			DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+	private BenchmarkRunner() {}
+
+	public static void main(String[] args) throws Exception {
+		Path resultDir = Paths.get(
+				System.getProperty("benchmark.resultDir", "benchmark-results"));
+		double threshold = Double.parseDouble(
+				System.getProperty("benchmark.regressionThreshold", "10"));
+		Files.createDirectories(resultDir);
+		
+		Path baseline = BenchmarkComparison.latestResult(resultDir);
+		Path result = resultDir.resolve(
+				LocalDateTime.now().format(FILE_NAME_FORMAT) + ".json");
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.resultFormat(ResultFormatType.JSON)
+				.result(result.toString())
+				.build();
+		new Runner(options).run();
+		
+		if(baseline != null)
+			BenchmarkComparison.compare(baseline, result, threshold, System.out);
+	}
+}
@@ -0,0 +1,124 @@
+package com.github.koobh95.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.koobh95.util.VirtualThreadUtil;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * - 대부분의 시간을 JDBC 응답 대기에 사용하는 요청을 동시에 REQUESTS개 처리하는 데 걸리는 시간을
+ *  플랫폼 스레드 풀과 가상 스레드로 비교한다.
+ * - 요청마다 커넥션 풀에서 커넥션을 얻어 DB_LATENCY_MS만큼 응답을 기다리는 쿼리를 실행한다.
+ *  H2의 SLEEP 함수(Thread.sleep)로 원격 DB의 응답 대기를 흉내 낸다.
+ * - executor
+ *  > platform-pool : ioTaskExecutor와 같이 커넥션 풀 크기(POOL_SIZE)만큼의 플랫폼 스레드
+ *  > platform-tomcat : Tomcat의 기본 maxThreads(200)만큼의 플랫폼 스레드
+ *  > virtual : 요청마다 가상 스레드, JDK 21 이상에서만 실행할 수 있다.
+ * - 어느 쪽이든 동시에 실행되는 쿼리 수는 커넥션 풀 크기로 제한되므로 처리 시간보다는 같은 처리
+ *  시간에 필요한 스레드 수가 비교 대상이다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockingJdbcBenchmark {
+	private static final int POOL_SIZE = 20; // DBConfig의 기본값
+	private static final int REQUESTS = 400;
+	private static final int DB_LATENCY_MS = 5;
+
+	@Param({ "platform-pool", "platform-tomcat", "virtual" })
+	private String executor;
+
+	private HikariDataSource dataSource;
+	private ExecutorService executorService;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		HikariConfig config = new HikariConfig();
+		config.setPoolName("wmp-blocking-jdbc-pool");
+		config.setJdbcUrl("jdbc:h2:mem:wmp_blocking_jdbc;DB_CLOSE_DELAY=-1");
+		config.setUsername("sa");
+		config.setMinimumIdle(POOL_SIZE);
+		config.setMaximumPoolSize(POOL_SIZE);
+		dataSource = new HikariDataSource(config);
+		try(Connection connection = dataSource.getConnection();
+				Statement statement = connection.createStatement()) {
+			statement.execute("CREATE ALIAS IF NOT EXISTS SLEEP "
+					+ "FOR \"java.lang.Thread.sleep\"");
+		}
+
+		switch(executor) {
+		case "platform-pool":
+			executorService = Executors.newFixedThreadPool(POOL_SIZE);
+			break;
+		case "platform-tomcat":
+			executorService = Executors.newFixedThreadPool(200);
+			break;
+		case "virtual":
+			if(!VirtualThreadUtil.isSupported())
+				throw new IllegalStateException("가상 스레드는 JDK 21 이상에서만 측정할 수 있습니다.");
+			executorService = VirtualThreadUtil.newExecutor("benchmark-");
+			break;
+		default:
+			throw new IllegalArgumentException("executor=" + executor);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executorService.shutdownNow();
+		dataSource.close();
+	}
+
+	@Benchmark
+	public int concurrentRequests() {
+		List<CompletableFuture<Integer>> futures = new ArrayList<>(REQUESTS);
+		for(int i = 0; i < REQUESTS; i++)
+			futures.add(CompletableFuture.supplyAsync(this::query, executorService));
+
+		int count = 0;
+		for(CompletableFuture<Integer> future : futures)
+			count += future.join();
+		return count;
+	}
+
+	// 커넥션을 얻어 응답 대기 시간이 있는 쿼리를 실행한다.
+	private int query() {
+		try(Connection connection = dataSource.getConnection();
+				Statement statement = connection.createStatement()) {
+			statement.execute("CALL SLEEP(" + DB_LATENCY_MS + ")");
+			return 1;
+		} catch(SQLException e) {
+			throw new CompletionException(e);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.github.koobh95.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.github.koobh95.data.model.dto.PostDTO;
+import com.github.koobh95.data.model.entity.Post;
+import com.github.koobh95.data.model.entity.User;
+import com.github.koobh95.data.model.entity.mapping.PostMapping;
+
+/**
+ * - DB 조회 결과를 응답 DTO로 변환하는 Post.toDtoList() 측정.
+ * - DB를 사용하지 않고 메모리에 생성한 PostMapping 목록을 변환한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostConversionBenchmark {
+	@Param({ "20", "100" })
+	private int size;
+
+	private Slice<PostMapping> slice;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		LocalDateTime now = LocalDateTime.now();
+		List<PostMapping> content = new ArrayList<>(size);
+		for(int i = 0; i < size; i++) {
+			User user = User.createNewUser("user" + i, "{bcrypt}", 
+					"닉네임" + i, "user" + i + "@wmp.com");
+			content.add(new Row(size - i, BenchmarkData.CATEGORIES[i % 4],
+					"게시글 제목 " + i, now.minusMinutes(i), i * 7L, user, i % 5));
+		}
+		slice = new SliceImpl<>(content, PageRequest.of(0, size), true);
+	}
+
+	@Benchmark
+	public List<PostDTO> toDtoList() {
+		return Post.toDtoList(slice).getContent();
+	}
+
+	// 조회 결과를 대신하는 PostMapping 구현체
+	private static class Row implements PostMapping {
+		private final long postNo;
+		private final String category;
+		private final String title;
+		private final LocalDateTime regDate;
+		private final long hit;
+		private final User user;
+		private final int replyCount;
+
+		private Row(long postNo, String category, String title, 
+				LocalDateTime regDate, long hit, User user, int replyCount) {
+			this.postNo = postNo;
+			this.category = category;
+			this.title = title;
+			this.regDate = regDate;
+			this.hit = hit;
+			this.user = user;
+			this.replyCount = replyCount;
+		}
+
+		@Override
+		public long getPostNo() {
+			return postNo;
+		}
+
+		@Override
+		public String getCategory() {
+			return category;
+		}
+
+		@Override
+		public String getTitle() {
+			return title;
+		}
+
+		@Override
+		public LocalDateTime getRegDate() {
+			return regDate;
+		}
+
+		@Override
+		public LocalDateTime getDeleteDate() {
+			return null;
+		}
+
+		@Override
+		public long getHit() {
+			return hit;
+		}
+
+		@Override
+		public User getUser() {
+			return user;
+		}
+
+		@Override
+		public int getReplyCount() {
+			return replyCount;
+		}
+	}
+}
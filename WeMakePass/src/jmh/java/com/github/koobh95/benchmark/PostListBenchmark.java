@@ -0,0 +1,58 @@
+package com.github.koobh95.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.koobh95.data.model.dto.response.PostPageResponse;
+import com.github.koobh95.service.PostService;
+
+/**
+ * - 게시글 목록 조회(PostService.postList, postListBefore) 측정.
+ * - 같은 깊이의 목록을 OFFSET 방식과 Keyset 방식으로 각각 조회한다. Keyset 방식의 커서는 Setup에서
+ *  OFFSET 방식으로 바로 앞 페이지를 조회하여 구한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostListBenchmark {
+	@Param({ "0", "50", "500" })
+	private int pageNo;
+
+	private PostService postService;
+	private long cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		postService = BenchmarkData.context().getBean(PostService.class);
+		cursor = pageNo == 0 ? 0 : postService.postList(BenchmarkData.BOARD_NO,
+				pageNo - 1).getNextCursor();
+	}
+
+	@Benchmark
+	public PostPageResponse postList() {
+		return postService.postList(BenchmarkData.BOARD_NO, pageNo);
+	}
+
+	@Benchmark
+	public PostPageResponse postListBefore() {
+		return postService.postListBefore(BenchmarkData.BOARD_NO, cursor);
+	}
+}
@@ -0,0 +1,71 @@
+package com.github.koobh95.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.koobh95.data.model.dto.response.PostPageResponse;
+import com.github.koobh95.service.PostService;
+
+/**
+ * - 게시글 검색(PostService.search*) 측정.
+ * - 키워드는 자주 사용되는 단어, 드물게 사용되는 단어, 게시글에 없는 단어로 나누어 측정한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostSearchBenchmark {
+	@Param({ "기출", "정규화", "산업안전기사", "블록체인" })
+	private String keyword;
+
+	@Param({ "0", "5" })
+	private int pageNo;
+
+	private PostService postService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		postService = BenchmarkData.context().getBean(PostService.class);
+	}
+
+	@Benchmark
+	public PostPageResponse searchTitle() {
+		return postService.searchTitle(pageNo, 0, BenchmarkData.BOARD_NO, 
+				keyword);
+	}
+
+	@Benchmark
+	public PostPageResponse searchContent() {
+		return postService.searchContent(pageNo, 0, BenchmarkData.BOARD_NO, 
+				keyword);
+	}
+
+	@Benchmark
+	public PostPageResponse searchTitleAndContent() {
+		return postService.searchTitleAndContent(pageNo, 0, 
+				BenchmarkData.BOARD_NO, keyword);
+	}
+
+	@Benchmark
+	public PostPageResponse searchCategoryAndTitle() {
+		return postService.searchCategoryAndTitle(pageNo, 0, 
+				BenchmarkData.BOARD_NO, BenchmarkData.CATEGORIES[1], keyword);
+	}
+}
@@ -0,0 +1,51 @@
+package com.github.koobh95.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.koobh95.data.model.dto.ReplyDTO;
+import com.github.koobh95.service.ReplyService;
+
+/**
+ * 댓글 수가 서로 다른 게시글의 댓글 목록 조회(ReplyService.replyList) 측정.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplyListBenchmark {
+	@Param({ "50", "500", "5000" }) // BenchmarkData.REPLY_TREE_SIZES
+	private int replyCount;
+
+	private ReplyService replyService;
+	private long postNo;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		replyService = BenchmarkData.context().getBean(ReplyService.class);
+		postNo = BenchmarkData.replyTreePostNo(replyCount);
+	}
+
+	@Benchmark
+	public List<ReplyDTO> replyList() {
+		return replyService.replyList(postNo);
+	}
+}
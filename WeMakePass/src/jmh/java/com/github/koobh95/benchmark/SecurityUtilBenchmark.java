@@ -0,0 +1,85 @@
+package com.github.koobh95.benchmark;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.koobh95.security.util.AES256Util;
+import com.github.koobh95.security.util.JwtProvider;
+import com.github.koobh95.security.util.VerifiedToken;
+
+/**
+ * - 요청마다 실행되는 토큰 발급/검증(JwtProvider)과 암호화/복호화(AES256Util) 측정.
+ * - 키는 실제 키와 같은 길이의 고정된 값을 사용한다.
+ * - 복호화할 암호문은 클라이언트와 같은 형식(Base64 인코딩 후 URL 인코딩)으로 준비한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityUtilBenchmark {
+	private static final String USER_ID = "benchmark_user";
+	private static final String PLAIN_TEXT = "benchmark_user@wemakepass.com";
+
+	private JwtProvider jwtProvider;
+	private AES256Util aes256Util;
+	private String accessToken;
+	private String encryptedText;
+
+	@Setup(Level.Trial)
+	public void setUp() throws UnsupportedEncodingException {
+		jwtProvider = new JwtProvider();
+		jwtProvider.initSecretKey(Base64.getEncoder().encodeToString(
+				"wemakepass-benchmark-jwt-secret-key-0123456789".getBytes()));
+		aes256Util = new AES256Util("wemakepass-benchmark-aes-key-32b", 
+				"benchmark-iv-16b");
+		accessToken = jwtProvider.createAccessToken(USER_ID);
+		encryptedText = URLEncoder.encode(Base64.getEncoder().encodeToString(
+				aes256Util.encrypt(PLAIN_TEXT.getBytes(StandardCharsets.UTF_8))),
+				"UTF-8");
+	}
+
+	@Benchmark
+	public String createAccessToken() {
+		return jwtProvider.createAccessToken(USER_ID);
+	}
+
+	@Benchmark
+	public String createRefreshToken() {
+		return jwtProvider.createRefreshToken();
+	}
+
+	@Benchmark
+	public VerifiedToken verifyAccessToken() {
+		return jwtProvider.verify(accessToken);
+	}
+
+	@Benchmark
+	public String encrypt() {
+		return aes256Util.encrypt(PLAIN_TEXT);
+	}
+
+	@Benchmark
+	public String decrypt() {
+		return aes256Util.decrypt(encryptedText);
+	}
+}
@@ -0,0 +1,143 @@
+package com.github.koobh95.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.koobh95.data.model.entity.Board;
+import com.github.koobh95.data.model.entity.BoardCategory;
+import com.github.koobh95.search.NgramIndex;
+
+/**
+ * - 모든 게시판과 게시판별 카테고리를 갖는 변경되지 않는 스냅샷.
+ * - 게시판 이름 검색을 위한 n-gram 색인(NgramIndex), 게시판별 카테고리 배열과 그 JSON 데이터,
+ *  게시판과 카테고리 확인을 위한 Set을 함께 만든다.
+ * - 게시판이나 카테고리가 변경되면 스냅샷을 새로 만들어 통째로 교체(copy-on-write)하므로, 읽는
+ *  쪽은 잠금 없이 사용할 수 있다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class BoardCatalog {
+	private final Board[] boards; // 게시판 번호 순으로 정렬된 게시판
+	private final Set<Long> boardNos;
+	private final NgramIndex nameIndex;
+	private final Map<Long, String[]> categories;
+	private final Map<Long, Set<String>> categorySets;
+	private final Map<Long, CachedPayload<List<String>>> categoryPayloads;
+	private final CachedPayload<List<String>> emptyPayload;
+
+	/**
+	 * @param boardList 모든 게시판
+	 * @param categoryList 모든 카테고리, 카테고리 번호 순으로 정렬되어 있어야 한다.
+	 * @param objectMapper 카테고리 목록을 JSON으로 직렬화할 ObjectMapper
+	 */
+	public BoardCatalog(List<Board> boardList, List<BoardCategory> categoryList,
+			ObjectMapper objectMapper) {
+		boards = boardList.toArray(new Board[0]);
+		Arrays.sort(boards, Comparator.comparingLong(Board::getBoardNo));
+		boardNos = new HashSet<>(boards.length * 4 / 3 + 1);
+		String[] names = new String[boards.length];
+		for(int i = 0; i < boards.length; i++) {
+			boardNos.add(boards[i].getBoardNo());
+			names[i] = boards[i].getBoardName() == null ? "" : boards[i].getBoardName();
+		}
+		nameIndex = new NgramIndex(names);
+
+		Map<Long, List<String>> grouped = new HashMap<>();
+		for(BoardCategory category : categoryList)
+			grouped.computeIfAbsent(category.getBoardNo(), k -> new ArrayList<>())
+					.add(category.getCategoryName());
+
+		categories = new HashMap<>(grouped.size() * 4 / 3 + 1);
+		categorySets = new HashMap<>(grouped.size() * 4 / 3 + 1);
+		categoryPayloads = new HashMap<>(grouped.size() * 4 / 3 + 1);
+		for(Map.Entry<Long, List<String>> entry : grouped.entrySet()) {
+			String[] array = entry.getValue().toArray(new String[0]);
+			categories.put(entry.getKey(), array);
+			categorySets.put(entry.getKey(), new HashSet<>(entry.getValue()));
+			categoryPayloads.put(entry.getKey(), CachedPayload.of(
+					Collections.unmodifiableList(Arrays.asList(array)), objectMapper));
+		}
+		emptyPayload = CachedPayload.of(Collections.emptyList(), objectMapper);
+	}
+
+	/**
+	 * 게시판 수
+	 *
+	 * @return
+	 */
+	public int size() {
+		return boards.length;
+	}
+
+	/**
+	 * - 게시판 이름이 검색어를 포함하는 게시판을 게시판 번호 순으로 검색한다. LIKE 검색과 같이
+	 *  대소문자와 공백을 구분한다.
+	 * - 검색어가 비어 있다면 모든 게시판을 반환한다.
+	 *
+	 * @param keyword 검색어
+	 * @return
+	 */
+	public List<Board> searchByName(String keyword) {
+		if(keyword == null || keyword.isEmpty())
+			return Collections.unmodifiableList(Arrays.asList(boards));
+
+		int[] found = nameIndex.search(keyword);
+		List<Board> result = new ArrayList<>(found.length);
+		for(int i : found)
+			result.add(boards[i]);
+		return result;
+	}
+
+	/**
+	 * 게시판의 카테고리 목록과 그 JSON 데이터를 반환한다. 카테고리가 없는 게시판이라면 빈 목록을
+	 * 반환한다.
+	 *
+	 * @param boardNo 게시판의 고유 식별 번호
+	 * @return
+	 */
+	public CachedPayload<List<String>> getCategoryPayload(long boardNo) {
+		return categoryPayloads.getOrDefault(boardNo, emptyPayload);
+	}
+
+	/**
+	 * 게시판의 카테고리 수
+	 *
+	 * @param boardNo 게시판의 고유 식별 번호
+	 * @return
+	 */
+	public int categoryCount(long boardNo) {
+		String[] array = categories.get(boardNo);
+		return array == null ? 0 : array.length;
+	}
+
+	/**
+	 * 게시판이 존재하는지 여부
+	 *
+	 * @param boardNo 게시판의 고유 식별 번호
+	 * @return
+	 */
+	public boolean containsBoard(long boardNo) {
+		return boardNos.contains(boardNo);
+	}
+
+	/**
+	 * 게시판에 해당 카테고리가 있는지 여부
+	 *
+	 * @param boardNo 게시판의 고유 식별 번호
+	 * @param category 카테고리 이름
+	 * @return
+	 */
+	public boolean containsCategory(long boardNo, String category) {
+		Set<String> set = categorySets.get(boardNo);
+		return set != null && set.contains(category);
+	}
+}
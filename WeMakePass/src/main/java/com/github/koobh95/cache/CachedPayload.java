@@ -0,0 +1,66 @@
+package com.github.koobh95.cache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.koobh95.util.CompressionUtil;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * - 캐시에 저장되는 값과 그 값을 미리 JSON으로 직렬화한 byte 배열을 함께 갖는 클래스.
+ * - 같은 값을 여러 클라이언트에게 반복해서 응답할 때 매 요청마다 직렬화하지 않고 byte 배열을 그대로
+ *  응답 본문으로 사용하기 위해 사용한다. 값과 byte 배열은 공유되므로 변경해서는 안 된다.
+ * - 생성 시 JSON 데이터의 해시로 ETag를 한 번만 계산한다. 내용이 같다면 캐시에서 제거된 뒤 다시
+ *  로드되더라도 같은 ETag를 가지므로 클라이언트가 가진 데이터는 계속 유효하다.
+ * - JSON 데이터가 압축 기준 크기 이상이라면 gzip으로 압축한 데이터도 한 번만 생성하여 저장한다. 
+ *  클라이언트가 gzip을 허용하면 매 요청마다 압축하지 않고 이 데이터를 그대로 응답한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ * @param <T> 캐시에 저장할 값의 타입
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class CachedPayload<T> {
+	private final T value; // 캐시에 저장된 값
+	private final byte[] json; // value를 JSON으로 직렬화한 데이터
+	private final String etag; // json의 SHA-256 해시 앞 16byte로 만든 강한(strong) ETag
+	private final byte[] gzip; // json을 gzip으로 압축한 데이터, 압축 기준 크기 미만이라면 null
+	
+	/**
+	 * 값을 JSON으로 직렬화하여 CachedPayload 객체를 생성한다.
+	 * 
+	 * @param value 캐시에 저장할 값
+	 * @param objectMapper 직렬화에 사용할 ObjectMapper
+	 * @return
+	 */
+	public static <T> CachedPayload<T> of(T value, ObjectMapper objectMapper) {
+		try {
+			byte[] json = objectMapper.writeValueAsBytes(value);
+			byte[] gzip = json.length < CompressionUtil.MIN_COMPRESS_SIZE ? 
+					null : CompressionUtil.compress(json, CompressionUtil.GZIP);
+			return new CachedPayload<>(value, json, etag(json), gzip);
+		} catch(JsonProcessingException e) {
+			throw new IllegalStateException(
+					"캐시에 저장할 데이터를 JSON으로 변환하지 못했습니다.", e);
+		}
+	}
+	
+	// JSON 데이터로 ETag 값을 계산한다.
+	private static String etag(byte[] json) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+			return '"' + Base64.getUrlEncoder().withoutPadding()
+					.encodeToString(Arrays.copyOf(hash, 16)) + '"';
+		} catch(NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); // 모든 JVM은 SHA-256을 지원한다.
+		}
+	}
+}
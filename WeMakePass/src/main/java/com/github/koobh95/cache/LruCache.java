@@ -0,0 +1,182 @@
+package com.github.koobh95.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * - 최대 크기가 제한된 LRU(Least Recently Used) 캐시.
+ * - 접근 순서를 유지하는 LinkedHashMap을 사용하며, 최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 
+ *  제거한다.
+ * - 만료 시간(TTL)을 지정하면 항목이 로드된 뒤 만료 시간이 지난 항목은 다음 조회 시 다시 로드된다.
+ * - 값 대신 CompletableFuture를 저장하여 같은 키에 대한 최초 요청이 동시에 들어오더라도 로더는 한
+ *  번만 실행되고(single-flight) 나머지 요청은 그 결과를 기다린다. 로더가 실패하면 항목을 제거하여 
+ *  다음 요청에서 다시 로드하며, 기다리던 요청에도 같은 예외가 그대로 전달된다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LruCache<K, V> {
+	private final String name; // 캐시 이름, 로그 및 통계 표시에 사용
+	private final int maxSize;
+	private final long ttlNanos; // 항목의 만료 시간, 0이라면 만료되지 않는다.
+	private final Map<K, Entry<V>> map;
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	
+	/**
+	 * @param name 캐시 이름
+	 * @param maxSize 캐시에 저장할 최대 항목 수
+	 */
+	public LruCache(String name, int maxSize) {
+		this(name, maxSize, 0, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * @param name 캐시 이름
+	 * @param maxSize 캐시에 저장할 최대 항목 수
+	 * @param ttl 항목의 만료 시간, 0이라면 만료되지 않는다.
+	 * @param unit ttl의 단위
+	 */
+	public LruCache(String name, int maxSize, long ttl, TimeUnit unit) {
+		this.name = name;
+		this.maxSize = maxSize;
+		this.ttlNanos = unit.toNanos(ttl);
+		this.map = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > LruCache.this.maxSize;
+			}
+		};
+	}
+	
+	/**
+	 * 키에 해당하는 값을 반환한다. 캐시에 없다면 로더로 값을 읽어 캐시에 저장한 뒤 반환한다.
+	 * 
+	 * @param key 조회할 키
+	 * @param loader 캐시에 값이 없을 때 값을 읽어오는 함수
+	 * @return
+	 */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		Entry<V> entry;
+		boolean owner = false;
+		synchronized(map) {
+			entry = map.get(key);
+			if(entry == null || entry.isExpired()) {
+				entry = new Entry<>(ttlNanos);
+				map.put(key, entry);
+				owner = true;
+			}
+		}
+		
+		if(!owner) {
+			hitCount.increment();
+			return await(entry.future);
+		}
+		
+		missCount.increment();
+		try {
+			V value = loader.apply(key);
+			entry.future.complete(value);
+			return value;
+		} catch(RuntimeException | Error e) {
+			synchronized(map) {
+				map.remove(key, entry);
+			}
+			entry.future.completeExceptionally(e);
+			throw e;
+		}
+	}
+	
+	/**
+	 *  키에 해당하는 값이 로드되어 있다면 반환한다. 캐시에 없거나, 만료되었거나, 로드 중이라면
+	 * 기다리지 않고 null을 반환한다. 조회 통계에는 포함하지 않는다.
+	 *
+	 * @param key 조회할 키
+	 * @return
+	 */
+	public V getIfPresent(K key) {
+		Entry<V> entry;
+		synchronized(map) {
+			entry = map.get(key);
+		}
+		if(entry == null || entry.isExpired() || !entry.future.isDone()
+				|| entry.future.isCompletedExceptionally())
+			return null;
+		return entry.future.getNow(null);
+	}
+
+	// 특정 키의 항목을 제거한다.
+	public void invalidate(K key) {
+		synchronized(map) {
+			map.remove(key);
+		}
+	}
+	
+	// 모든 항목을 제거한다.
+	public void clear() {
+		synchronized(map) {
+			map.clear();
+		}
+	}
+	
+	public int size() {
+		synchronized(map) {
+			return map.size();
+		}
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public int getMaxSize() {
+		return maxSize;
+	}
+	
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+	
+	public long getMissCount() {
+		return missCount.sum();
+	}
+	
+	// 로드 중이거나 로드된 값과 만료 시각을 함께 저장하는 캐시 항목
+	private static class Entry<V> {
+		private final CompletableFuture<V> future = new CompletableFuture<>();
+		private final long expiresAt; // System.nanoTime() 기준 만료 시각
+		private final boolean expirable;
+		
+		private Entry(long ttlNanos) {
+			expirable = ttlNanos > 0;
+			expiresAt = expirable ? System.nanoTime() + ttlNanos : 0;
+		}
+		
+		private boolean isExpired() {
+			return expirable && System.nanoTime() - expiresAt > 0;
+		}
+	}
+	
+	// 다른 요청이 로드 중인 값을 기다린다. 로더에서 발생한 예외는 감싸지 않고 그대로 던진다.
+	private V await(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch(CompletionException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof RuntimeException)
+				throw (RuntimeException)cause;
+			if(cause instanceof Error)
+				throw (Error)cause;
+			throw e;
+		}
+	}
+}
@@ -14,7 +14,10 @@ import org.springframework.context.annotation.Import;
 @Import({ 
 	DBConfig.class,
 	MailConfig.class,
-	AsyncConfig.class })
+	AsyncConfig.class,
+	SchedulerConfig.class,
+	CacheConfig.class,
+	MetricsConfig.class })
 @ComponentScan(basePackages = { "com.github.koobh95.service.impl" })
 public class AppConfig {
 	
@@ -4,24 +4,79 @@ import java.util.concurrent.Executor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.github.koobh95.util.VirtualThreadUtil;
+
+import lombok.RequiredArgsConstructor;
+
 /**
- * 요청을 처리할 때 멀티 스레드로 작업을 처리하기 위한 ThreadPool을 구현하는 설정 클래스. 
+ * - 요청을 처리할 때 멀티 스레드로 작업을 처리하기 위한 ThreadPool을 구현하는 설정 클래스. 
+ * - thread.virtual 속성이 true이고 JDK 21 이상이라면 I/O 작업을 처리하는 Executor는 가상 스레드를
+ *  사용한다. CPU 연산인 passwordHashExecutor는 항상 플랫폼 스레드를 사용한다.
  * 
  * @author BH-Ku
  * @since 2023-12-29
  */
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig {
+	private final Environment environment;
+	
+	// SchedulerConfig의 TaskScheduler도 Executor이므로 타입으로 주입받는 곳에서는 이 bean을 사용한다.
+	@Primary
 	@Bean
 	public Executor threadPoolTaskExecutor() {
+		if(VirtualThreadUtil.isEnabled(environment))
+			return VirtualThreadUtil.newExecutor("async-");
+		
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 		executor.setCorePoolSize(3);
 		executor.setMaxPoolSize(10);
 		executor.setQueueCapacity(50);
 		return executor;
 	}
+	
+	/**
+	 * - 비밀번호 단방향 암호화(BCrypt) 전용 스레드 풀.
+	 * - BCrypt는 CPU 연산이므로 스레드 수는 CPU 코어 수로 제한하고, 대기열도 제한하여 가득 차면 
+	 *  RejectedExecutionException으로 즉시 거절한다.
+	 */
+	@Bean
+	public Executor passwordHashExecutor() {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(threads * 16);
+		executor.setThreadNamePrefix("password-hash-");
+		return executor;
+	}
+	
+	/**
+	 * - 비동기 API("/async")에서 DB 조회 등 I/O 작업을 처리하는 스레드 풀.
+	 * - 작업은 대부분 커넥션을 사용하므로 스레드 수는 커넥션 풀의 최대 크기(db.pool.maximumPoolSize)와 
+	 *  같게 한다. 더 많은 스레드는 커넥션을 기다리기만 하기 때문이다.
+	 * - 대기열도 제한하여 가득 차면 RejectedExecutionException으로 즉시 거절한다.
+	 * - 가상 스레드를 사용하는 경우에도 처리 중인 작업 수를 스레드 수 + 대기열 크기로 제한한다.
+	 *  동시에 DB를 사용할 수 있는 작업 수는 여전히 커넥션 풀의 크기로 제한된다.
+	 */
+	@Bean
+	public Executor ioTaskExecutor() {
+		int threads = environment.getProperty("db.pool.maximumPoolSize", 
+				Integer.class, 20); // DBConfig의 기본값과 같아야 한다.
+		if(VirtualThreadUtil.isEnabled(environment))
+			return VirtualThreadUtil.newBoundedExecutor("io-task-", threads * 11);
+		
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(threads * 10);
+		executor.setThreadNamePrefix("io-task-");
+		return executor;
+	}
 }
@@ -0,0 +1,55 @@
+package com.github.koobh95.config;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.koobh95.cache.CachedPayload;
+import com.github.koobh95.cache.LruCache;
+import com.github.koobh95.data.model.WmpUserDetails;
+import com.github.koobh95.data.model.dto.ExamBundleDTO;
+import com.github.koobh95.data.model.entity.ExamInfo;
+
+/**
+ * 애플리케이션 메모리에 유지하는 캐시를 bean으로 등록하는 설정 클래스.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Configuration
+public class CacheConfig {
+	private static final int EXAM_BUNDLE_CACHE_SIZE = 200; // 캐시할 시험 수
+	private static final int PRINCIPAL_CACHE_SIZE = 10000; // 캐시할 사용자 수
+	private static final long PRINCIPAL_CACHE_TTL_SECONDS = 60; // 사용자 인증 정보 만료 시간
+	private static final int EXAM_INFO_CACHE_SIZE = 1000; // 캐시할 종목 수
+	private static final long REFERENCE_CACHE_TTL_MINUTES = 60; // 참조 데이터 만료 시간
+	
+	// 시험 식별 번호별로 과목, 문제, 답안 목록과 그 JSON 데이터를 저장하는 캐시
+	@Bean
+	public LruCache<Long, CachedPayload<ExamBundleDTO>> examBundleCache() {
+		return new LruCache<>("examBundle", EXAM_BUNDLE_CACHE_SIZE);
+	}
+	
+	/**
+	 *  종목 코드별로 시험 목록과 그 JSON 데이터를 저장하는 캐시. 시험 목록은 드물게 추가되므로 
+	 * 만료 시간이 지나면 다시 조회한다.
+	 */
+	@Bean
+	public LruCache<String, CachedPayload<List<ExamInfo>>> examInfoCache() {
+		return new LruCache<>("examInfo", EXAM_INFO_CACHE_SIZE, 
+				REFERENCE_CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+	}
+	
+	/**
+	 *  사용자 아이디별로 인증 정보(WmpUserDetails)를 저장하는 캐시. 인증이 필요한 모든 요청에서 
+	 * 사용자를 조회하지 않도록 사용되며, 다른 서버에서 계정 상태가 변경되더라도 만료 시간이 지나면 
+	 * 다시 조회된다.
+	 */
+	@Bean
+	public LruCache<String, WmpUserDetails> principalCache() {
+		return new LruCache<>("principal", PRINCIPAL_CACHE_SIZE, 
+				PRINCIPAL_CACHE_TTL_SECONDS, TimeUnit.SECONDS);
+	}
+}
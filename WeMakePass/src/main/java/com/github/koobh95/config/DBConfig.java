@@ -10,17 +10,26 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import com.github.koobh95.metrics.ConnectionPoolMetrics;
+import com.github.koobh95.metrics.MetricsRegistry;
+import com.github.koobh95.metrics.TimedDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
 import lombok.RequiredArgsConstructor;
 
 /**
- * 데이터 베이스 관련 설정 클래스 
+ * - 데이터 베이스 관련 설정 클래스 
+ * - DataSource는 커넥션 풀(HikariCP)을 사용하며, 풀 설정은 oracle.properties의 db.pool.* 
+ *  프로퍼티로 변경할 수 있다. 프로퍼티가 없다면 각 항목의 기본값을 사용한다.
+ * - 변경되지 않는 참조 데이터 엔티티와 쿼리 결과는 Hibernate 2차 캐시(Ehcache)에 저장한다.
  * 
  * @author BH-Ku
  * @since 2023-12-19
@@ -32,6 +41,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class DBConfig {
 	private final Environment environment;
+	private final MetricsRegistry metricsRegistry;
 
 	// EntityMangerFactory bean으로 생성
 	@Bean
@@ -48,15 +58,51 @@ public class DBConfig {
 		return em;
 	}
 	
-	// DB와 관계된 커넥션 정보를 가지는 DataSource 객체를 bean으로 생성
+	/**
+	 * - DB와 관계된 커넥션 정보를 가지는 DataSource 객체를 bean으로 생성
+	 * - 요청마다 물리 커넥션을 새로 여는 비용을 없애기 위해 커넥션 풀을 사용한다.
+	 * - leakDetectionThreshold 이상 반환되지 않은 커넥션은 로그로 경고하며, 커넥션을 빌려줄 때 
+	 *  JDBC4 isValid()로 유효성을 검사한다.
+	 * - Oracle 드라이버의 암시적 Statement 캐시를 활성화하여 같은 SQL의 PreparedStatement를 
+	 *  커넥션 단위로 재사용한다.
+	 * - 커넥션 풀은 Statement 실행 시간을 기록하는 TimedDataSource로 감싼다.
+	 */
 	@Bean
 	public DataSource dataSource() {
-		DriverManagerDataSource dataSource = new DriverManagerDataSource();
-		dataSource.setDriverClassName("oracle.jdbc.driver.OracleDriver");
-		dataSource.setUrl(environment.getProperty("db.url"));
-		dataSource.setUsername(environment.getProperty("db.username"));
-		dataSource.setPassword(environment.getProperty("db.password"));
-		return dataSource;
+		HikariConfig config = new HikariConfig();
+		config.setPoolName("wmp-oracle-pool");
+		config.setDriverClassName("oracle.jdbc.driver.OracleDriver");
+		config.setJdbcUrl(environment.getProperty("db.url"));
+		config.setUsername(environment.getProperty("db.username"));
+		config.setPassword(environment.getProperty("db.password"));
+		
+		config.setMinimumIdle(getPoolProperty("minimumIdle", 5));
+		config.setMaximumPoolSize(getPoolProperty("maximumPoolSize", 20));
+		config.setConnectionTimeout(getPoolProperty("connectionTimeout", 3000L));
+		config.setValidationTimeout(getPoolProperty("validationTimeout", 1000L));
+		config.setIdleTimeout(getPoolProperty("idleTimeout", 600000L));
+		config.setMaxLifetime(getPoolProperty("maxLifetime", 1800000L));
+		config.setLeakDetectionThreshold(
+				getPoolProperty("leakDetectionThreshold", 10000L));
+		config.addDataSourceProperty("oracle.jdbc.implicitStatementCacheSize",
+				String.valueOf(getPoolProperty("statementCacheSize", 50)));
+		
+		config.setMetricsTrackerFactory(connectionPoolMetrics());
+		config.setRegisterMbeans(true); // JMX로도 풀 상태를 확인할 수 있도록 등록
+		return new TimedDataSource(new HikariDataSource(config), 
+				metricsRegistry);
+	}
+	
+	// 커넥션 풀의 활성/유휴 커넥션 수, 커넥션 획득 대기 시간을 수집하는 객체를 bean으로 생성
+	@Bean
+	public ConnectionPoolMetrics connectionPoolMetrics() {
+		return new ConnectionPoolMetrics();
+	}
+	
+	// JPA를 거치지 않고 일괄(batch) 갱신 등을 처리할 때 사용하는 JdbcTemplate을 bean으로 생성
+	@Bean
+	public JdbcTemplate jdbcTemplate() {
+		return new JdbcTemplate(dataSource());
 	}
 	
 	// JPA를 지원하는 TransactionManager를 Bean으로 생성
@@ -85,6 +131,36 @@ public class DBConfig {
 				"org.hibernate.dialect.Oracle10gDialect");
 		properties.setProperty("hibernate.show_sql", "true");
 		properties.setProperty("hibernate.format_sql", "true");
+		
+		/*
+		 * - INSERT/UPDATE를 JDBC batch로 묶어 실행한다. 같은 테이블에 대한 문장이 연속되도록 정렬해야
+		 *  batch가 끊기지 않는다.
+		 * - 시퀀스를 사용하는 Entity는 allocationSize(50)만큼 식별 번호를 한 번에 할당받는다(pooled).
+		 *  DB 시퀀스의 INCREMENT BY도 같은 값이어야 하며 sql/sequence_increment.sql로 변경한다.
+		 */
+		properties.setProperty("hibernate.jdbc.batch_size", "50");
+		properties.setProperty("hibernate.order_inserts", "true");
+		properties.setProperty("hibernate.order_updates", "true");
+		properties.setProperty("hibernate.jdbc.batch_versioned_data", "true");
+		
+		// 2차 캐시 및 쿼리 캐시(JCache/Ehcache), 영역별 크기와 TTL은 ehcache.xml에서 설정한다.
+		properties.setProperty("hibernate.cache.use_second_level_cache", "true");
+		properties.setProperty("hibernate.cache.use_query_cache", "true");
+		properties.setProperty("hibernate.cache.region.factory_class", "jcache");
+		properties.setProperty("hibernate.javax.cache.provider", 
+				"org.ehcache.jsr107.EhcacheCachingProvider");
+		properties.setProperty("hibernate.javax.cache.uri", 
+				"ehcache.xml"); // 클래스패스 기준 경로
+		properties.setProperty("hibernate.javax.cache.missing_cache_strategy", 
+				"create-warn");
+		properties.setProperty("hibernate.generate_statistics", "true");
 		return properties;
 	}
+	
+	// oracle.properties에서 커넥션 풀 설정(db.pool.*)을 읽는다. 없다면 기본값을 반환한다.
+	private <T> T getPoolProperty(String name, T defaultValue) {
+		@SuppressWarnings("unchecked")
+		Class<T> type = (Class<T>)defaultValue.getClass();
+		return environment.getProperty("db.pool." + name, type, defaultValue);
+	}
 }
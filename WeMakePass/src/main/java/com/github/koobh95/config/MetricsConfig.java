@@ -0,0 +1,22 @@
+package com.github.koobh95.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.koobh95.metrics.MetricsRegistry;
+
+/**
+ * - 요청 처리 시간, 에러 수, DB Statement 실행 시간 등의 지표를 수집하기 위한 설정 클래스.
+ * - MetricsRegistry는 Root Context에 생성되며 DataSource(DBConfig), Interceptor
+ *  (ServletConfig), 예외 처리 클래스에서 함께 사용한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Configuration
+public class MetricsConfig {
+	@Bean
+	public MetricsRegistry metricsRegistry() {
+		return new MetricsRegistry();
+	}
+}
@@ -0,0 +1,39 @@
+package com.github.koobh95.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.github.koobh95.util.VirtualThreadUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * - 주기적으로 실행되어야 하는 작업(@Scheduled)을 처리하기 위한 설정 클래스.
+ * - 요청을 처리하는 스레드나 AsyncConfig의 스레드 풀과 분리된 별도의 스케줄러 스레드에서 실행된다.
+ * - 작업은 대부분 DB, SMTP 서버의 응답을 기다리므로 thread.virtual 속성이 true라면 스케줄러 
+ *  스레드로 가상 스레드를 사용한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableScheduling
+@RequiredArgsConstructor
+public class SchedulerConfig {
+	private final Environment environment;
+	
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(2);
+		scheduler.setThreadNamePrefix("wmp-scheduler-");
+		if(VirtualThreadUtil.isEnabled(environment))
+			scheduler.setThreadFactory(
+					VirtualThreadUtil.newThreadFactory("wmp-scheduler-"));
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		return scheduler;
+	}
+}
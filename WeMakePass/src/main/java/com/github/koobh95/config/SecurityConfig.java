@@ -1,5 +1,8 @@
 package com.github.koobh95.config;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -10,9 +13,13 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
 
 import com.github.koobh95.exception.handler.JwtAuthenticationEntryPoint;
+import com.github.koobh95.metrics.MetricsRegistry;
 import com.github.koobh95.security.filter.JwtAuthenticationFilter;
 import com.github.koobh95.security.util.AES256Util;
 import com.github.koobh95.security.util.JwtProvider;
@@ -37,6 +44,9 @@ public class SecurityConfig {
 	private final Environment environment;
 	
 	private final WmpUserDetailsService wmpUserDetailsService;
+	private final MetricsRegistry metricsRegistry;
+	
+	public static final String METRICS_TOKEN_HEADER = "X-Metrics-Token"; // 지표 수집 토큰 헤더
 	
 	/**
 	 * - 스프링 시큐리티 필터 체인 설정
@@ -55,7 +65,10 @@ public class SecurityConfig {
 				"/api/user/login", // 로그인
 				"/api/jwt/reissue", // 토큰 재발급
 				"/api/mail/**", // 메일 전송 관련 모든 API
-				"/api/user/password-reset",}; // 비밀번호 변경 요청
+				"/api/user/password-reset", // 비밀번호 변경 요청
+				"/api/user/async/sign-up", // 회원가입(비동기)
+				"/api/user/async/login", // 로그인(비동기)
+				"/api/user/async/password-reset",}; // 비밀번호 변경 요청(비동기)
 		
 		http.sessionManagement()
 			.sessionCreationPolicy(SessionCreationPolicy.STATELESS).and()
@@ -68,6 +81,7 @@ public class SecurityConfig {
 		
 		http.authorizeHttpRequests()
 			.requestMatchers(permitUris).permitAll() // 보안을 적용하지 않을 URI 설정 
+			.requestMatchers(metricsScrapeMatcher()).permitAll() // 지표 수집(Prometheus)
 			.anyRequest().authenticated(); // 모든 리소스에 보안 설정
 		
 		http.exceptionHandling()
@@ -76,6 +90,28 @@ public class SecurityConfig {
 		return http.build();
 	}
 	
+	/**
+	 * - 지표 수집 API(/api/metrics)를 수집 토큰으로 요청했는지 확인하는 RequestMatcher.
+	 * - Prometheus는 JWT를 발급받을 수 없으므로 metrics.scrape_token 속성에 지정한 토큰을 
+	 *  METRICS_TOKEN_HEADER 헤더로 보내면 인증 없이 허용한다. 토큰을 지정하지 않았다면 다른 
+	 *  API(/api/cache/stats 등)와 같이 JWT 인증이 필요하다.
+	 * 
+	 * @return
+	 */
+	private RequestMatcher metricsScrapeMatcher() {
+		String scrapeToken = environment.getProperty("metrics.scrape_token");
+		if(!StringUtils.hasText(scrapeToken))
+			return request -> false;
+		
+		byte[] expected = scrapeToken.getBytes(StandardCharsets.UTF_8);
+		RequestMatcher path = new AntPathRequestMatcher("/api/metrics", "GET");
+		return request -> {
+			String token = request.getHeader(METRICS_TOKEN_HEADER);
+			return token != null && path.matches(request) && MessageDigest.isEqual(
+					expected, token.getBytes(StandardCharsets.UTF_8));
+		};
+	}
+	
 	// MvcRequestMatcher를 사용하기 위해서는 이 객체가 bean으로 등록되어 있어야 한다.
 	@Bean(name="mvcHandlerMappingIntrospector")
 	public HandlerMappingIntrospector handlerMappingIntrospector() {
@@ -99,7 +135,7 @@ public class SecurityConfig {
 	// JWT 인증 실패 시 발생하는 AuthenticationException을 핸들링하는 클래스 
 	@Bean
 	public JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint() {
-		return new JwtAuthenticationEntryPoint();
+		return new JwtAuthenticationEntryPoint(metricsRegistry);
 	}
 	
 	// AES256 암호화 유틸리티 클래스
@@ -2,6 +2,7 @@ package com.github.koobh95.config;
 
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
@@ -9,6 +10,10 @@ import org.springframework.web.servlet.config.annotation.ViewResolverRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.github.koobh95.interceptor.AccountValidationInterceptor;
+import com.github.koobh95.interceptor.MetricsInterceptor;
+import com.github.koobh95.metrics.MetricsRegistry;
+
+import lombok.RequiredArgsConstructor;
 
 /**
  * xml 기반의 스프링 프로젝트에서 servlet-context.xml을 대체하는 설정 클래스
@@ -21,7 +26,12 @@ import com.github.koobh95.interceptor.AccountValidationInterceptor;
 @ComponentScan(basePackages = { 
 		"com.github.koobh95.controller",
 		"com.github.koobh95.exception.handler"})
+@RequiredArgsConstructor
 public class ServletConfig implements WebMvcConfigurer {
+	private final MetricsRegistry metricsRegistry;
+	
+	// 비동기 API(CompletableFuture 반환)의 처리 제한 시간(ms)
+	private static final long ASYNC_REQUEST_TIMEOUT = 10000;
 	
 	@Override
 	public void configureViewResolvers(ViewResolverRegistry registry) {
@@ -35,9 +45,21 @@ public class ServletConfig implements WebMvcConfigurer {
 			.addResourceLocations("/resources/");
 	}
 	
-	// Interceptor를 등록한다.
+	/**
+	 *  비동기 API의 제한 시간을 설정한다. 제한 시간 안에 완료되지 않으면 
+	 * AsyncRequestTimeoutException이 발생하여 ASYNC_REQUEST_TIMEOUT(503)으로 응답한다.
+	 */
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setDefaultTimeout(ASYNC_REQUEST_TIMEOUT);
+	}
+	
+	// Interceptor를 등록한다. 처리 시간에 계정 검증도 포함되도록 MetricsInterceptor를 먼저 등록한다.
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
+		registry
+			.addInterceptor(new MetricsInterceptor(metricsRegistry))
+			.addPathPatterns("/**");
 		registry
 			.addInterceptor(new AccountValidationInterceptor())
 			.addPathPatterns("/**");
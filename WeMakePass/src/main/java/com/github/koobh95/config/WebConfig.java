@@ -6,6 +6,8 @@ import org.springframework.web.filter.CharacterEncodingFilter;
 import org.springframework.web.filter.DelegatingFilterProxy;
 import org.springframework.web.servlet.support.AbstractAnnotationConfigDispatcherServletInitializer;
 
+import com.github.koobh95.filter.CompressionFilter;
+
 /**
  * xml 기반의 스프링 프로젝트에서 web.xml을 대체하는 설정 클래스.
  * 
@@ -41,14 +43,26 @@ public class WebConfig
 		return new String[] { "/" };
 	}
 	
+	/**
+	 * - DispatcherServlet과 Filter를 비동기 처리가 가능하도록(asyncSupported) 등록한다.
+	 * - 기본값도 true이지만, 비동기 API("/async")가 서블릿 스레드를 반환하려면 요청이 거치는 모든 
+	 *  Servlet, Filter가 비동기를 지원해야 하므로 명시적으로 설정한다.
+	 */
+	@Override
+	protected boolean isAsyncSupported() {
+		return true;
+	}
+	
 	/**
 	 * Filter 등록
 	 * - 문자셋 인코딩 필터
+	 * - 응답 압축 필터, 인증에 실패한 응답도 압축할 수 있도록 시큐리티 필터보다 먼저 등록한다.
 	 * - SecurityFilterChain에 접근하기 위한 DelegatingFilterProxy 등록
 	 */
 	@Override
 	protected Filter[] getServletFilters() {
 		return new Filter[] { getCharacterEncodingFilter(),
+				new CompressionFilter(),
 				new DelegatingFilterProxy("springSecurityFilterChain")};
 	}
 	
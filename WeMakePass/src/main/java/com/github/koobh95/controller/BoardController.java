@@ -2,7 +2,10 @@ package com.github.koobh95.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.github.koobh95.annotation.LoginRequired;
 import com.github.koobh95.data.model.entity.Board;
 import com.github.koobh95.service.BoardService;
+import com.github.koobh95.util.HttpCacheUtil;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,15 +43,21 @@ public class BoardController {
 	}
 	
 	/**
-	 * 특정 게시판의 카테고리를 조회
+	 * - 특정 게시판의 카테고리를 조회
+	 * - 카테고리 목록의 ETag와 Cache-Control 헤더를 함께 응답하며, If-None-Match 헤더가 ETag와 
+	 *  일치하면 304(Not Modified)로 응답한다.
 	 * 
 	 * @param boardNo 조회할 게시판의 고유 식별 번호
+	 * @param acceptEncoding 클라이언트가 허용하는 압축 방식
 	 * @return
 	 */
 	@LoginRequired
 	@GetMapping("/category")
-	public List<String> categoryList(
-			@RequestParam long boardNo) {
-		return boardService.getCategoryList(boardNo);
+	public ResponseEntity<byte[]> categoryList(
+			@RequestParam long boardNo,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+				String acceptEncoding) {
+		return HttpCacheUtil.json(boardService.getCategoryPayload(boardNo), 
+				HttpCacheUtil.REFERENCE, acceptEncoding);
 	}
 }
@@ -0,0 +1,37 @@
+package com.github.koobh95.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.koobh95.annotation.LoginRequired;
+import com.github.koobh95.data.model.dto.CacheRegionStatsDTO;
+import com.github.koobh95.service.CacheStatisticsService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시 상태를 조회하는 API를 제공.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+	private final CacheStatisticsService cacheStatisticsService;
+	
+	/**
+	 * Hibernate 2차 캐시와 쿼리 캐시의 영역별 적중/실패 통계를 조회
+	 * 
+	 * @return 영역 이름 순으로 정렬된 통계 리스트
+	 */
+	@LoginRequired
+	@GetMapping(value = "/stats")
+	public List<CacheRegionStatsDTO> stats() {
+		return cacheStatisticsService.regionStats();
+	}
+}
@@ -2,25 +2,34 @@ package com.github.koobh95.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.github.koobh95.annotation.LoginRequired;
+import com.github.koobh95.cache.CachedPayload;
 import com.github.koobh95.data.model.dto.DocAnswerDTO;
+import com.github.koobh95.data.model.dto.ExamBundleDTO;
 import com.github.koobh95.data.model.dto.ExamResultDTO;
+import com.github.koobh95.data.model.dto.ExamStatsDTO;
 import com.github.koobh95.data.model.entity.DocQuestion;
 import com.github.koobh95.service.ExamDocService;
 import com.github.koobh95.service.ExamService;
+import com.github.koobh95.service.ExamStatsService;
+import com.github.koobh95.util.HttpCacheUtil;
 
 import lombok.RequiredArgsConstructor;
 
 /**
- * 시험 문제, 답안 등을 조회하는 API를 제공.
+ * - 시험 문제, 답안 등을 조회하는 API를 제공.
+ * - 시험 문제, 답안은 변경되지 않으므로 조회 API는 시험 데이터의 ETag와 Cache-Control 헤더를 함께
+ *  응답하며, If-None-Match 헤더가 ETag와 일치하면 304(Not Modified)로 응답한다.
  * 
  * @author BH-Ku
  * @since 2024-01-06
@@ -31,6 +40,7 @@ import lombok.RequiredArgsConstructor;
 public class ExamController {
 	private final ExamService examService;
 	private final ExamDocService examDocService;
+	private final ExamStatsService examStatsService;
 	
 	/**
 	 * 특정 필기 시험의 문제 목록을 조회한다.
@@ -40,8 +50,11 @@ public class ExamController {
 	 */
 	@LoginRequired
 	@GetMapping(value = "/doc/question")
-	public List<DocQuestion> docQuestionList(@RequestParam long examId){
-		return examDocService.getQuestionList(examId);
+	public ResponseEntity<List<DocQuestion>> docQuestionList(
+			@RequestParam long examId){
+		CachedPayload<ExamBundleDTO> bundle = examDocService.getExamBundle(examId);
+		return HttpCacheUtil.derived(bundle.getValue().getQuestions(), bundle, 
+				HttpCacheUtil.IMMUTABLE);
 	}
 	
 	/**
@@ -52,8 +65,41 @@ public class ExamController {
 	 */
 	@LoginRequired
 	@GetMapping(value = "/doc/answer")
-	public List<DocAnswerDTO> docAnswerList(@RequestParam long examId){
-		return examDocService.getAnswerList(examId);
+	public ResponseEntity<List<DocAnswerDTO>> docAnswerList(
+			@RequestParam long examId){
+		CachedPayload<ExamBundleDTO> bundle = examDocService.getExamBundle(examId);
+		return HttpCacheUtil.derived(bundle.getValue().getAnswers(), bundle, 
+				HttpCacheUtil.IMMUTABLE);
+	}
+
+	/**
+	 * - 특정 필기 시험의 과목, 문제, 답안 목록을 한 번에 조회한다.
+	 * - 캐시에 미리 직렬화된 JSON 데이터(혹은 미리 압축된 데이터)를 그대로 응답 본문으로 사용한다.
+	 * 
+	 * @param examId 조회할 시험의 고유 식별 번호
+	 * @param acceptEncoding 클라이언트가 허용하는 압축 방식
+	 * @return
+	 */
+	@LoginRequired
+	@GetMapping(value = "/doc/bundle")
+	public ResponseEntity<byte[]> docBundle(@RequestParam long examId,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+				String acceptEncoding) {
+		return HttpCacheUtil.json(examDocService.getExamBundle(examId), 
+				HttpCacheUtil.IMMUTABLE, acceptEncoding);
+	}
+
+	/**
+	 * - 특정 시험의 문항별 정답률, 선택지 분포, 과목별 평균 점수와 합격률을 조회한다.
+	 * - 통계를 아직 만들고 있다면 EXAM_STATS_NOT_READY(503)로 응답하므로 잠시 후 다시 조회한다.
+	 * 
+	 * @param examId 조회할 시험의 고유 식별 번호
+	 * @return
+	 */
+	@LoginRequired
+	@GetMapping(value = "/stats")
+	public ExamStatsDTO examStats(@RequestParam long examId) {
+		return examStatsService.getStats(examId);
 	}
 
 	/**
@@ -69,4 +115,18 @@ public class ExamController {
 		examService.saveResult(examResultDTO);
 		return ResponseEntity.ok("시험 결과를 성공적으로 저장했습니다.");
 	}
+	
+	/**
+	 * 여러 시험 응시 결과를 DB에 일괄 저장한다.
+	 * 
+	 * @param examResultDTOList
+	 * @return
+	 */
+	@LoginRequired
+	@PutMapping(value = "/save-all")
+	public ResponseEntity<String> saveExamResults(
+			@RequestBody List<ExamResultDTO> examResultDTOList) {
+		examService.saveResults(examResultDTOList);
+		return ResponseEntity.ok("시험 결과를 성공적으로 저장했습니다.");
+	}
 }
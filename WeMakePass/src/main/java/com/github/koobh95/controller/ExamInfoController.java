@@ -3,20 +3,27 @@ package com.github.koobh95.controller;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.github.koobh95.annotation.LoginRequired;
-import com.github.koobh95.data.model.entity.ExamInfo;
+import com.github.koobh95.cache.CachedPayload;
+import com.github.koobh95.data.model.dto.ExamBundleDTO;
 import com.github.koobh95.service.ExamDocService;
 import com.github.koobh95.service.ExamService;
+import com.github.koobh95.util.HttpCacheUtil;
 
 import lombok.RequiredArgsConstructor;
 
 /**
- * 시험 정보 관련 데이터를 조회하는 API를 제공.
+ * - 시험 정보 관련 데이터를 조회하는 API를 제공.
+ * - 응답에 데이터의 ETag와 Cache-Control 헤더를 포함하며, If-None-Match 헤더가 ETag와 일치하면 
+ *  304(Not Modified)로 응답한다.
  * 
  * @author BH-Ku
  * @since 2024-01-03
@@ -32,12 +39,16 @@ public class ExamInfoController {
 	 * 특정 종목의 시험을 조회한다.
 	 * 
 	 * @param jmCode 조회할 종목의 식별 번호
+	 * @param acceptEncoding 클라이언트가 허용하는 압축 방식
 	 * @return
 	 */
 	@LoginRequired
 	@GetMapping(value = "/jm")
-	public List<ExamInfo> examInfoList(@RequestParam String jmCode) {
-		return examService.getExamInfoList(jmCode);
+	public ResponseEntity<byte[]> examInfoList(@RequestParam String jmCode,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+				String acceptEncoding) {
+		return HttpCacheUtil.json(examService.getExamInfoPayload(jmCode), 
+				HttpCacheUtil.REFERENCE, acceptEncoding);
 	}
 
 	/**
@@ -47,7 +58,9 @@ public class ExamInfoController {
 	 */
 	@LoginRequired
 	@GetMapping(value = "/subject")
-	public Set<String> docSubjectList(@RequestParam long examId) {
-		return examDocService.getSubjectList(examId);
+	public ResponseEntity<Set<String>> docSubjectList(@RequestParam long examId) {
+		CachedPayload<ExamBundleDTO> bundle = examDocService.getExamBundle(examId);
+		return HttpCacheUtil.derived(bundle.getValue().getSubjects(), bundle, 
+				HttpCacheUtil.IMMUTABLE);
 	}
 }
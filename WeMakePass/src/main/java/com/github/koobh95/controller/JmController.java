@@ -26,15 +26,18 @@ public class JmController {
 	private final JmService jmService;
 	
 	/**
-	 * 종목 이름을 기준으로 데이터 조회
+	 * - 종목 이름을 기준으로 데이터 조회
+	 * - 접두 일치 등 일치 위치에 따라 정렬되며, 초성(예: "ㅈㅂㅊㄹ")으로도 검색할 수 있다.
 	 * 
 	 * @param keyword 검색어
+	 * @param limit 조회할 최대 종목 수, 생략하거나 0이라면 제한하지 않는다.
 	 * @return JmName과 keyword가 부분 일치하는 데이터 리스트.
 	 */
 	@LoginRequired
 	@GetMapping
-	public List<JmDTO> search(@RequestParam String keyword) {
-		return jmService.searchByJmName(keyword);
+	public List<JmDTO> search(@RequestParam String keyword,
+			@RequestParam(defaultValue = "0") int limit) {
+		return jmService.searchByJmName(keyword, limit);
 	}
 	
 	/**
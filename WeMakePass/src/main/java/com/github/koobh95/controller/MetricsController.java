@@ -0,0 +1,39 @@
+package com.github.koobh95.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.koobh95.metrics.PrometheusTextWriter;
+import com.github.koobh95.service.MetricsService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * - 서버가 수집한 지표를 Prometheus가 수집(scrape)할 수 있는 형식으로 제공하는 API.
+ * - JWT 인증이 필요하며, Prometheus 서버는 metrics.scrape_token 속성에 지정한 수집 토큰을 
+ *  "X-Metrics-Token" 헤더로 보내 인증 없이 수집할 수 있다(SecurityConfig 참고).
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+	private final MetricsService metricsService;
+	
+	/**
+	 * 수집한 모든 지표를 Prometheus 텍스트 형식으로 조회
+	 * 
+	 * @return
+	 */
+	@GetMapping
+	public ResponseEntity<String> scrape() {
+		return ResponseEntity.ok()
+				.header(HttpHeaders.CONTENT_TYPE, PrometheusTextWriter.CONTENT_TYPE)
+				.body(metricsService.scrape());
+	}
+}
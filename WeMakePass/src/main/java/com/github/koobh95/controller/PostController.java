@@ -1,5 +1,7 @@
 package com.github.koobh95.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -12,13 +14,16 @@ import com.github.koobh95.annotation.LoginRequired;
 import com.github.koobh95.data.model.dto.PostDetailDTO;
 import com.github.koobh95.data.model.dto.request.PostWriteRequest;
 import com.github.koobh95.data.model.dto.response.PostPageResponse;
+import com.github.koobh95.service.AsyncTaskService;
 import com.github.koobh95.service.PostService;
 import com.github.koobh95.util.StringUtil;
 
 import lombok.RequiredArgsConstructor;
 
 /**
- * 게시글 조회, 작성 등의 API를 제공.
+ * - 게시글 조회, 작성 등의 API를 제공.
+ * - "/async"로 시작하는 API는 같은 기능을 I/O 전용 스레드 풀(AsyncTaskService)에서 처리하는 동안
+ *  요청을 처리하는 스레드를 반환하고, 작업이 끝나면 응답한다.
  * 
  * @author BH-Ku
  * @since 2024-01-08
@@ -28,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PostController {
 	private final PostService postService;
+	private final AsyncTaskService asyncTaskService;
 	
 	/**
 	 * 특정 게시판의 게시글을 페이지 단위로 조회
@@ -61,6 +67,41 @@ public class PostController {
 		return postService.postListByCategory(boardNo, pageNo, category);
 	}
 	
+	/**
+	 * - 특정 게시판의 게시글을 Keyset 방식으로 조회
+	 * - beforePostNo 파라미터가 있는 요청만 매핑되며, 첫 목록은 0 이하의 값으로 요청하고 이후에는
+	 *  이전 응답의 nextCursor를 전달한다.
+	 * 
+	 * @param boardNo 조회할 게시판의 고유 식별 번호
+	 * @param beforePostNo 이 번호보다 작은 번호를 가진 게시글부터 조회
+	 * @return
+	 */
+	@LoginRequired
+	@GetMapping(params = "beforePostNo")
+	public PostPageResponse postListBefore(
+			@RequestParam long boardNo,
+			@RequestParam long beforePostNo) {
+		return postService.postListBefore(boardNo, beforePostNo);
+	}
+	
+	/**
+	 * 특정 게시판, 특정 카테고리의 게시글을 Keyset 방식으로 조회
+	 * 
+	 * @param boardNo 조회할 게시판의 고유 식별 번호
+	 * @param beforePostNo 이 번호보다 작은 번호를 가진 게시글부터 조회
+	 * @param category 조회할 카테고리
+	 * @return
+	 */
+	@LoginRequired
+	@GetMapping(value = "/category", params = "beforePostNo")
+	public PostPageResponse postListByCategoryBefore(
+			@RequestParam long boardNo,
+			@RequestParam long beforePostNo, 
+			@RequestParam String category) {
+		return postService.postListByCategoryBefore(boardNo, beforePostNo,
+				category);
+	}
+	
 	/**
 	 * 새로운 게시글을 DB에 추가.
 	 * 
@@ -94,6 +135,7 @@ public class PostController {
 	 *  게시글을 조회한다.
 	 * 
 	 * @param pageNo 조회할 페이지 번호
+	 * @param beforePostNo 이전 페이지의 마지막 게시글 번호(응답의 nextCursor), 첫 페이지는 생략
 	 * @param boardNo 조회할 게시판의 고유 식별 번호
 	 * @param category 조회할 카테고리
 	 * @param keyword 검색어
@@ -103,13 +145,15 @@ public class PostController {
 	@GetMapping(value = "/search/title")
 	public PostPageResponse searchTitle(
 			@RequestParam int pageNo,
+			@RequestParam(defaultValue = "0") long beforePostNo,
 			@RequestParam long boardNo,
 			@RequestParam String category,
 			@RequestParam String keyword) {
 		if(StringUtil.isEmpty(category))
-			return postService.searchTitle(pageNo, boardNo, keyword);
-		return postService.searchCategoryAndTitle(pageNo, boardNo, category,
-				keyword);
+			return postService.searchTitle(pageNo, beforePostNo, 
+					boardNo, keyword);
+		return postService.searchCategoryAndTitle(pageNo, beforePostNo, 
+				boardNo, category, keyword);
 	}
 	
 	/**
@@ -118,6 +162,7 @@ public class PostController {
 	 *  게시글을 조회한다.
 	 * 
 	 * @param pageNo 조회할 페이지 번호
+	 * @param beforePostNo 이전 페이지의 마지막 게시글 번호(응답의 nextCursor), 첫 페이지는 생략
 	 * @param boardNo 조회할 게시판의 고유 식별 번호
 	 * @param category 조회할 카테고리
 	 * @param keyword 검색어
@@ -127,13 +172,15 @@ public class PostController {
 	@GetMapping(value = "/search/content")
 	public PostPageResponse searchContent(
 			@RequestParam int pageNo,
+			@RequestParam(defaultValue = "0") long beforePostNo,
 			@RequestParam long boardNo,
 			@RequestParam String category,
 			@RequestParam String keyword) {
 		if(StringUtil.isEmpty(category))
-			return postService.searchContent(pageNo, boardNo, keyword);
-		return postService.searchCategoryAndContent(pageNo, boardNo, category,
-				keyword);
+			return postService.searchContent(pageNo, beforePostNo, 
+					boardNo, keyword);
+		return postService.searchCategoryAndContent(pageNo, beforePostNo, 
+				boardNo, category, keyword);
 	}
 	
 	/**
@@ -142,6 +189,7 @@ public class PostController {
 	 *  게시글을 조회한다.
 	 * 
 	 * @param pageNo 조회할 페이지 번호
+	 * @param beforePostNo 이전 페이지의 마지막 게시글 번호(응답의 nextCursor), 첫 페이지는 생략
 	 * @param boardNo 조회할 게시판의 고유 식별 번호
 	 * @param category 조회할 카테고리
 	 * @param keyword 검색어
@@ -151,12 +199,156 @@ public class PostController {
 	@GetMapping(value = "/search/title-and-content")
 	public PostPageResponse searchByTitleAndContent(
 			@RequestParam int pageNo,
+			@RequestParam(defaultValue = "0") long beforePostNo,
 			@RequestParam long boardNo,
 			@RequestParam String category,
 			@RequestParam String keyword) {
 		if(StringUtil.isEmpty(category))
-			return postService.searchTitleAndContent(pageNo, boardNo, keyword);
-		return postService.searchCategoryAndTitleAndContent(pageNo, boardNo, 
-				category, keyword);
+			return postService.searchTitleAndContent(pageNo, beforePostNo, 
+					boardNo, keyword);
+		return postService.searchCategoryAndTitleAndContent(pageNo, 
+				beforePostNo, boardNo, category, keyword);
+	}
+	
+	/**
+	 * 특정 게시판의 게시글을 페이지 단위로 조회(비동기)
+	 * 
+	 * @param boardNo 조회할 게시판의 고유 식별 번호
+	 * @param pageNo 조회할 페이지 번호
+	 * @return
+	 */
+	@LoginRequired
+	@GetMapping(value = "/async")
+	public CompletableFuture<PostPageResponse> postListAsync(
+			@RequestParam long boardNo,
+			@RequestParam int pageNo) {
+		return asyncTaskService.supply(() -> postService.postList(boardNo, pageNo));
+	}
+	
+	/**
+	 * 특정 게시판의 게시글, 특정 카테고리의 게시글을 페이지 단위로 조회(비동기)
+	 * 
+	 * @param boardNo 조회할 게시판의 고유 식별 번호
+	 * @param pageNo 조회할 페이지 번호
+	 * @param category 조회할 카테고리
+	 * @return
+	 */
+	@LoginRequired
+	@GetMapping(value = "/async/category")
+	public CompletableFuture<PostPageResponse> postListByCategoryAsync(
+			@RequestParam long boardNo,
+			@RequestParam int pageNo, 
+			@RequestParam String category) {
+		return asyncTaskService.supply(() -> 
+			postService.postListByCategory(boardNo, pageNo, category));
+	}
+	
+	/**
+	 * 특정 게시판의 게시글을 Keyset 방식으로 조회(비동기)
+	 * 
+	 * @param boardNo 조회할 게시판의 고유 식별 번호
+	 * @param beforePostNo 이 번호보다 작은 번호를 가진 게시글부터 조회
+	 * @return
+	 */
+	@LoginRequired
+	@GetMapping(value = "/async", params = "beforePostNo")
+	public CompletableFuture<PostPageResponse> postListBeforeAsync(
+			@RequestParam long boardNo,
+			@RequestParam long beforePostNo) {
+		return asyncTaskService.supply(() -> 
+			postService.postListBefore(boardNo, beforePostNo));
+	}
+	
+	/**
+	 * 특정 게시판, 특정 카테고리의 게시글을 Keyset 방식으로 조회(비동기)
+	 * 
+	 * @param boardNo 조회할 게시판의 고유 식별 번호
+	 * @param beforePostNo 이 번호보다 작은 번호를 가진 게시글부터 조회
+	 * @param category 조회할 카테고리
+	 * @return
+	 */
+	@LoginRequired
+	@GetMapping(value = "/async/category", params = "beforePostNo")
+	public CompletableFuture<PostPageResponse> postListByCategoryBeforeAsync(
+			@RequestParam long boardNo,
+			@RequestParam long beforePostNo, 
+			@RequestParam String category) {
+		return asyncTaskService.supply(() -> postService
+				.postListByCategoryBefore(boardNo, beforePostNo, category));
+	}
+	
+	/**
+	 * 새로운 게시글을 DB에 추가.(비동기)
+	 * 
+	 * @param postWriteRequest 작성된 게시글, 작성된 사용자 등에 대한 데이터를 가진 객체
+	 * @return
+	 */
+	@LoginRequired
+	@PostMapping(value = "/async")
+	public CompletableFuture<ResponseEntity<String>> writeAsync(
+			@RequestBody PostWriteRequest postWriteRequest) {
+		return asyncTaskService.run(() -> postService.write(postWriteRequest))
+				.thenApply(v -> ResponseEntity.ok("게시글을 저장했습니다."));
+	}
+	
+	/**
+	 * 특정 게시글 조회(비동기)
+	 * 
+	 * @param postNo 조회할 게시글의 고유 식별 번호
+	 * @return
+	 */
+	@LoginRequired
+	@GetMapping(value = "/async/detail")
+	public CompletableFuture<PostDetailDTO> postDetailAsync(
+			@RequestParam long postNo) {
+		return asyncTaskService.supply(() -> postService.postDetail(postNo));
+	}
+	
+	/**
+	 * 제목 검색(비동기), 파라미터는 searchTitle()과 같다.
+	 */
+	@LoginRequired
+	@GetMapping(value = "/async/search/title")
+	public CompletableFuture<PostPageResponse> searchTitleAsync(
+			@RequestParam int pageNo,
+			@RequestParam(defaultValue = "0") long beforePostNo,
+			@RequestParam long boardNo,
+			@RequestParam String category,
+			@RequestParam String keyword) {
+		return asyncTaskService.supply(() -> 
+			searchTitle(pageNo, beforePostNo, boardNo, category, 
+				keyword));
+	}
+	
+	/**
+	 * 내용 검색(비동기), 파라미터는 searchContent()와 같다.
+	 */
+	@LoginRequired
+	@GetMapping(value = "/async/search/content")
+	public CompletableFuture<PostPageResponse> searchContentAsync(
+			@RequestParam int pageNo,
+			@RequestParam(defaultValue = "0") long beforePostNo,
+			@RequestParam long boardNo,
+			@RequestParam String category,
+			@RequestParam String keyword) {
+		return asyncTaskService.supply(() -> 
+			searchContent(pageNo, beforePostNo, boardNo, category, 
+				keyword));
+	}
+	
+	/**
+	 * 제목 + 내용 검색(비동기), 파라미터는 searchByTitleAndContent()와 같다.
+	 */
+	@LoginRequired
+	@GetMapping(value = "/async/search/title-and-content")
+	public CompletableFuture<PostPageResponse> searchByTitleAndContentAsync(
+			@RequestParam int pageNo,
+			@RequestParam(defaultValue = "0") long beforePostNo,
+			@RequestParam long boardNo,
+			@RequestParam String category,
+			@RequestParam String keyword) {
+		return asyncTaskService.supply(() -> 
+			searchByTitleAndContent(pageNo, beforePostNo, boardNo, category, 
+				keyword));
 	}
 }
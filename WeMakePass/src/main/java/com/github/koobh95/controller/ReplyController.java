@@ -1,6 +1,7 @@
 package com.github.koobh95.controller;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,12 +15,14 @@ import org.springframework.web.bind.annotation.RestController;
 import com.github.koobh95.annotation.LoginRequired;
 import com.github.koobh95.data.model.dto.ReplyDTO;
 import com.github.koobh95.data.model.dto.request.ReplyWriteRequest;
+import com.github.koobh95.service.AsyncTaskService;
 import com.github.koobh95.service.ReplyService;
 
 import lombok.RequiredArgsConstructor;
 
 /**
- * 댓글 관련 데이터를 조회, 삽입, 삭제하는 API를 제공.
+ * - 댓글 관련 데이터를 조회, 삽입, 삭제하는 API를 제공.
+ * - "/async"로 시작하는 API는 같은 기능을 I/O 전용 스레드 풀(AsyncTaskService)에서 처리한다.
  * 
  * @author BH-Ku
  * @since 2024-01-11
@@ -29,6 +32,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReplyController {
 	private final ReplyService replyService;
+	private final AsyncTaskService asyncTaskService;
 
 	/**
 	 * 특정 게시글의 댓글 목록을 조회
@@ -68,4 +72,45 @@ public class ReplyController {
 		replyService.delete(replyNo);
 		return ResponseEntity.ok("성공적으로 댓글을 삭제했습니다.");
 	}
+	
+	/**
+	 * 특정 게시글의 댓글 목록을 조회(비동기)
+	 * 
+	 * @param postNo 조회할 게시글의 고유 식별 번호
+	 * @return
+	 */
+	@LoginRequired
+	@GetMapping(value = "/async")
+	public CompletableFuture<List<ReplyDTO>> replyListAsync(
+			@RequestParam long postNo) {
+		return asyncTaskService.supply(() -> replyService.replyList(postNo));
+	}
+	
+	/**
+	 * 새로운 댓글을 DB에 삽입한다.(비동기)
+	 * 
+	 * @param replyWriteRequest
+	 * @return
+	 */
+	@LoginRequired
+	@PostMapping(value = "/async")
+	public CompletableFuture<ResponseEntity<String>> writeAsync(
+			@RequestBody ReplyWriteRequest replyWriteRequest) {
+		return asyncTaskService.run(() -> replyService.write(replyWriteRequest))
+				.thenApply(v -> ResponseEntity.ok("성공적으로 댓글을 작성했습니다."));
+	}
+	
+	/**
+	 * 댓글을 삭제한다.(비동기)
+	 * 
+	 * @param replyNo 삭제할 댓글의 고유 식별 번호
+	 * @return
+	 */
+	@LoginRequired
+	@DeleteMapping(value = "/async")
+	public CompletableFuture<ResponseEntity<String>> deleteAsync(
+			@RequestParam("replyNo") long replyNo) {
+		return asyncTaskService.run(() -> replyService.delete(replyNo))
+				.thenApply(v -> ResponseEntity.ok("성공적으로 댓글을 삭제했습니다."));
+	}
 }
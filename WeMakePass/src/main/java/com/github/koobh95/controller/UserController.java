@@ -1,5 +1,7 @@
 package com.github.koobh95.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,7 +22,9 @@ import com.github.koobh95.service.UserService;
 import lombok.RequiredArgsConstructor;
 
 /**
- * 로그인, 회원가입, 사용자 계정 정보 수정과 관련된 API를 제공.
+ * - 로그인, 회원가입, 사용자 계정 정보 수정과 관련된 API를 제공.
+ * - "/async"로 시작하는 API는 비밀번호 검증/암호화(BCrypt)를 전용 스레드 풀에서 처리하는 동안 
+ *  요청을 처리하는 스레드를 반환하고, 작업이 끝나면 응답한다.
  * 
  * @author BH-Ku
  * @since 2023-12-23
@@ -123,4 +127,59 @@ public class UserController {
 				encryptedPassword);
 		return ResponseEntity.ok("인증되었습니다.");
 	}
+	
+	/**
+	 * 로그인 요청(비동기)
+	 * 
+	 * @param loginRequest 암호화된 아이디, 비밀번호를 가진 객체
+	 * @return
+	 */
+	@PostMapping(value="/async/login")
+	public CompletableFuture<JwtDTO> loginAsync(
+			@RequestBody LoginRequest loginRequest) {
+		return userService.loginAsync(loginRequest);
+	}
+	
+	/**
+	 * 회원가입 요청(비동기)
+	 * 
+	 * @param signUpRequest 회원가입에 필요한 필수 정보를 갖는 DTO 클래스.
+	 * @return
+	 */
+	@PostMapping(value="/async/sign-up")
+	public CompletableFuture<ResponseEntity<String>> signUpAsync(
+			@RequestBody SignUpRequest signUpRequest) {
+		return userService.signUpAsync(signUpRequest)
+				.thenApply(v -> ResponseEntity.ok("회원가입이 완료되었습니다."));
+	}
+	
+	/**
+	 * 비밀번호 변경 요청(비동기)
+	 * 
+	 * @param request 새로운 비밀번호와 변경 대상 아이디
+	 * @return
+	 */
+	@PatchMapping(value="/async/password-reset")
+	public CompletableFuture<ResponseEntity<String>> passwordResetAsync(
+			@RequestBody PasswordResetRequest request) {
+		return userService.passwordResetAsync(request)
+				.thenApply(v -> 
+					ResponseEntity.ok("비밀번호가 성공적으로 변경되었습니다."));
+	}
+	
+	/**
+	 * 비밀번호을 변경을 위해 현재 비밀번호를 검증한다.(비동기)
+	 * 
+	 * @param authentication
+	 * @param encryptedPassword
+	 * @return
+	 */
+	@LoginRequired
+	@PostMapping(value="/async/password-auth")
+	public CompletableFuture<ResponseEntity<String>> currentPasswordAuthAsync(
+			Authentication authentication,
+			@RequestBody String encryptedPassword) {
+		return userService.currentPasswordAuthAsync(authentication.getName(), 
+				encryptedPassword).thenApply(v -> ResponseEntity.ok("인증되었습니다."));
+	}
 }
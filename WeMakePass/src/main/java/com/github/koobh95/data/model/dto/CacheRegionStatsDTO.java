@@ -0,0 +1,21 @@
+package com.github.koobh95.data.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Hibernate 2차 캐시 영역 하나의 적중/실패 통계를 갖는 DTO 클래스.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@AllArgsConstructor
+@Getter
+public class CacheRegionStatsDTO {
+	private final String regionName; // 캐시 영역 이름
+	private final String regionType; // 영역 종류(ENTITY, QUERY, TIMESTAMPS)
+	private final long hitCount; // 적중 횟수
+	private final long missCount; // 실패 횟수
+	private final long putCount; // 저장 횟수
+	private final double hitRatio; // 적중률(0~1), 조회된 적이 없다면 0
+}
@@ -1,10 +1,13 @@
 package com.github.koobh95.data.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 /**
- * DocAnswer Entity 클래스에서 네트워크 전송에 필요한 데이터만을 갖는 DTO 클래스
+ * - DocAnswer Entity 클래스에서 네트워크 전송에 필요한 데이터만을 갖는 DTO 클래스
+ * - 문항 번호는 서버에서 답안을 문항과 연결할 때만 사용하므로 JSON에 포함하지 않는다.
  * 
  * @author BH-Ku
  * @since 2024-01-06
@@ -12,6 +15,8 @@ import lombok.Getter;
 @AllArgsConstructor
 @Getter
 public class DocAnswerDTO {
+	@JsonIgnore
+	private long questionId; // 문항의 고유 식별 번호
 	private int answer; // 답안 번호
 	private String explanation; // 해설
 }
@@ -0,0 +1,24 @@
+package com.github.koobh95.data.model.dto;
+
+import java.util.List;
+import java.util.Set;
+
+import com.github.koobh95.data.model.entity.DocQuestion;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  필기 시험에 응시할 때 필요한 과목 목록, 문제 목록, 답안 목록을 하나로 묶은 DTO 클래스. 시험 
+ * 데이터는 한 번 등록되면 변경되지 않으므로 캐시에 저장되어 여러 요청에서 공유된다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@AllArgsConstructor
+@Getter
+public class ExamBundleDTO {
+	private Set<String> subjects; // 과목 목록, 문항 번호 순서를 유지
+	private List<DocQuestion> questions; // 문항 번호 오름차순 문제 목록
+	private List<DocAnswerDTO> answers; // 문항 번호 오름차순 답안 목록
+}
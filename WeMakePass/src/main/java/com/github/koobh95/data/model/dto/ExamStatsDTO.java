@@ -0,0 +1,24 @@
+package com.github.koobh95.data.model.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 특정 시험의 응시 결과 통계를 갖는 DTO 클래스.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@AllArgsConstructor
+@Getter
+public class ExamStatsDTO {
+	private final long examId; // 시험의 고유 식별 번호
+	private final int attemptCount; // 응시 횟수
+	private final int passCount; // 합격 횟수
+	private final double passRate; // 합격률(0~1), 응시된 적이 없다면 0
+	private final double averageScore; // 평균 총점
+	private final List<SubjectStatsDTO> subjects; // 과목별 통계, 문항 번호 순서를 유지
+	private final List<QuestionStatsDTO> questions; // 문항 번호 오름차순 문항별 통계
+}
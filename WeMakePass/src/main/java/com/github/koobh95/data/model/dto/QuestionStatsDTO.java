@@ -0,0 +1,21 @@
+package com.github.koobh95.data.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 시험의 문항 하나에 대한 응시 결과 통계를 갖는 DTO 클래스.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@AllArgsConstructor
+@Getter
+public class QuestionStatsDTO {
+	private final long questionId; // 문항의 고유 식별 번호
+	private final int answer; // 정답 번호
+	private final int correctCount; // 정답을 선택한 횟수
+	private final double accuracy; // 정답률(0~1), 응시된 적이 없다면 0
+	// 선택지 번호별 선택 횟수, 0번은 답을 선택하지 않은 횟수
+	private final int[] optionCounts;
+}
@@ -0,0 +1,19 @@
+package com.github.koobh95.data.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 시험의 과목 하나에 대한 응시 결과 통계를 갖는 DTO 클래스.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@AllArgsConstructor
+@Getter
+public class SubjectStatsDTO {
+	private final String subjectName; // 과목 이름
+	private final int maxScore; // 과목 만점(문항 배점의 합)
+	private final double averageScore; // 과목 평균 점수
+	private final double accuracy; // 과목 문항의 평균 정답률(0~1)
+}
@@ -8,7 +8,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 /**
- * 페이징으로 게시글 목록을 조회한 결과와 페이지 상태 정보를 반환하는데 사용되는 클래스.
+ * - 페이징으로 게시글 목록을 조회한 결과와 페이지 상태 정보를 반환하는데 사용되는 클래스.
+ * - nextCursor는 다음 목록을 Keyset 방식(beforePostNo)으로 조회할 때 사용할 값으로, 현재 목록의
+ *  마지막 게시글 번호를 가진다. 더 이상 조회할 게시글이 없다면 -1을 가진다.
  * 
  * @author BH-Ku
  * @since 2024-01-07
@@ -19,4 +21,5 @@ public class PostPageResponse {
 	private List<PostDTO> postList; // 조회한 게시글 리스트
 	private int pageNo; // 읽은 페이지 번호
 	private boolean last; // 현재 읽은 페이지가 마지막인지에 대한 여뷰
+	private long nextCursor; // 다음 목록 조회에 사용할 게시글 번호, 마지막일 경우 -1
 }
@@ -1,10 +1,15 @@
 package com.github.koobh95.data.model.entity;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
 import lombok.Getter;
 import lombok.ToString;
 
@@ -15,6 +20,9 @@ import lombok.ToString;
  * @since 2024-01-07
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Immutable
 @Table(name="board_tb")
 @Getter
 @ToString
@@ -0,0 +1,44 @@
+package com.github.koobh95.data.model.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * - 완료된 데이터 변환 작업을 기록하는 테이블 "data_migration_tb"와 대응되는 Entity 클래스.
+ * - 애플리케이션이 시작될 때마다 실행되는 변환 작업(AnswerSheetMigrationService 등)은 완료가
+ *  기록되어 있다면 다시 실행하지 않는다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name="data_migration_tb")
+@NoArgsConstructor
+@Getter
+public class DataMigration {
+	@Id
+	@Column(name="migration_name", length = 100)
+	private String migrationName; // 변환 작업 이름
+	@Column(name="completed_date")
+	private LocalDateTime completedDate; // 완료 시간
+	
+	/**
+	 * 지금 완료된 변환 작업의 기록을 생성하여 반환한다.
+	 * 
+	 * @param migrationName 변환 작업 이름
+	 * @return
+	 */
+	public static DataMigration completed(String migrationName) {
+		DataMigration dataMigration = new DataMigration();
+		dataMigration.migrationName = migrationName;
+		dataMigration.completedDate = LocalDateTime.now();
+		return dataMigration;
+	}
+}
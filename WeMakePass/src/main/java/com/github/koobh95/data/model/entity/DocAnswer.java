@@ -3,12 +3,17 @@ package com.github.koobh95.data.model.entity;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
 import com.github.koobh95.data.model.dto.DocAnswerDTO;
 import com.github.koobh95.data.model.entity.key.DocAnswerKey;
 
@@ -22,6 +27,9 @@ import lombok.Getter;
  * @since 2024-01-06
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Immutable
 @Table(name="doc_answer_tb")
 @IdClass(DocAnswerKey.class)
 @Getter
@@ -38,7 +46,7 @@ public class DocAnswer {
 	// DocAnswerEntity 리스트를 DocAnswerDTO 리스트로 변환하여 반환
 	public static List<DocAnswerDTO> toDtoList(List<DocAnswer> entityList) {
 		return entityList.stream()
-				.map(e -> new DocAnswerDTO(e.answer, e.explanation))
+				.map(e -> new DocAnswerDTO(e.questionId, e.answer, e.explanation))
 				.collect(Collectors.toList());
 	}
 }
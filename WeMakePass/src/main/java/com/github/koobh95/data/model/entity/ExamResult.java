@@ -10,7 +10,10 @@ import javax.persistence.Id;
 import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
+import com.github.koobh95.util.AnswerSheetCodec;
+
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /**
@@ -24,7 +27,7 @@ import lombok.NoArgsConstructor;
 @SequenceGenerator(
 		name="EXAM_RESULT_SEQ_GENERATOR",
 		sequenceName = "seq_examResult_examResultId",
-		allocationSize = 1)
+		allocationSize = 50)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ExamResult {
@@ -33,6 +36,7 @@ public class ExamResult {
 			strategy = GenerationType.SEQUENCE,
 			generator = "EXAM_RESULT_SEQ_GENERATOR")
 	@Column(name="exam_result_id")
+	@Getter
 	private long examResultId; // 고유 식별 번호, Sequence에 의해 생성
 	@Column(name="exam_id")
 	private long examId; // 시험의 고유 식별 번호
@@ -46,16 +50,19 @@ public class ExamResult {
 	private long elapsedTime; // 경과 시간
 	private int score; // 총점
 	@Column(name="answer_sheet")
-	private String answerSheet; // JSON 데이터 형식으로 이루어진 답안 리스트
+	private String answerSheet; // JSON 데이터 형식으로 이루어진 답안 리스트, 압축할 수 없는 답안만 저장
+	@Column(name="answer_sheet_bin", length = AnswerSheetCodec.MAX_SIZE)
+	private byte[] answerSheetBin; // AnswerSheetCodec으로 압축된 답안
 
 	/**
 	 *  DB에 추가할 새로운 ExamResult 객체를 생성할 때 사용되는 메서드다. 기본키에 해당하는 
 	 * examResultId는 시퀀스로 자동 생성하고 시험 종료 시간은 데이터를 저장하는 시간으로 설정한다.
-	 * 이 외에 데이터는 클라이언트로부터 받은 DTO 클래스에서 추출한다.
+	 * 이 외에 데이터는 클라이언트로부터 받은 DTO 클래스에서 추출한다. 답안은 압축된 답안이 있다면 
+	 * 압축된 답안만 저장한다.
 	 */
 	public static ExamResult create(long examId, String userId, 
 			String reasonForRejection, long elapsedTime, int score, 
-			String answerSheet) {
+			String answerSheet, byte[] answerSheetBin) {
 		ExamResult e = new ExamResult();
 		e.examId = examId;
 		e.userId = userId;
@@ -63,7 +70,8 @@ public class ExamResult {
 		e.reasonForRejection = reasonForRejection;
 		e.elapsedTime = elapsedTime;
 		e.score = score;
-		e.answerSheet = answerSheet;
+		e.answerSheet = answerSheetBin == null ? answerSheet : null;
+		e.answerSheetBin = answerSheetBin;
 		return e;
 	}
 }
@@ -0,0 +1,105 @@
+package com.github.koobh95.data.model.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+import com.github.koobh95.data.model.enums.MailOutboxStatus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * - 발송할 메일을 저장하는 테이블 "mail_outbox_tb"와 대응되는 Entity 클래스.
+ * - 메일은 인증 코드 등을 저장하는 트랜잭션 안에서 함께 저장되고, MailDispatchService가 주기적으로
+ *  발송 대기 중인 메일을 읽어 발송한다.
+ * - 메일 내용에는 인증 코드가 포함되므로 발송이 완료되면 내용(content)은 비운다.
+ * - 인증 코드처럼 유효 시간이 있는 내용을 담은 메일은 만료 시간(expire_date)을 가지며, 만료 
+ *  시간까지 발송되지 않으면 발송하지 않고 FAILED 상태로 변경된다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name="mail_outbox_tb", indexes = { // 발송 대상 조회에 사용되는 인덱스
+		@Index(name="idx_mail_outbox_status_next", 
+				columnList="status, next_attempt_date") })
+@SequenceGenerator(
+		name="MAIL_OUTBOX_NO_SEQ_GENERATOR",
+		sequenceName = "seq_mail_outbox_outboxNo",
+		allocationSize = 50)
+@NoArgsConstructor
+@Getter
+public class MailOutbox {
+	@Id
+	@Column(name="outbox_no")
+	@GeneratedValue(
+			strategy = GenerationType.SEQUENCE,
+			generator = "MAIL_OUTBOX_NO_SEQ_GENERATOR")
+	private long outboxNo; // 메일의 고유 식별 번호
+	private String recipient; // 수신자 이메일 주소
+	private String subject; // 메일 제목
+	@Lob
+	private String content; // 메일 내용(HTML), 발송 완료 후에는 null
+	@Enumerated(EnumType.STRING)
+	private MailOutboxStatus status; // 발송 상태
+	private int attempts; // 발송 시도 횟수
+	@Column(name="next_attempt_date")
+	private LocalDateTime nextAttemptDate; // 다음 발송 시도 가능 시간
+	@Column(name="reg_date")
+	private LocalDateTime regDate; // 메일이 저장된 시간
+	@Column(name="expire_date")
+	private LocalDateTime expireDate; // 발송 만료 시간, null이면 만료되지 않음
+	@Column(name="sent_date")
+	private LocalDateTime sentDate; // 발송 완료 시간
+	@Column(name="last_error", length = 1000)
+	private String lastError; // 마지막 발송 실패 사유
+	
+	/**
+	 * 즉시 발송 대상이 되는 메일을 생성하여 반환한다.
+	 * 
+	 * @param recipient 수신자 이메일 주소
+	 * @param subject 메일 제목
+	 * @param content 메일 내용(HTML)
+	 * @return
+	 */
+	public static MailOutbox create(String recipient, String subject, 
+			String content) {
+		MailOutbox mailOutbox = new MailOutbox();
+		mailOutbox.recipient = recipient;
+		mailOutbox.subject = subject;
+		mailOutbox.content = content;
+		mailOutbox.status = MailOutboxStatus.PENDING;
+		mailOutbox.regDate = LocalDateTime.now();
+		mailOutbox.nextAttemptDate = mailOutbox.regDate;
+		return mailOutbox;
+	}
+	
+	/**
+	 * 즉시 발송 대상이 되며, 저장된 시간으로부터 validity가 지나면 발송하지 않는 메일을 생성하여 
+	 * 반환한다.
+	 * 
+	 * @param recipient 수신자 이메일 주소
+	 * @param subject 메일 제목
+	 * @param content 메일 내용(HTML)
+	 * @param validity 메일 내용의 유효 시간
+	 * @return
+	 */
+	public static MailOutbox create(String recipient, String subject, 
+			String content, Duration validity) {
+		MailOutbox mailOutbox = create(recipient, subject, content);
+		mailOutbox.expireDate = mailOutbox.regDate.plus(validity);
+		return mailOutbox;
+	}
+}
@@ -1,8 +1,6 @@
 package com.github.koobh95.data.model.entity;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -10,13 +8,13 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
-import javax.persistence.OneToMany;
 import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import com.github.koobh95.data.model.dto.PostDTO;
 import com.github.koobh95.data.model.entity.mapping.PostMapping;
@@ -30,11 +28,13 @@ import lombok.Getter;
  * @since 2024-01-07
  */
 @Entity
-@Table(name="post_tb")
+@Table(name="post_tb", indexes = { // Keyset 페이징에 사용되는 인덱스
+		@Index(name="idx_post_board_delete_no", 
+				columnList="board_no, delete_date, post_no") })
 @SequenceGenerator(
 		name="POST_NO_SEQ_GENERATOR",
 		sequenceName = "seq_post_postNo",
-		allocationSize = 1)
+		allocationSize = 50)
 @Getter
 public class Post {
 	@Id
@@ -54,21 +54,15 @@ public class Post {
 	@Column(name="delete_date")
 	private LocalDateTime deleteDate; // 게시글이 삭제되었을 경우 삭제된 날자
 	private long hit; // 게시글 조회수
+	@Column(name="reply_count", 
+			columnDefinition = "number(10,0) default 0 not null")
+	private int replyCount; // 삭제되지 않은 댓글 수, 댓글 작성/삭제 시 함께 갱신된다.
 	
 	// 게시글 작성자의 닉네임을 얻어오기 위해 사용되며, 게시글을 읽을 때 즉시 사용되므로 EAGER로 설정.
 	@ManyToOne(fetch = FetchType.EAGER)
 	@JoinColumn(name="writer", insertable = false, updatable = false)
 	private User user;
 	
-	// 댓글 목록. 게시글 조회 시 댓글 수를 읽어야 하므로 EAGER로 설정.
-	@OneToMany(mappedBy="post", fetch = FetchType.EAGER)
-	private List<Reply> replyList = new ArrayList<>();
-	
-	// 조회수를 1 증가
-	public void increaseHit() {
-		hit++;
-	}
-	
 	/**
 	 * DB에 저장할 Entity 객체를 초기화하여 반환한다.
 	 * 
@@ -92,9 +86,9 @@ public class Post {
 		return post;
 	}
 	
-	// Page 객체가 가진 Post Entity 리스트를 Post DTO 리스트로 변환하여 반환한다.
-	public static Page<PostDTO> toDtoList(Page<PostMapping> page){
-		return page.map(m -> 
+	// Page(Slice) 객체가 가진 Post Entity 리스트를 Post DTO 리스트로 변환하여 반환한다.
+	public static Slice<PostDTO> toDtoList(Slice<PostMapping> slice){
+		return slice.map(m -> 
 			PostDTO.builder()
 				.postNo(m.getPostNo())
 				.category(m.getCategory())
@@ -102,16 +96,7 @@ public class Post {
 				.nickname(m.getUser().getNickname())
 				.regDate(m.getRegDate())
 				.hit(m.getHit())
-				.replyCount(getReplyCount(m.getReplyList()))
+				.replyCount(m.getReplyCount())
 				.build());
 	}
-	
-	// 게시글에 작성된 댓글의 수를 반환.
-	private static int getReplyCount(List<Reply> replyList) {
-		int count = 0;
-		for(Reply e : replyList)
-			if(e.getDeleteDate() == null)
-				count++;
-		return count;
-	}
 }
@@ -1,7 +1,6 @@
 package com.github.koobh95.data.model.entity;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -11,13 +10,9 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
-import javax.persistence.OneToMany;
-import javax.persistence.OrderBy;
 import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
-import com.github.koobh95.data.model.dto.ReplyDTO;
-
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -33,7 +28,7 @@ import lombok.NoArgsConstructor;
 @SequenceGenerator(
 		name="REPLY_NO_SEQ_GENERATOR",
 		sequenceName = "seq_reply_replyNo",
-		allocationSize = 1)
+		allocationSize = 50)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -64,11 +59,6 @@ public class Reply {
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name="writer", insertable = false, updatable = false)
 	private User user;
-
-	// 현재 Entity(댓글)의 하위 댓글 목록
-	@OrderBy("reply_no ASC")
-	@OneToMany(mappedBy = "parentReplyNo", fetch = FetchType.LAZY)
-	private List<Reply> childReplyList;
 	
 	// DB에 삽입할 Entity 객체를 생성하는 생성자
 	public Reply(long parentReplyNo, long postNo, String writer, 
@@ -84,15 +74,4 @@ public class Reply {
 	public void delete() {
 		deleteDate = LocalDateTime.now();
 	}
-	
-	// Entity 객체를 DTO 객체로 변환하여 반환
-	public static ReplyDTO toDto(Reply e) {
-		return new ReplyDTO(
-				e.parentReplyNo != -1,
-				e.getReplyNo(),
-				e.getWriter(),
-				e.getUser().getNickname(),
-				e.getContent(),
-				e.getRegDate());
-	}
 }
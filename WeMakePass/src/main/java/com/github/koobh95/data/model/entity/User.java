@@ -9,6 +9,7 @@ import javax.persistence.FetchType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -21,7 +22,9 @@ import lombok.NoArgsConstructor;
  * @since 2023-12-23
  */
 @Entity
-@Table(name="user_tb")
+@Table(name="user_tb", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_user_tb_nickname", columnNames = "nickname"),
+		@UniqueConstraint(name = "uk_user_tb_email", columnNames = "email")})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class User {
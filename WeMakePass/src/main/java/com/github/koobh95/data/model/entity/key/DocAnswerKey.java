@@ -2,12 +2,16 @@ package com.github.koobh95.data.model.entity.key;
 
 import java.io.Serializable;
 
+import lombok.EqualsAndHashCode;
+
 /**
- * DocAnswer Entity 클래스의 복합키 클래스
+ * - DocAnswer Entity 클래스의 복합키 클래스
+ * - 2차 캐시와 영속성 컨텍스트에서 키로 사용되므로 equals/hashCode를 구현한다.
  * 
  * @author BH-Ku
  * @since 2024-01-06
  */
+@EqualsAndHashCode
 public class DocAnswerKey implements Serializable {
 	private long examId; // 시험의 고유 식별 번호
 	private long questionId; // 시험 문항의 고유 식별 번호
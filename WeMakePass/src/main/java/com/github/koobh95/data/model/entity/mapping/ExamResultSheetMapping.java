@@ -0,0 +1,16 @@
+package com.github.koobh95.data.model.entity.mapping;
+
+/**
+ *  시험 통계를 만들 때 필요한 데이터만 읽어오기 위해서 사용하는 Mapping 클래스다. 식별 번호, 
+ * 답안(JSON 혹은 압축된 답안)과 불합격 사유, 총점만 조회한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface ExamResultSheetMapping {
+	long getExamResultId();
+	String getAnswerSheet();
+	byte[] getAnswerSheetBin();
+	String getReasonForRejection();
+	int getScore();
+}
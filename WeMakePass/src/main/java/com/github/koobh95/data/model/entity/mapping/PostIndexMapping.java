@@ -0,0 +1,15 @@
+package com.github.koobh95.data.model.entity.mapping;
+
+/**
+ *  게시글 검색 색인을 구축할 때 필요한 데이터만 읽어오기 위해서 사용하는 Mapping 클래스다. 작성자 
+ * 등 연관 Entity를 함께 읽어오지 않도록 필요한 컬럼만 조회한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface PostIndexMapping {
+	long getPostNo();
+	long getBoardNo();
+	String getTitle();
+	String getContent();
+}
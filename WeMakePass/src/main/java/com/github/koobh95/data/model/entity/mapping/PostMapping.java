@@ -1,9 +1,7 @@
 package com.github.koobh95.data.model.entity.mapping;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
-import com.github.koobh95.data.model.entity.Reply;
 import com.github.koobh95.data.model.entity.User;
 
 /**
@@ -22,5 +20,5 @@ public interface PostMapping {
 	LocalDateTime getDeleteDate();
 	long getHit();
 	User getUser();
-	List<Reply> getReplyList();
+	int getReplyCount();
 }
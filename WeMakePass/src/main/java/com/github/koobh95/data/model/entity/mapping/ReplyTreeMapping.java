@@ -0,0 +1,20 @@
+package com.github.koobh95.data.model.entity.mapping;
+
+import java.time.LocalDateTime;
+
+/**
+ *  댓글 목록을 구성하기 위해 Reply와 작성자의 닉네임을 하나의 쿼리로 읽어오는 Mapping 클래스다.
+ * 연관 Entity(User, 하위 댓글)를 지연 로딩하면서 발생하는 추가 쿼리를 없애기 위해 사용한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface ReplyTreeMapping {
+	long getReplyNo();
+	long getParentReplyNo();
+	String getWriter();
+	String getNickname();
+	String getContent();
+	LocalDateTime getRegDate();
+	LocalDateTime getDeleteDate();
+}
@@ -53,9 +53,31 @@ public enum ErrorCode {
 	// 비밀번호 변경 실패 - 변경하려는 비밀번호가 이전에 사용한 비밀번호가 같음.
 	PASSWORD_PREVIOUSLY_USE(HttpStatus.BAD_REQUEST,
 			"전에 사용한 비밀번호는 다시 사용할 수 없습니다."),
+	// 비밀번호 변경 실패 - 검증 이후 다른 요청에 의해 비밀번호가 먼저 변경됨.
+	PASSWORD_CHANGED_CONCURRENTLY(HttpStatus.CONFLICT,
+			"비밀번호가 이미 변경되었습니다. 다시 시도해주세요."),
+	
+	// 비밀번호 해시 작업 대기열이 가득 차 요청을 처리할 수 없음.
+	PASSWORD_HASH_BUSY(HttpStatus.SERVICE_UNAVAILABLE,
+			"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+	
+	// 비동기 API의 I/O 작업 대기열이 가득 차 요청을 처리할 수 없음.
+	IO_TASK_BUSY(HttpStatus.SERVICE_UNAVAILABLE,
+			"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+	// 비동기 API의 처리 시간이 제한 시간을 초과함.
+	ASYNC_REQUEST_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE,
+			"요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+	// 시험 통계를 아직 만들고 있음.
+	EXAM_STATS_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE,
+			"시험 통계를 준비하고 있습니다. 잠시 후 다시 시도해주세요."),
+	// 응시 결과가 없어 시험 통계를 만들 수 없음.
+	EXAM_STATS_NOT_FOUND(HttpStatus.NOT_FOUND, "응시 결과가 없는 시험입니다."),
 
 	// 특정 게시글을 조회하려 했으나 게시물이 삭제된 상태.
 	POST_LOADING_FAILED_POST_DELETED(HttpStatus.NOT_FOUND, "삭제된 게시글입니다."),
+	// 게시글을 작성하려 했으나 존재하지 않는 게시판이거나 게시판에 없는 카테고리
+	POST_WRITE_FAILED_INVALID_CATEGORY(HttpStatus.BAD_REQUEST, 
+			"존재하지 않는 게시판 혹은 카테고리입니다."),
 	
 	// 댓글을 로딩하려 했으나 게시글이 삭제되어 실패.
 	REPLY_LOADING_FAILED_POST_DELETED(HttpStatus.NOT_FOUND, 
@@ -0,0 +1,13 @@
+package com.github.koobh95.data.model.enums;
+
+/**
+ * 발송 대기열(mail_outbox_tb)에 저장된 메일의 발송 상태를 나타내는 열거형 타입.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public enum MailOutboxStatus {
+	PENDING, // 발송 대기 중(재시도 대기 포함)
+	SENT, // 발송 완료
+	FAILED // 최대 시도 횟수를 초과했거나 만료되어 발송 포기
+}
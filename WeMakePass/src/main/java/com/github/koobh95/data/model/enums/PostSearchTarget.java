@@ -0,0 +1,13 @@
+package com.github.koobh95.data.model.enums;
+
+/**
+ * 게시글 검색 시 키워드와 비교할 대상을 나타내는 열거형 타입.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public enum PostSearchTarget {
+	TITLE, // 게시글 제목
+	CONTENT, // 게시글 내용
+	TITLE_AND_CONTENT // 게시글 제목 혹은 내용
+}
@@ -2,7 +2,10 @@ package com.github.koobh95.data.repository;
 
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.github.koobh95.data.model.entity.BoardCategory;
 import com.github.koobh95.data.model.entity.mapping.CategoryNameMapping;
@@ -15,5 +18,8 @@ import com.github.koobh95.data.model.entity.mapping.CategoryNameMapping;
  */
 public interface BoardCategoryRepository extends JpaRepository<BoardCategory, Long> {
 	// 특정 게시판의 식별 번호로 카테고리 목록을 조회하되 오름차순으로 조회
+	@QueryHints({
+			@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+			@QueryHint(name = "org.hibernate.cacheRegion", value = "query.boardCategory") })
 	List<CategoryNameMapping> findByBoardNoOrderByBoardCategoryNo(long boardNo);
 }
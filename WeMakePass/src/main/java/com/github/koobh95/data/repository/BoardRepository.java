@@ -2,7 +2,10 @@ package com.github.koobh95.data.repository;
 
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.github.koobh95.data.model.entity.Board;
 
@@ -14,5 +17,8 @@ import com.github.koobh95.data.model.entity.Board;
  */
 public interface BoardRepository extends JpaRepository<Board, Long> {
 	// BoardName과 특정 문자열이 일치하는 데이터들을 조회
+	@QueryHints({
+			@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+			@QueryHint(name = "org.hibernate.cacheRegion", value = "query.board") })
 	List<Board> findByBoardNameContaining(String boardName);
 }
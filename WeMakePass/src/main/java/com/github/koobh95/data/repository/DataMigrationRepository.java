@@ -0,0 +1,14 @@
+package com.github.koobh95.data.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.github.koobh95.data.model.entity.DataMigration;
+
+/**
+ * DataMigration 클래스와 대응되는 Repository 클래스.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface DataMigrationRepository extends JpaRepository<DataMigration, String> {
+}
@@ -2,7 +2,11 @@ package com.github.koobh95.data.repository;
 
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.github.koobh95.data.model.entity.ExamInfo;
 
@@ -14,8 +18,17 @@ import com.github.koobh95.data.model.entity.ExamInfo;
  */
 public interface ExamInfoRepository extends JpaRepository<ExamInfo, String> {
 	// 종목 코드, 시행 년도, 시행 회차, 시험 형식과 일치하는 데이터 조회
+	@QueryHints({
+			@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+			@QueryHint(name = "org.hibernate.cacheRegion", value = "query.examInfo") })
 	ExamInfo findByJmCodeAndImplYearAndImplSeqAndExamFormat(
 			String jmCode, int implYear, int implSeq, String examFormat);
 	// 특정 종목 코드를 가지는 시험을 조회 
+	@QueryHints({
+			@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+			@QueryHint(name = "org.hibernate.cacheRegion", value = "query.examInfo") })
 	List<ExamInfo> findByJmCode(String jmCode);
+	// 시험 데이터가 있는 종목 코드를 중복 없이 조회
+	@Query("SELECT DISTINCT e.jmCode FROM ExamInfo e")
+	List<String> findDistinctJmCodes();
 }
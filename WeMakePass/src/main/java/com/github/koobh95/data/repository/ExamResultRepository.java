@@ -1,8 +1,12 @@
 package com.github.koobh95.data.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.github.koobh95.data.model.entity.ExamResult;
+import com.github.koobh95.data.model.entity.mapping.ExamResultSheetMapping;
 
 /**
  * ExamResult 클래스와 대응되는 Repository 클래스.
@@ -11,5 +15,13 @@ import com.github.koobh95.data.model.entity.ExamResult;
  * @since 2024-01-07
  */
 public interface ExamResultRepository extends JpaRepository<ExamResult, Long> {
-
+	// 특정 시험의 모든 응시 결과에서 식별 번호, 답안, 불합격 사유, 총점만 조회
+	List<ExamResultSheetMapping> findByExamId(long examId);
+	
+	// 특정 시험의 응시 결과가 있는지 확인
+	boolean existsByExamId(long examId);
+	
+	// 응시 결과가 있는 모든 시험의 식별 번호를 조회
+	@Query("SELECT DISTINCT e.examId FROM ExamResult e")
+	List<Long> findExamIds();
 }
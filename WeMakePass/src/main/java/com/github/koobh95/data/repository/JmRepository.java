@@ -2,8 +2,11 @@ package com.github.koobh95.data.repository;
 
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.github.koobh95.data.model.entity.Jm;
@@ -21,6 +24,9 @@ public interface JmRepository extends JpaRepository<Jm, String>{
 	 * @param jmName 검색할 문자열
 	 * @return
 	 */
+	@QueryHints({
+			@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+			@QueryHint(name = "org.hibernate.cacheRegion", value = "query.jm") })
 	List<Jm> findByJmNameContaining(String jmName);
 	
 	/**
@@ -29,8 +35,11 @@ public interface JmRepository extends JpaRepository<Jm, String>{
 	 * @param keyword
 	 * @return
 	 */
+	@QueryHints({
+			@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+			@QueryHint(name = "org.hibernate.cacheRegion", value = "query.jm") })
 	@Query("SELECT jm FROM Jm jm "
-			+ "WHERE jm.jmCode = "
+			+ "WHERE jm.jmCode IN "
 			+ "(SELECT DISTINCT e.jmCode FROM ExamInfo e)"
 			+ " AND jm.jmName LIKE %:keyword%")
 	List<Jm> findByJmNameWithExamInfo(
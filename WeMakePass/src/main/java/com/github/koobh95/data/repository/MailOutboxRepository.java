@@ -0,0 +1,76 @@
+package com.github.koobh95.data.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.koobh95.data.model.entity.MailOutbox;
+import com.github.koobh95.data.model.enums.MailOutboxStatus;
+
+/**
+ * MailOutbox 클래스와 대응되는 Repository 클래스.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+	/**
+	 *  발송 대기 중이면서 다음 발송 시도 가능 시간이 지난 메일을 저장된 순서대로 조회한다. 만료된
+	 * 메일은 제외한다.
+	 * 
+	 * @param now 현재 시간
+	 * @param pageable 한 번에 조회할 메일 수
+	 */
+	@Query("SELECT e FROM MailOutbox e "
+			+ "WHERE e.status = com.github.koobh95.data.model.enums.MailOutboxStatus.PENDING "
+			+ "AND e.nextAttemptDate <= :now "
+			+ "AND (e.expireDate IS NULL OR e.expireDate > :now) "
+			+ "ORDER BY e.outboxNo")
+	List<MailOutbox> findDispatchable(@Param("now") LocalDateTime now, 
+			Pageable pageable);
+	
+	/**
+	 *  발송 대기 중이면서 만료 시간이 지난 메일을 FAILED 상태로 변경한다. 만료된 인증 코드가 남지 
+	 * 않도록 메일 내용은 비운다.
+	 * 
+	 * @param now 현재 시간
+	 * @param lastError 실패 사유
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE MailOutbox e "
+			+ "SET e.status = com.github.koobh95.data.model.enums.MailOutboxStatus.FAILED, "
+			+ "e.content = NULL, e.lastError = :lastError "
+			+ "WHERE e.status = com.github.koobh95.data.model.enums.MailOutboxStatus.PENDING "
+			+ "AND e.expireDate <= :now")
+	int markExpired(@Param("now") LocalDateTime now, 
+			@Param("lastError") String lastError);
+	
+	// 메일을 발송 완료 상태로 변경한다. 인증 코드가 남지 않도록 메일 내용은 비운다.
+	@Transactional
+	@Modifying
+	@Query("UPDATE MailOutbox e "
+			+ "SET e.status = com.github.koobh95.data.model.enums.MailOutboxStatus.SENT, "
+			+ "e.attempts = e.attempts + 1, e.sentDate = :sentDate, e.content = NULL "
+			+ "WHERE e.outboxNo = :outboxNo")
+	int markSent(@Param("outboxNo") long outboxNo, 
+			@Param("sentDate") LocalDateTime sentDate);
+	
+	// 발송 실패를 기록한다. 재시도할 경우 status는 PENDING, 포기할 경우 FAILED를 전달한다.
+	@Transactional
+	@Modifying
+	@Query("UPDATE MailOutbox e "
+			+ "SET e.status = :status, e.attempts = e.attempts + 1, "
+			+ "e.nextAttemptDate = :nextAttemptDate, e.lastError = :lastError "
+			+ "WHERE e.outboxNo = :outboxNo")
+	int markFailed(@Param("outboxNo") long outboxNo, 
+			@Param("status") MailOutboxStatus status,
+			@Param("nextAttemptDate") LocalDateTime nextAttemptDate,
+			@Param("lastError") String lastError);
+}
@@ -1,12 +1,19 @@
 package com.github.koobh95.data.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.github.koobh95.data.model.entity.Post;
+import com.github.koobh95.data.model.entity.mapping.PostIndexMapping;
 import com.github.koobh95.data.model.entity.mapping.PostMapping;
 
 /**
@@ -28,6 +35,31 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 	 */
 	Post findByPostNo(long postNo);
 	
+	/**
+	 * - 게시글의 댓글 수를 1 증가시킨다.
+	 * - 엔티티를 읽어 값을 변경하지 않고 UPDATE 문 하나로 처리하여 동시에 댓글이 작성되더라도 
+	 *  갱신이 유실되지 않도록 한다. 호출하는 측의 트랜잭션 안에서 실행되어야 한다.
+	 * 
+	 * @param postNo 댓글이 작성된 게시글의 고유 식별 번호
+	 * @return 갱신된 행의 수
+	 */
+	@Modifying
+	@Query("UPDATE Post e SET e.replyCount = e.replyCount + 1 "
+			+ "WHERE e.postNo = :postNo")
+	int increaseReplyCount(@Param("postNo") long postNo);
+	
+	/**
+	 * - 게시글의 댓글 수를 1 감소시킨다.
+	 * - 호출하는 측의 트랜잭션 안에서 실행되어야 한다.
+	 * 
+	 * @param postNo 댓글이 삭제된 게시글의 고유 식별 번호
+	 * @return 갱신된 행의 수
+	 */
+	@Modifying
+	@Query("UPDATE Post e SET e.replyCount = e.replyCount - 1 "
+			+ "WHERE e.postNo = :postNo AND e.replyCount > 0")
+	int decreaseReplyCount(@Param("postNo") long postNo);
+	
 	/**
 	 * - 특정 게시판의 게시글을 조회
 	 * - 삭제된 게시글은 조회 대상에서 제외
@@ -59,6 +91,44 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 			@Param("boardNo") long boardNo, 
 			@Param("category") String category);
 	
+	/**
+	 * - 특정 게시판의 게시글 중 특정 게시글 번호보다 작은 번호를 가진 게시글을 조회(Keyset 페이징)
+	 * - OFFSET 없이 (board_no, delete_date, post_no) 인덱스를 따라 읽고 Slice로 반환하므로
+	 *  COUNT 쿼리가 실행되지 않는다.
+	 * - 삭제된 게시글은 조회 대상에서 제외
+	 * 
+	 * @param pageable 정렬과 조회할 개수만 사용하며 페이지 번호는 항상 0이다.
+	 * @param boardNo 조회할 게시판의 고유 식별 번호
+	 * @param cursor 이전에 읽은 마지막 게시글의 고유 식별 번호
+	 * @return
+	 */
+	@Query("SELECT e FROM Post e "
+			+ "WHERE e.boardNo = :boardNo AND e.deleteDate IS NULL "
+			+ "AND e.postNo < :cursor")
+	Slice<PostMapping> findByBoardNoBeforePostNo(Pageable pageable, 
+			@Param("boardNo") long boardNo,
+			@Param("cursor") long cursor);
+	
+	/**
+	 * - 특정 게시판, 특정 카테고리의 게시글 중 특정 게시글 번호보다 작은 번호를 가진 게시글을 
+	 *  조회(Keyset 페이징)
+	 * - 삭제된 게시글은 조회 대상에서 제외
+	 * 
+	 * @param pageable 정렬과 조회할 개수만 사용하며 페이지 번호는 항상 0이다.
+	 * @param boardNo 조회할 게시판의 고유 식별 번호
+	 * @param category 조회할 카테고리
+	 * @param cursor 이전에 읽은 마지막 게시글의 고유 식별 번호
+	 * @return
+	 */
+	@Query("SELECT e FROM Post e "
+			+ "WHERE e.boardNo = :boardNo AND e.deleteDate IS NULL "
+			+ "AND e.category = :category AND e.postNo < :cursor")
+	Slice<PostMapping> findByBoardNoAndCategoryBeforePostNo(
+			Pageable pageable, 
+			@Param("boardNo") long boardNo, 
+			@Param("category") String category,
+			@Param("cursor") long cursor);
+	
 	/**
 	 * - 특정 게시판에서 게시글의 제목과 키워드가 부분 일치하는 게시글을 조회
 	 * - 삭제된 게시글은 조회 대상에서 제외
@@ -69,8 +139,9 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 	 * @return
 	 */
 	@Query("SELECT e FROM Post e "
-			+ "WHERE e.boardNo = :boardNo AND e.title LIKE %:keyword% "
-			+ "OR e.content LIKE %:keyword% AND e.deleteDate IS NULL")
+			+ "WHERE e.boardNo = :boardNo "
+			+ "AND (e.title LIKE %:keyword% OR e.content LIKE %:keyword%) "
+			+ "AND e.deleteDate IS NULL")
 	Page<PostMapping> searchByTitleAndContent(
 			Pageable pageable,
 			@Param("boardNo") long boardNo,
@@ -163,11 +234,89 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 	 */
 	@Query("SELECT e FROM Post e "
 			+ "WHERE e.boardNo = :boardNo AND e.category = :category "
-			+ "AND e.title LIKE %:keyword% OR e.content LIKE %:keyword% "
+			+ "AND (e.title LIKE %:keyword% OR e.content LIKE %:keyword%) "
 			+ "AND e.deleteDate IS NULL")
 	Page<PostMapping> searchByCategoryAndTitleAndContent(
 			Pageable pageable,
 			@Param("boardNo") long boardNo,
 			@Param("category") String category,
 			@Param("keyword") String keyword);
+	
+	/**
+	 * - 게시글 검색 색인을 구축하기 위해 특정 게시글 번호보다 큰 번호를 가진 게시글을 조회
+	 * - 삭제된 게시글은 조회 대상에서 제외
+	 * 
+	 * @param pageable 정렬과 조회할 개수만 사용하며 페이지 번호는 항상 0이다.
+	 * @param after 이전에 읽은 마지막 게시글의 고유 식별 번호
+	 * @return
+	 */
+	@Query("SELECT e.postNo AS postNo, e.boardNo AS boardNo, "
+			+ "e.title AS title, e.content AS content FROM Post e "
+			+ "WHERE e.deleteDate IS NULL AND e.postNo > :after")
+	Slice<PostIndexMapping> findForIndex(Pageable pageable, 
+			@Param("after") long after);
+	
+	/**
+	 * - 검색 색인으로 얻은 후보 게시글 중 제목과 키워드가 실제로 부분 일치하는 게시글 번호를 조회
+	 * - 후보 게시글을 기본 키로 조회한 뒤 비교하므로 전체 테이블을 읽지 않는다.
+	 * - category가 null이라면 카테고리로 제한하지 않는다.
+	 * 
+	 * @param postNos 후보 게시글 번호 목록, Oracle IN 절의 제한으로 1000개를 넘을 수 없다.
+	 * @param category 조회할 카테고리
+	 * @param keyword 검색어
+	 * @return
+	 */
+	@Query("SELECT e.postNo FROM Post e "
+			+ "WHERE e.postNo IN :postNos AND e.deleteDate IS NULL "
+			+ "AND (:category IS NULL OR e.category = :category) "
+			+ "AND e.title LIKE %:keyword%")
+	List<Long> filterByTitle(
+			@Param("postNos") Collection<Long> postNos,
+			@Param("category") String category,
+			@Param("keyword") String keyword);
+	
+	/**
+	 * 검색 색인으로 얻은 후보 게시글 중 내용과 키워드가 실제로 부분 일치하는 게시글 번호를 조회
+	 * 
+	 * @param postNos 후보 게시글 번호 목록
+	 * @param category 조회할 카테고리, null이라면 카테고리로 제한하지 않는다.
+	 * @param keyword 검색어
+	 * @return
+	 */
+	@Query("SELECT e.postNo FROM Post e "
+			+ "WHERE e.postNo IN :postNos AND e.deleteDate IS NULL "
+			+ "AND (:category IS NULL OR e.category = :category) "
+			+ "AND e.content LIKE %:keyword%")
+	List<Long> filterByContent(
+			@Param("postNos") Collection<Long> postNos,
+			@Param("category") String category,
+			@Param("keyword") String keyword);
+	
+	/**
+	 * 검색 색인으로 얻은 후보 게시글 중 제목 혹은 내용과 키워드가 실제로 부분 일치하는 게시글 번호를 조회
+	 * 
+	 * @param postNos 후보 게시글 번호 목록
+	 * @param category 조회할 카테고리, null이라면 카테고리로 제한하지 않는다.
+	 * @param keyword 검색어
+	 * @return
+	 */
+	@Query("SELECT e.postNo FROM Post e "
+			+ "WHERE e.postNo IN :postNos AND e.deleteDate IS NULL "
+			+ "AND (:category IS NULL OR e.category = :category) "
+			+ "AND (e.title LIKE %:keyword% OR e.content LIKE %:keyword%)")
+	List<Long> filterByTitleOrContent(
+			@Param("postNos") Collection<Long> postNos,
+			@Param("category") String category,
+			@Param("keyword") String keyword);
+	
+	/**
+	 * 게시글 번호 목록에 해당하는 게시글을 조회
+	 * 
+	 * @param postNos 조회할 게시글 번호 목록
+	 * @param sort
+	 * @return
+	 */
+	@Query("SELECT e FROM Post e WHERE e.postNo IN :postNos")
+	List<PostMapping> findByPostNoIn(
+			@Param("postNos") Collection<Long> postNos, Sort sort);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.github.koobh95.data.model.entity.Reply;
+import com.github.koobh95.data.model.entity.mapping.ReplyTreeMapping;
 
 /**
  * Reply Entity 클래스와 대응되는 Repository 클래스
@@ -19,13 +20,20 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
 	Reply findByReplyNo(long replyNo);
 	
 	/**
-	 * 특정 게시글의 댓글 목록을 조회하되 대댓글이 아닌 댓글을 대상으로 조회.
+	 * - 특정 게시글의 모든 댓글(답글 포함)을 작성자의 닉네임과 함께 하나의 쿼리로 조회.
+	 * - 상위 댓글 번호, 댓글 번호 순으로 정렬되므로 상위 댓글(-1)이 먼저 조회되고, 이어서 답글이 상위 
+	 *  댓글별로 작성 순서대로 조회된다.
+	 * - 탈퇴 등으로 작성자 정보가 없더라도 댓글이 누락되지 않도록 LEFT JOIN을 사용한다.
 	 * 
 	 * @param postNo 조회할 게시글의 고유 식별 번호
 	 * @return
 	 */
-	@Query("SELECT e FROM Reply e "
-			+ "WHERE e.postNo = :postNo AND e.parentReplyNo = -1 "
-			+ "ORDER BY e.replyNo")
-	List<Reply> findByPostNo(@Param("postNo") long postNo);
+	@Query("SELECT e.replyNo AS replyNo, e.parentReplyNo AS parentReplyNo, "
+			+ "e.writer AS writer, u.nickname AS nickname, "
+			+ "e.content AS content, e.regDate AS regDate, "
+			+ "e.deleteDate AS deleteDate "
+			+ "FROM Reply e LEFT JOIN e.user u "
+			+ "WHERE e.postNo = :postNo "
+			+ "ORDER BY e.parentReplyNo, e.replyNo")
+	List<ReplyTreeMapping> findTreeByPostNo(@Param("postNo") long postNo);
 }
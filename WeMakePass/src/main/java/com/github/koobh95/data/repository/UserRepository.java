@@ -3,6 +3,10 @@ package com.github.koobh95.data.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.github.koobh95.data.model.entity.User;
 
@@ -18,4 +22,23 @@ public interface UserRepository extends JpaRepository<User, String>{
 
 	// 특정 이메일을 가진 유저를 조회한다.
 	Optional<User> findByEmail(String email);
+	
+	/**
+	 * - 현재 비밀번호를 이전 비밀번호로 옮기고 새로운 비밀번호로 변경한다.
+	 * - 비밀번호 검증 이후 다른 요청에 의해 비밀번호가 먼저 변경되었다면 갱신하지 않도록 검증에 사용한
+	 *  비밀번호(currentPassword)와 일치하는 경우에만 변경한다.
+	 * 
+	 * @param userId 사용자 아이디
+	 * @param currentPassword 검증에 사용한 현재 비밀번호(단방향 암호화)
+	 * @param newPassword 변경할 비밀번호(단방향 암호화)
+	 * @return 변경된 행의 수
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE User e "
+			+ "SET e.lastPassword = e.password, e.password = :newPassword "
+			+ "WHERE e.userId = :userId AND e.password = :currentPassword")
+	int updatePassword(@Param("userId") String userId, 
+			@Param("currentPassword") String currentPassword, 
+			@Param("newPassword") String newPassword);
 }
@@ -0,0 +1,22 @@
+package com.github.koobh95.exception;
+
+import com.github.koobh95.base.BaseException;
+import com.github.koobh95.data.model.enums.ErrorCode;
+
+/**
+ * 비동기 API의 작업을 I/O 전용 스레드 풀에 제출할 수 없을 때(작업 대기열 포화) 던지는 Exception 클래스.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class AsyncTaskException extends BaseException {
+
+	public AsyncTaskException(ErrorCode errorCode, String errorMessage) {
+		super(errorCode, errorMessage);
+	}
+
+	@Override
+	public String toString() {
+		return "AsyncTaskException [" + super.toString() + "]";
+	}
+}
@@ -0,0 +1,22 @@
+package com.github.koobh95.exception;
+
+import com.github.koobh95.base.BaseException;
+import com.github.koobh95.data.model.enums.ErrorCode;
+
+/**
+ * 시험 통계를 조회할 수 없을 때(통계를 만드는 중, 응시 결과가 없는 시험) 던지는 Exception 클래스.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class ExamStatsException extends BaseException {
+
+	public ExamStatsException(ErrorCode errorCode, String errorMessage) {
+		super(errorCode, errorMessage);
+	}
+
+	@Override
+	public String toString() {
+		return "ExamStatsException [" + super.toString() + "]";
+	}
+}
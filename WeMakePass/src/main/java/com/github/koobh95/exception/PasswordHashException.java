@@ -0,0 +1,22 @@
+package com.github.koobh95.exception;
+
+import com.github.koobh95.base.BaseException;
+import com.github.koobh95.data.model.enums.ErrorCode;
+
+/**
+ * 비밀번호 해시 작업을 처리할 수 없을 때(작업 대기열 포화 등) 던지는 Exception 클래스.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class PasswordHashException extends BaseException {
+
+	public PasswordHashException(ErrorCode errorCode, String errorMessage) {
+		super(errorCode, errorMessage);
+	}
+
+	@Override
+	public String toString() {
+		return "PasswordHashException [" + super.toString() + "]";
+	}
+}
@@ -3,29 +3,38 @@ package com.github.koobh95.exception.handler;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 import com.github.koobh95.data.model.dto.response.ErrorResponse;
 import com.github.koobh95.data.model.enums.ErrorCode;
 import com.github.koobh95.exception.AccountValidationException;
 import com.github.koobh95.exception.AesDecryptException;
 import com.github.koobh95.exception.AesEncryptException;
+import com.github.koobh95.exception.AsyncTaskException;
+import com.github.koobh95.exception.ExamStatsException;
 import com.github.koobh95.exception.JwtReissueException;
 import com.github.koobh95.exception.LoginException;
 import com.github.koobh95.exception.MailServiceException;
+import com.github.koobh95.exception.PasswordHashException;
 import com.github.koobh95.exception.PostException;
 import com.github.koobh95.exception.ReplyException;
 import com.github.koobh95.exception.SignUpException;
 import com.github.koobh95.exception.UserModifyException;
+import com.github.koobh95.metrics.MetricsRegistry;
+
+import lombok.RequiredArgsConstructor;
 
 /**
  *  Controller, Service 단에서 요청을 처리할 수 없을 때 인위적으로 발생시키는 Exception을 
- * 캐치하는 ExceptionHandler 클래스.
+ * 캐치하는 ExceptionHandler 클래스. 반환하는 ErrorCode는 MetricsRegistry에 기록한다.
  * 
  * @author BH-Ku
  * @since 2023-12-23
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class CustomExceptionHandler {
+	private final MetricsRegistry metricsRegistry;
 	
 	// 암호화 실패
 	@ExceptionHandler(AesEncryptException.class)
@@ -83,6 +92,34 @@ public class CustomExceptionHandler {
 		return createErrorResponseEntity(e.getErrorCode());
 	}
 	
+	// 비밀번호 해시 작업 대기열이 가득 차 요청을 거절
+	@ExceptionHandler(PasswordHashException.class)
+	protected ResponseEntity<ErrorResponse> passwordHashException(
+			PasswordHashException e) {
+		return createErrorResponseEntity(e.getErrorCode());
+	}
+	
+	// 비동기 API의 I/O 작업 대기열이 가득 차 요청을 거절
+	@ExceptionHandler(AsyncTaskException.class)
+	protected ResponseEntity<ErrorResponse> asyncTaskException(
+			AsyncTaskException e) {
+		return createErrorResponseEntity(e.getErrorCode());
+	}
+	
+	// 시험 통계를 만드는 중이거나 응시 결과가 없는 시험
+	@ExceptionHandler(ExamStatsException.class)
+	protected ResponseEntity<ErrorResponse> examStatsException(
+			ExamStatsException e) {
+		return createErrorResponseEntity(e.getErrorCode());
+	}
+	
+	// 비동기 API의 처리 시간이 ServletConfig에 설정된 제한 시간을 초과
+	@ExceptionHandler(AsyncRequestTimeoutException.class)
+	protected ResponseEntity<ErrorResponse> asyncRequestTimeoutException(
+			AsyncRequestTimeoutException e) {
+		return createErrorResponseEntity(ErrorCode.ASYNC_REQUEST_TIMEOUT);
+	}
+	
 	// 게시글 관련 비지니스 로직 처리 중 발생하는 예외
 	@ExceptionHandler(PostException.class)
 	protected ResponseEntity<ErrorResponse> postException(
@@ -100,6 +137,7 @@ public class CustomExceptionHandler {
 	// 파라미터로 받은 ErrorCode에 따른 ErrorResponse를 생성, ResponseEntity에 세팅하여 반환.
 	private ResponseEntity<ErrorResponse> createErrorResponseEntity (
 			ErrorCode errorCode) {
+		metricsRegistry.recordError(errorCode);
 		return ResponseEntity.status(errorCode.getHttpStatus())
 				.body(ErrorResponse.of(errorCode));
 	}
@@ -13,6 +13,7 @@ import org.springframework.util.StringUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.koobh95.data.model.dto.response.ErrorResponse;
 import com.github.koobh95.data.model.enums.ErrorCode;
+import com.github.koobh95.metrics.MetricsRegistry;
 import com.github.koobh95.security.filter.JwtAuthenticationFilter;
 
 import lombok.extern.log4j.Log4j2;
@@ -20,6 +21,7 @@ import lombok.extern.log4j.Log4j2;
 /**
  * - JWT 인증 실패를 처리하기 위해 생성된 클래스.
  * - SecurityConfig 클래스에서 bean으로 등록된다.
+ * - 반환하는 ErrorCode는 MetricsRegistry에 기록한다.
  * - 발생한 에러를 확인하여 JWT 인증 실패가 원인일 경우 반환할 Response를 수정한다. 
  * - JWT를 파싱하는 커스텀 필터인 JwtAuthenticationFilter에서 Token을 파싱하는데 실패했을 경우
  *  FilterSecurityInterceptor에서 SecurityContext를 확인했을 때 인증 객체
@@ -32,6 +34,11 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 	private final ObjectMapper objMapper = new ObjectMapper();
+	private final MetricsRegistry metricsRegistry;
+	
+	public JwtAuthenticationEntryPoint(MetricsRegistry metricsRegistry) {
+		this.metricsRegistry = metricsRegistry;
+	}
 
 	/**
 	 *  이 메서드가 호출되었다는 것은 클라이언트로부터 받은 요청이 인증된 자원에 접근하려고 했으나 시큐리티
@@ -74,9 +81,9 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 	 * @return
 	 */
 	private ErrorResponse createErrorResponse(String errorCode) {
-		String errMsg = errorCode.equals(ErrorCode.EXPIRED_ACCESS_TOKEN.name())
-				? ErrorCode.EXPIRED_ACCESS_TOKEN.getMessage()
-						: ErrorCode.INVALID_ACCESS_TOKEN.getMessage();
-		return new ErrorResponse(errorCode, errMsg);
+		ErrorCode code = errorCode.equals(ErrorCode.EXPIRED_ACCESS_TOKEN.name())
+				? ErrorCode.EXPIRED_ACCESS_TOKEN : ErrorCode.INVALID_ACCESS_TOKEN;
+		metricsRegistry.recordError(code);
+		return new ErrorResponse(errorCode, code.getMessage());
 	}
 }
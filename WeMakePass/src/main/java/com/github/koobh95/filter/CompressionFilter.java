@@ -0,0 +1,126 @@
+package com.github.koobh95.filter;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.MimeType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import com.github.koobh95.util.CompressionUtil;
+
+/**
+ * - 응답 본문을 gzip 혹은 deflate로 압축하는 필터 클래스. WebConfig에서 등록된다.
+ * - 응답 본문을 메모리에 모은 뒤, 본문이 MIN_COMPRESS_SIZE 이상인 JSON, 텍스트 응답이고
+ *  클라이언트가 압축을 허용했다면(Accept-Encoding) 압축하여 응답한다.
+ * - 이미 Content-Encoding이 지정된 응답(미리 압축된 캐시 데이터 등)은 그대로 응답한다.
+ * - 압축하면 본문이 달라지므로 강한(strong) ETag는 약한(weak) ETag로 변경한다. If-None-Match의
+ *  비교는 약한 비교이므로 조건부 요청은 그대로 동작한다.
+ * - 비동기 요청은 최초 요청에서 감싼 응답 객체가 ASYNC 디스패치에도 전달되므로, 비동기 처리가
+ *  끝난 뒤 한 번만 압축한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request,
+			HttpServletResponse response, FilterChain filterChain)
+					throws ServletException, IOException {
+		HttpServletResponse responseToUse = response;
+		if(!isAsyncDispatch(request)
+				&& !(response instanceof ContentCachingResponseWrapper))
+			responseToUse = new ContentCachingResponseWrapper(response);
+
+		filterChain.doFilter(request, responseToUse);
+
+		if(!isAsyncStarted(request))
+			writeResponse(request, responseToUse);
+	}
+
+	/**
+	 * 모아둔 응답 본문을 압축 여부를 판단하여 실제 응답으로 작성한다.
+	 */
+	private void writeResponse(HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		ContentCachingResponseWrapper wrapper = WebUtils.getNativeResponse(
+				response, ContentCachingResponseWrapper.class);
+		if(wrapper == null)
+			return;
+
+		HttpServletResponse rawResponse = (HttpServletResponse)wrapper.getResponse();
+		String encoding = CompressionUtil.selectEncoding(
+				request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+		
+		// 압축된 응답을 받았던 클라이언트에게는 304 응답의 헤더도 압축된 응답과 같게 한다.
+		if(wrapper.getStatus() == HttpServletResponse.SC_NOT_MODIFIED 
+				&& encoding != null && rawResponse.containsHeader(HttpHeaders.ETAG)) {
+			addVary(rawResponse);
+			weakenETag(rawResponse);
+		}
+		
+		if(!isCompressible(wrapper)) {
+			wrapper.copyBodyToResponse();
+			return;
+		}
+
+		addVary(rawResponse);
+		if(encoding == null) {
+			wrapper.copyBodyToResponse();
+			return;
+		}
+
+		byte[] compressed = CompressionUtil.compress(
+				wrapper.getContentAsByteArray(), encoding);
+		weakenETag(rawResponse);
+		rawResponse.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+		rawResponse.setContentLength(compressed.length);
+		rawResponse.getOutputStream().write(compressed);
+		rawResponse.flushBuffer();
+	}
+
+	// Vary 헤더에 Accept-Encoding이 없다면 추가한다.
+	private void addVary(HttpServletResponse response) {
+		for(String vary : response.getHeaders(HttpHeaders.VARY))
+			if(vary.contains(HttpHeaders.ACCEPT_ENCODING))
+				return;
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+	}
+	
+	// 강한(strong) ETag를 약한(weak) ETag로 변경한다.
+	private void weakenETag(HttpServletResponse response) {
+		String etag = response.getHeader(HttpHeaders.ETAG);
+		if(etag != null && !etag.startsWith("W/"))
+			response.setHeader(HttpHeaders.ETAG, "W/" + etag);
+	}
+
+	/**
+	 * 정상 응답이고, 압축되지 않은 JSON 혹은 텍스트 본문이 MIN_COMPRESS_SIZE 이상인지 여부
+	 */
+	private boolean isCompressible(ContentCachingResponseWrapper wrapper) {
+		if(wrapper.getStatus() != HttpServletResponse.SC_OK
+				|| wrapper.getContentSize() < CompressionUtil.MIN_COMPRESS_SIZE
+				|| wrapper.getResponse().isCommitted()
+				|| wrapper.containsHeader(HttpHeaders.CONTENT_ENCODING))
+			return false;
+
+		String contentType = wrapper.getContentType();
+		if(contentType == null)
+			return false;
+		MimeType mimeType = MimeType.valueOf(contentType);
+		return "text".equals(mimeType.getType())
+				|| "json".equals(mimeType.getSubtype())
+				|| mimeType.getSubtype().endsWith("+json");
+	}
+}
@@ -1,5 +1,6 @@
 package com.github.koobh95.interceptor;
 
+import javax.servlet.DispatcherType;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -18,6 +19,8 @@ import com.github.koobh95.exception.AccountValidationException;
  * - 보안이 적용된 자원인지 판단하는 기준은 Controller 클래스가 가진 메소드에 LoginRequired
  *  어노테이션이 적용되었는지에 따라 결정된다.
  * - 검증할 데이터는 SecurityContext에 저장된 Authentication 객체를 사용한다. 
+ * - 비동기 요청(CompletableFuture 반환)의 결과를 처리하기 위한 ASYNC 디스패치는 최초 요청에서 
+ *  이미 검증을 마쳤으므로 다시 검증하지 않는다.
  * 
  * @author BH-Ku
  * @since 2023-12-28
@@ -27,6 +30,9 @@ public class AccountValidationInterceptor implements HandlerInterceptor {
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
 			throws Exception {
+		if(request.getDispatcherType() == DispatcherType.ASYNC)
+			return true;
+		
 		HandlerMethod handlerMethod = (HandlerMethod) handler;
 		if(handlerMethod.getMethodAnnotation(LoginRequired.class) != null) {
 			Authentication authentication = 
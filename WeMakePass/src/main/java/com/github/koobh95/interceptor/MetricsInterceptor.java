@@ -0,0 +1,56 @@
+package com.github.koobh95.interceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.github.koobh95.metrics.MetricsRegistry;
+
+/**
+ * - 요청이 Controller에 도달한 시점부터 응답이 완료될 때까지의 시간과 응답 상태 코드를 API별로
+ *  MetricsRegistry에 기록한다.
+ * - 비동기 요청(CompletableFuture 반환)은 최초 요청에서 시작 시간을 저장하고 결과를 처리하는 ASYNC
+ *  디스패치가 완료될 때 기록하므로, 비동기 작업이 처리되는 시간까지 포함된다.
+ * - 시큐리티 필터에서 거절된 요청은 Controller에 도달하지 않으므로 기록되지 않는다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class MetricsInterceptor implements AsyncHandlerInterceptor {
+	private static final String START_TIME_ATTRIBUTE_NAME =
+			MetricsInterceptor.class.getName() + ".START_TIME";
+
+	private final MetricsRegistry metricsRegistry;
+
+	public MetricsInterceptor(MetricsRegistry metricsRegistry) {
+		this.metricsRegistry = metricsRegistry;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request,
+			HttpServletResponse response, Object handler) throws Exception {
+		if(request.getDispatcherType() != DispatcherType.ASYNC)
+			request.setAttribute(START_TIME_ATTRIBUTE_NAME, System.nanoTime());
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request,
+			HttpServletResponse response, Object handler, Exception ex)
+					throws Exception {
+		Object startTime = request.getAttribute(START_TIME_ATTRIBUTE_NAME);
+		if(!(startTime instanceof Long))
+			return;
+
+		metricsRegistry.recordRequest(
+				HttpMethod.resolve(request.getMethod()),
+				(String)request.getAttribute(
+						HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+				response.getStatus(),
+				System.nanoTime() - (Long)startTime);
+	}
+}
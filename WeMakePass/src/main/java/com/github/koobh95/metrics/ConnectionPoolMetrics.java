@@ -0,0 +1,98 @@
+package com.github.koobh95.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * - 커넥션 풀(HikariCP)의 상태와 커넥션 획득 대기 시간을 수집한다.
+ * - 활성/유휴/전체 커넥션 수와 커넥션을 기다리는 스레드 수는 풀이 제공하는 PoolStats에서 읽고,
+ *  커넥션 획득에 걸린 시간과 타임아웃 횟수는 풀이 호출하는 IMetricsTracker로 누적한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class ConnectionPoolMetrics implements MetricsTrackerFactory {
+	private volatile PoolStats poolStats;
+	
+	private final LongAdder acquireCount = new LongAdder(); // 커넥션 획득 횟수
+	private final LongAdder acquireNanos = new LongAdder(); // 커넥션 획득 대기 시간 합계
+	private final LongAccumulator maxAcquireNanos = 
+			new LongAccumulator(Math::max, 0); // 가장 길었던 획득 대기 시간
+	private final LongAdder timeoutCount = new LongAdder(); // 커넥션 획득 타임아웃 횟수
+	private final LongAdder usageMillis = new LongAdder(); // 커넥션 사용 시간 합계
+	
+	@Override
+	public IMetricsTracker create(String poolName, PoolStats poolStats) {
+		this.poolStats = poolStats;
+		return new IMetricsTracker() {
+			@Override
+			public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+				acquireCount.increment();
+				acquireNanos.add(elapsedAcquiredNanos);
+				maxAcquireNanos.accumulate(elapsedAcquiredNanos);
+			}
+			
+			@Override
+			public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+				usageMillis.add(elapsedBorrowedMillis);
+			}
+			
+			@Override
+			public void recordConnectionTimeout() {
+				timeoutCount.increment();
+			}
+		};
+	}
+	
+	// 사용 중인 커넥션 수
+	public int getActiveConnections() {
+		PoolStats stats = poolStats;
+		return stats == null ? 0 : stats.getActiveConnections();
+	}
+	
+	// 유휴 상태의 커넥션 수
+	public int getIdleConnections() {
+		PoolStats stats = poolStats;
+		return stats == null ? 0 : stats.getIdleConnections();
+	}
+	
+	// 풀이 가진 전체 커넥션 수
+	public int getTotalConnections() {
+		PoolStats stats = poolStats;
+		return stats == null ? 0 : stats.getTotalConnections();
+	}
+	
+	// 커넥션을 얻기 위해 대기 중인 스레드 수
+	public int getPendingThreads() {
+		PoolStats stats = poolStats;
+		return stats == null ? 0 : stats.getPendingThreads();
+	}
+	
+	public long getAcquireCount() {
+		return acquireCount.sum();
+	}
+	
+	// 커넥션 획득 대기 시간의 합계(ms)
+	public double getTotalAcquireMillis() {
+		return acquireNanos.sum() / (double)TimeUnit.MILLISECONDS.toNanos(1);
+	}
+	
+	// 커넥션 획득 대기 시간의 최대값(ms)
+	public double getMaxAcquireMillis() {
+		return maxAcquireNanos.get() / (double)TimeUnit.MILLISECONDS.toNanos(1);
+	}
+	
+	public long getTimeoutCount() {
+		return timeoutCount.sum();
+	}
+	
+	// 커넥션 사용 시간의 합계(ms)
+	public long getTotalUsageMillis() {
+		return usageMillis.sum();
+	}
+}
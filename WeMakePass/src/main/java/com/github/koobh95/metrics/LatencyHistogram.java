@@ -0,0 +1,117 @@
+package com.github.koobh95.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * - 응답 시간과 같은 지연 시간(latency)의 분포를 기록하는 히스토그램.
+ * - HdrHistogram과 같은 로그-선형(log-linear) 버킷을 사용한다. 값(마이크로초)이 SUB_BUCKET_COUNT
+ *  미만이면 값 자체가 버킷 번호가 되고, 그 이상이면 2의 거듭제곱 구간마다 HALF_SUB_BUCKET_COUNT개의
+ *  버킷으로 나눈다. 따라서 모든 구간에서 상대 오차가 약 3% 이내로 유지된다.
+ * - 기록 시에는 버킷 번호를 비트 연산으로 계산하여 배열의 값을 1 증가시킬 뿐이므로 객체를 생성하지
+ *  않는다. 백분위 수는 조회 시점에 버킷을 순회하여 계산한다.
+ * - MAX_VALUE를 넘는 값은 마지막 버킷에 기록된다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS; // 64
+	private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1; // 32
+	private static final int MAX_VALUE_BITS = 36; // 약 19시간(마이크로초)
+	private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+	private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder totalCount = new LongAdder();
+	private final LongAdder totalMicros = new LongAdder();
+	private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * 나노초 단위로 측정한 지연 시간을 기록한다.
+	 *
+	 * @param nanos 지연 시간(ns), 음수라면 0으로 기록한다.
+	 */
+	public void recordNanos(long nanos) {
+		long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+		counts.incrementAndGet(bucketIndex(Math.min(micros, MAX_VALUE)));
+		totalCount.increment();
+		totalMicros.add(micros);
+		maxMicros.accumulate(micros);
+	}
+
+	// 기록된 값의 수
+	public long getCount() {
+		return totalCount.sum();
+	}
+
+	// 기록된 값의 합계(초)
+	public double getSumSeconds() {
+		return totalMicros.sum() / 1e6;
+	}
+
+	// 기록된 값 중 최대값(초)
+	public double getMaxSeconds() {
+		return maxMicros.get() / 1e6;
+	}
+
+	/**
+	 * - 여러 백분위 수를 한 번의 버킷 순회로 계산하여 반환한다.
+	 * - 각 백분위 수는 해당 순위의 값이 속한 버킷의 중간값이며, 기록된 값이 없다면 0을 반환한다.
+	 *
+	 * @param quantiles 오름차순으로 정렬된 백분위(0~1)
+	 * @return quantiles와 같은 순서의 백분위 수(초)
+	 */
+	public double[] getQuantileSeconds(double... quantiles) {
+		final int length = counts.length();
+		long[] snapshot = new long[length];
+		long total = 0;
+		for(int i = 0; i < length; i++) {
+			snapshot[i] = counts.get(i);
+			total += snapshot[i];
+		}
+
+		double[] values = new double[quantiles.length];
+		if(total == 0)
+			return values;
+
+		long cumulative = 0;
+		int q = 0;
+		for(int i = 0; i < length && q < quantiles.length; i++) {
+			cumulative += snapshot[i];
+			while(q < quantiles.length &&
+					cumulative >= Math.max(1, (long)Math.ceil(quantiles[q] * total))) {
+				values[q++] = bucketMidpoint(i) / 1e6;
+			}
+		}
+		return values;
+	}
+
+	// 값(마이크로초)이 속하는 버킷 번호를 반환한다.
+	private static int bucketIndex(long value) {
+		if(value < SUB_BUCKET_COUNT)
+			return (int)value;
+
+		int msb = 63 - Long.numberOfLeadingZeros(value);
+		int shift = msb - (SUB_BUCKET_BITS - 1);
+		int subBucket = (int)(value >>> shift); // HALF_SUB_BUCKET_COUNT 이상, SUB_BUCKET_COUNT 미만
+		return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT +
+				(subBucket - HALF_SUB_BUCKET_COUNT);
+	}
+
+	// 버킷이 나타내는 값 범위의 중간값(마이크로초)을 반환한다.
+	private static double bucketMidpoint(int index) {
+		if(index < SUB_BUCKET_COUNT)
+			return index;
+
+		int offset = index - SUB_BUCKET_COUNT;
+		int shift = offset / HALF_SUB_BUCKET_COUNT + 1;
+		long subBucket = offset % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+		long lower = subBucket << shift;
+		long upper = (subBucket + 1) << shift;
+		return (lower + upper - 1) / 2.0;
+	}
+}
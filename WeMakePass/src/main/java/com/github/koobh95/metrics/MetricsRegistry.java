@@ -0,0 +1,196 @@
+package com.github.koobh95.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.springframework.http.HttpMethod;
+
+import com.github.koobh95.data.model.enums.ErrorCode;
+
+/**
+ * - 요청 처리 시간, 요청 수, ErrorCode별 에러 수, DB Statement 실행 시간을 수집한다.
+ * - API는 "HTTP 메서드 + 요청이 매핑된 URI 패턴"으로 구분한다. 실제 URI가 아닌 패턴을 사용하므로
+ *  경로 변수가 있어도 API 수만큼만 통계가 생성된다.
+ * - 요청마다 호출되므로 기록 과정에서 문자열 결합, 박싱 등으로 객체를 생성하지 않도록 HTTP 메서드,
+ *  응답 상태 코드, ErrorCode는 모두 배열의 인덱스로 사용한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class MetricsRegistry {
+	public static final String UNMATCHED_URI = "UNMATCHED"; // 매핑되지 않은 요청의 URI
+	private static final HttpMethod[] HTTP_METHODS = HttpMethod.values();
+
+	// URI 패턴별, HTTP 메서드별 API 통계
+	private final Map<String, AtomicReferenceArray<EndpointMetrics>> endpoints =
+			new ConcurrentHashMap<>();
+	// ErrorCode별 에러 발생 수, ErrorCode의 ordinal을 인덱스로 사용한다.
+	private final LongAdder[] errorCounts = newAdders(ErrorCode.values().length);
+	// 실행 종류별 DB Statement 실행 시간
+	private final LatencyHistogram[] statementLatencies =
+			new LatencyHistogram[StatementType.values().length];
+	private final LongAdder statementErrors = new LongAdder();
+
+	public MetricsRegistry() {
+		for(int i = 0; i < statementLatencies.length; i++)
+			statementLatencies[i] = new LatencyHistogram();
+	}
+
+	/**
+	 * 처리가 완료된 요청을 기록한다.
+	 *
+	 * @param method HTTP 메서드, 알 수 없는 메서드라면 null
+	 * @param uriPattern 요청이 매핑된 URI 패턴, 매핑되지 않았다면 null
+	 * @param status 응답 상태 코드
+	 * @param nanos 요청 처리 시간(ns)
+	 */
+	public void recordRequest(HttpMethod method, String uriPattern, int status,
+			long nanos) {
+		if(method == null)
+			return;
+
+		EndpointMetrics metrics = endpoint(method,
+				uriPattern == null ? UNMATCHED_URI : uriPattern);
+		metrics.latency.recordNanos(nanos);
+		metrics.statusCount(status).increment();
+	}
+
+	/**
+	 * 클라이언트에 반환한 ErrorCode를 기록한다.
+	 *
+	 * @param errorCode
+	 */
+	public void recordError(ErrorCode errorCode) {
+		errorCounts[errorCode.ordinal()].increment();
+	}
+
+	/**
+	 * DB Statement 실행 시간을 기록한다.
+	 *
+	 * @param type 실행 종류
+	 * @param nanos 실행 시간(ns)
+	 * @param failed 실행 중 예외가 발생했는지 여부
+	 */
+	public void recordStatement(StatementType type, long nanos, boolean failed) {
+		statementLatencies[type.ordinal()].recordNanos(nanos);
+		if(failed)
+			statementErrors.increment();
+	}
+
+	// 기록된 모든 API 통계를 순회한다.
+	public void forEachEndpoint(BiConsumer<String, EndpointMetrics> consumer) {
+		endpoints.forEach((uriPattern, methods) -> {
+			for(int i = 0; i < methods.length(); i++) {
+				EndpointMetrics metrics = methods.get(i);
+				if(metrics != null)
+					consumer.accept(uriPattern, metrics);
+			}
+		});
+	}
+
+	// 특정 ErrorCode가 반환된 횟수
+	public long getErrorCount(ErrorCode errorCode) {
+		return errorCounts[errorCode.ordinal()].sum();
+	}
+
+	// 특정 종류의 DB Statement 실행 시간 분포
+	public LatencyHistogram getStatementLatency(StatementType type) {
+		return statementLatencies[type.ordinal()];
+	}
+
+	// 실행 중 예외가 발생한 DB Statement 수
+	public long getStatementErrorCount() {
+		return statementErrors.sum();
+	}
+
+	// API 통계를 조회하고 없다면 생성한다.
+	private EndpointMetrics endpoint(HttpMethod method, String uriPattern) {
+		AtomicReferenceArray<EndpointMetrics> methods = endpoints.get(uriPattern);
+		if(methods == null)
+			methods = endpoints.computeIfAbsent(uriPattern,
+					k -> new AtomicReferenceArray<>(HTTP_METHODS.length));
+
+		EndpointMetrics metrics = methods.get(method.ordinal());
+		if(metrics == null) {
+			methods.compareAndSet(method.ordinal(), null,
+					new EndpointMetrics(method));
+			metrics = methods.get(method.ordinal());
+		}
+		return metrics;
+	}
+
+	private static LongAdder[] newAdders(int length) {
+		LongAdder[] adders = new LongAdder[length];
+		for(int i = 0; i < length; i++)
+			adders[i] = new LongAdder();
+		return adders;
+	}
+
+	/**
+	 * DB Statement 실행 종류
+	 */
+	public enum StatementType {
+		QUERY, // executeQuery
+		UPDATE, // executeUpdate
+		BATCH, // executeBatch
+		EXECUTE // execute
+	}
+
+	/**
+	 * - API 하나(HTTP 메서드 + URI 패턴)의 처리 시간 분포와 응답 상태 코드별 요청 수.
+	 * - 상태 코드(100~599)별 카운터는 처음 사용될 때 생성한다.
+	 */
+	public static class EndpointMetrics {
+		private static final int MIN_STATUS = 100;
+		private static final int MAX_STATUS = 599;
+
+		private final HttpMethod method;
+		private final LatencyHistogram latency = new LatencyHistogram();
+		private final AtomicReferenceArray<LongAdder> statusCounts =
+				new AtomicReferenceArray<>(MAX_STATUS - MIN_STATUS + 2);
+
+		private EndpointMetrics(HttpMethod method) {
+			this.method = method;
+		}
+
+		public HttpMethod getMethod() {
+			return method;
+		}
+
+		public LatencyHistogram getLatency() {
+			return latency;
+		}
+
+		/**
+		 * 응답 상태 코드별 요청 수를 순회한다. 범위를 벗어난 상태 코드는 0으로 전달된다.
+		 */
+		public void forEachStatus(StatusConsumer consumer) {
+			for(int i = 0; i < statusCounts.length(); i++) {
+				LongAdder count = statusCounts.get(i);
+				if(count != null)
+					consumer.accept(i == statusCounts.length() - 1 ?
+							0 : i + MIN_STATUS, count.sum());
+			}
+		}
+
+		// 상태 코드의 카운터를 조회하고 없다면 생성한다.
+		private LongAdder statusCount(int status) {
+			int index = status < MIN_STATUS || status > MAX_STATUS ?
+					statusCounts.length() - 1 : status - MIN_STATUS;
+			LongAdder count = statusCounts.get(index);
+			if(count == null) {
+				statusCounts.compareAndSet(index, null, new LongAdder());
+				count = statusCounts.get(index);
+			}
+			return count;
+		}
+	}
+
+	@FunctionalInterface
+	public interface StatusConsumer {
+		void accept(int status, long count);
+	}
+}
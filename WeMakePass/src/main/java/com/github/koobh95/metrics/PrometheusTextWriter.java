@@ -0,0 +1,84 @@
+package com.github.koobh95.metrics;
+
+/**
+ * - 수집한 지표를 Prometheus 텍스트 형식(text/plain; version=0.0.4)으로 작성한다.
+ * - 같은 이름의 지표는 header()를 한 번 호출한 뒤 sample()로 연속해서 작성해야 한다.
+ * - 레이블은 이름과 값을 번갈아 전달하며, 값에 포함된 역슬래시, 큰따옴표, 개행 문자는 이스케이프한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class PrometheusTextWriter {
+	public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	private final StringBuilder builder = new StringBuilder(16 * 1024);
+
+	/**
+	 * 지표의 설명(HELP)과 종류(TYPE)를 작성한다.
+	 *
+	 * @param name 지표 이름
+	 * @param help 지표 설명
+	 * @param type counter, gauge, summary 중 하나
+	 * @return
+	 */
+	public PrometheusTextWriter header(String name, String help, String type) {
+		builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+		return this;
+	}
+
+	// 정수 값을 갖는 샘플을 작성한다.
+	public PrometheusTextWriter sample(String name, long value, String... labels) {
+		appendName(name, labels);
+		builder.append(value).append('\n');
+		return this;
+	}
+
+	// 실수 값을 갖는 샘플을 작성한다.
+	public PrometheusTextWriter sample(String name, double value, String... labels) {
+		appendName(name, labels);
+		if(Double.isNaN(value))
+			builder.append("NaN");
+		else if(Double.isInfinite(value))
+			builder.append(value > 0 ? "+Inf" : "-Inf");
+		else
+			builder.append(value);
+		builder.append('\n');
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return builder.toString();
+	}
+
+	// 지표 이름과 레이블을 작성한다.
+	private void appendName(String name, String[] labels) {
+		builder.append(name);
+		if(labels.length > 0) {
+			builder.append('{');
+			for(int i = 0; i + 1 < labels.length; i += 2) {
+				if(i > 0)
+					builder.append(',');
+				builder.append(labels[i]).append("=\"");
+				appendEscaped(labels[i + 1]);
+				builder.append('"');
+			}
+			builder.append('}');
+		}
+		builder.append(' ');
+	}
+
+	// 레이블 값을 이스케이프하여 작성한다.
+	private void appendEscaped(String value) {
+		for(int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if(c == '\\' || c == '"')
+				builder.append('\\').append(c);
+			else if(c == '\n')
+				builder.append("\\n");
+			else
+				builder.append(c);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.github.koobh95.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.github.koobh95.metrics.MetricsRegistry.StatementType;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * - DataSource가 반환하는 Connection과 Statement를 감싸 Statement의 실행 시간을
+ *  MetricsRegistry에 기록하는 DataSource 프록시.
+ * - JPA, JdbcTemplate 모두 같은 DataSource를 사용하므로 실행 경로와 관계없이 모든 SQL 실행이
+ *  기록된다. 실행 시간은 execute로 시작하는 메서드의 호출부터 반환까지이며 ResultSet을 읽는 시간은
+ *  포함하지 않는다.
+ * - 실제 DataSource(커넥션 풀)는 close()로 함께 종료된다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class TimedDataSource extends DelegatingDataSource implements AutoCloseable {
+	private final MetricsRegistry metricsRegistry;
+
+	public TimedDataSource(DataSource targetDataSource,
+			MetricsRegistry metricsRegistry) {
+		super(targetDataSource);
+		this.metricsRegistry = metricsRegistry;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrapConnection(obtainTargetDataSource().getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password)
+			throws SQLException {
+		return wrapConnection(
+				obtainTargetDataSource().getConnection(username, password));
+	}
+
+	/**
+	 * 서버가 종료될 때 실제 DataSource(커넥션 풀)를 종료한다.
+	 */
+	@Override
+	public void close() {
+		if(getTargetDataSource() instanceof HikariDataSource)
+			((HikariDataSource)getTargetDataSource()).close();
+	}
+
+	// Statement를 생성하는 메서드의 반환값을 실행 시간을 기록하는 Statement로 감싼다.
+	private Connection wrapConnection(Connection connection) {
+		return (Connection)Proxy.newProxyInstance(
+				TimedDataSource.class.getClassLoader(),
+				new Class<?>[] { Connection.class },
+				new ConnectionHandler(connection));
+	}
+
+	// 메서드를 실제 객체에서 호출하고, 발생한 예외는 원래의 예외로 던진다.
+	private static Object invoke(Object target, Method method, Object[] args)
+			throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch(InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	// execute로 시작하는 메서드의 실행 종류를 반환한다. 실행 메서드가 아니라면 null을 반환한다.
+	private static StatementType statementType(String methodName) {
+		switch(methodName) {
+			case "executeQuery":
+				return StatementType.QUERY;
+			case "executeUpdate":
+			case "executeLargeUpdate":
+				return StatementType.UPDATE;
+			case "executeBatch":
+			case "executeLargeBatch":
+				return StatementType.BATCH;
+			case "execute":
+				return StatementType.EXECUTE;
+			default:
+				return null;
+		}
+	}
+
+	private class ConnectionHandler implements InvocationHandler {
+		private final Connection connection;
+
+		private ConnectionHandler(Connection connection) {
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+				throws Throwable {
+			Object result = TimedDataSource.invoke(connection, method, args);
+			if(result instanceof Statement) {
+				Class<?> type = result instanceof CallableStatement ?
+						CallableStatement.class :
+							result instanceof PreparedStatement ?
+									PreparedStatement.class : Statement.class;
+				return Proxy.newProxyInstance(
+						TimedDataSource.class.getClassLoader(),
+						new Class<?>[] { type },
+						new StatementHandler((Statement)result, (Connection)proxy));
+			}
+			return result;
+		}
+	}
+
+	private class StatementHandler implements InvocationHandler {
+		private final Statement statement;
+		private final Connection connection; // Statement를 생성한 Connection 프록시
+
+		private StatementHandler(Statement statement, Connection connection) {
+			this.statement = statement;
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+				throws Throwable {
+			if(method.getName().equals("getConnection"))
+				return connection;
+
+			StatementType type = statementType(method.getName());
+			if(type == null)
+				return TimedDataSource.invoke(statement, method, args);
+
+			final long start = System.nanoTime();
+			boolean failed = true;
+			try {
+				Object result = TimedDataSource.invoke(statement, method, args);
+				failed = false;
+				return result;
+			} finally {
+				metricsRegistry.recordStatement(type,
+						System.nanoTime() - start, failed);
+			}
+		}
+	}
+}
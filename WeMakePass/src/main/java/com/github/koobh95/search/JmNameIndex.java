@@ -0,0 +1,202 @@
+package com.github.koobh95.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.github.koobh95.data.model.dto.JmDTO;
+
+/**
+ * - 자격증 종목 이름 자동완성을 위한 메모리 색인.
+ * - 종목 이름과 종목 이름의 초성(ㄱ, ㄴ, ㄷ...)으로 만든 문자열에 대해 각각 n-gram 역색인
+ *  (NgramIndex)을 만든다.
+ * - 검색어가 초성으로만 이루어져 있다면 초성 색인을, 그렇지 않다면 이름 색인을 사용한다. 대소문자와
+ *  공백은 구분하지 않는다.
+ * - 결과는 일치하는 위치에 따라 이름 전체 일치, 접두 일치, 단어 시작 일치, 중간 일치 순으로 정렬하고,
+ *  같은 순위라면 일치 위치가 앞선 순, 이름이 짧은 순, 이름 순으로 정렬한다.
+ * - 생성된 뒤에는 변경되지 않으므로 동기화 없이 여러 스레드에서 검색할 수 있다. 종목 목록이 변경되면
+ *  새로운 색인을 생성하여 교체한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class JmNameIndex {
+	private static final char[] CHOSEONG = {
+			'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+			'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ' };
+	private static final char HANGUL_BEGIN = '가';
+	private static final char HANGUL_END = '힣';
+	private static final int SYLLABLES_PER_CHOSEONG = 588; // 중성 21개 * 종성 28개
+
+	// 순위, 낮을수록 먼저 정렬된다.
+	private static final int RANK_EXACT = 0;
+	private static final int RANK_PREFIX = 1;
+	private static final int RANK_WORD_START = 2;
+	private static final int RANK_INFIX = 3;
+
+	private final JmDTO[] entries; // 이름 순으로 정렬된 종목
+	private final String[] names; // 정규화된 종목 이름
+	private final String[] choseongNames; // 정규화된 종목 이름의 초성
+	private final NgramIndex nameIndex;
+	private final NgramIndex choseongIndex;
+
+	/**
+	 * @param jmList 색인할 종목 목록
+	 */
+	public JmNameIndex(List<JmDTO> jmList) {
+		entries = jmList.toArray(new JmDTO[0]);
+		Arrays.sort(entries, Comparator.comparing(JmDTO::getJmName));
+		names = new String[entries.length];
+		choseongNames = new String[entries.length];
+		for(int i = 0; i < entries.length; i++) {
+			names[i] = normalize(entries[i].getJmName());
+			choseongNames[i] = toChoseong(names[i]);
+		}
+		nameIndex = new NgramIndex(names);
+		choseongIndex = new NgramIndex(choseongNames);
+	}
+
+	/**
+	 * 색인된 종목 수
+	 *
+	 * @return
+	 */
+	public int size() {
+		return entries.length;
+	}
+
+	/**
+	 * - 종목 이름이 검색어를 포함하는 종목을 순위 순으로 검색한다.
+	 * - 검색어가 비어 있다면 모든 종목을 이름 순으로 반환한다.
+	 *
+	 * @param keyword 검색어
+	 * @param limit 반환할 최대 종목 수, 0 이하라면 제한하지 않는다.
+	 * @return
+	 */
+	public List<JmDTO> search(String keyword, int limit) {
+		return search(keyword, limit, null);
+	}
+
+	/**
+	 * 종목 이름이 검색어를 포함하고 filter를 만족하는 종목을 순위 순으로 검색한다. limit은 filter를
+	 * 적용한 결과에 적용된다.
+	 *
+	 * @param keyword 검색어
+	 * @param limit 반환할 최대 종목 수, 0 이하라면 제한하지 않는다.
+	 * @param filter 결과에 포함할 종목의 조건, null이라면 모든 종목을 포함한다.
+	 * @return
+	 */
+	public List<JmDTO> search(String keyword, int limit, Predicate<JmDTO> filter) {
+		String query = normalize(keyword);
+		if(query.isEmpty()) {
+			if(filter == null)
+				return limit(Arrays.asList(entries), limit);
+			List<JmDTO> result = new ArrayList<>();
+			for(JmDTO entry : entries)
+				if(filter.test(entry) && (limit <= 0 || result.size() < limit))
+					result.add(entry);
+			return result;
+		}
+
+		boolean choseongQuery = isChoseongOnly(query);
+		String[] targets = choseongQuery ? choseongNames : names;
+		int[] found = (choseongQuery ? choseongIndex : nameIndex).search(query);
+
+		List<Match> matches = new ArrayList<>(found.length);
+		for(int i : found) {
+			if(filter != null && !filter.test(entries[i]))
+				continue;
+			int position = targets[i].indexOf(query);
+			matches.add(new Match(i, rank(targets[i], query, position, i), position));
+		}
+		matches.sort(Comparator.<Match>comparingInt(m -> m.rank)
+				.thenComparingInt(m -> m.position)
+				.thenComparingInt(m -> names[m.index].length())
+				.thenComparingInt(m -> m.index));
+
+		int size = limit > 0 ? Math.min(limit, matches.size()) : matches.size();
+		List<JmDTO> result = new ArrayList<>(size);
+		for(int i = 0; i < size; i++)
+			result.add(entries[matches.get(i).index]);
+		return result;
+	}
+
+	/**
+	 * 일치한 위치에 따른 순위를 반환한다. 단어의 시작은 원래 이름에서 공백 다음 위치를 의미한다.
+	 */
+	private int rank(String target, String query, int position, int index) {
+		if(position == 0)
+			return target.length() == query.length() ? RANK_EXACT : RANK_PREFIX;
+		return isWordStart(entries[index].getJmName(), position) ?
+				RANK_WORD_START : RANK_INFIX;
+	}
+
+	// 공백을 제외한 position번째 문자가 단어의 시작인지 여부
+	private static boolean isWordStart(String name, int position) {
+		int count = 0;
+		for(int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if(Character.isWhitespace(c))
+				continue;
+			if(count++ == position)
+				return i > 0 && Character.isWhitespace(name.charAt(i - 1));
+		}
+		return false;
+	}
+
+	// 공백을 제거하고 소문자로 변환한다.
+	private static String normalize(String text) {
+		if(text == null)
+			return "";
+		StringBuilder sb = new StringBuilder(text.length());
+		for(int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if(!Character.isWhitespace(c))
+				sb.append(Character.toLowerCase(c));
+		}
+		return sb.toString();
+	}
+
+	// 한글 음절은 초성으로 변환하고, 다른 문자는 그대로 둔다.
+	private static String toChoseong(String text) {
+		char[] chars = text.toCharArray();
+		for(int i = 0; i < chars.length; i++)
+			if(chars[i] >= HANGUL_BEGIN && chars[i] <= HANGUL_END)
+				chars[i] = CHOSEONG[(chars[i] - HANGUL_BEGIN) / SYLLABLES_PER_CHOSEONG];
+		return new String(chars);
+	}
+
+	// 한글 음절 없이 초성(자음)을 하나 이상 포함하는지 여부
+	private static boolean isChoseongOnly(String query) {
+		boolean hasChoseong = false;
+		for(int i = 0; i < query.length(); i++) {
+			char c = query.charAt(i);
+			if(c >= HANGUL_BEGIN && c <= HANGUL_END)
+				return false;
+			if(Arrays.binarySearch(CHOSEONG, c) >= 0)
+				hasChoseong = true;
+		}
+		return hasChoseong;
+	}
+
+	private static List<JmDTO> limit(List<JmDTO> list, int limit) {
+		return Collections.unmodifiableList(limit > 0 && limit < list.size() ?
+				list.subList(0, limit) : list);
+	}
+
+	// 검색 결과 정렬에 사용하는 일치 정보
+	private static class Match {
+		private final int index;
+		private final int rank;
+		private final int position;
+
+		private Match(int index, int rank, int position) {
+			this.index = index;
+			this.rank = rank;
+			this.position = position;
+		}
+	}
+}
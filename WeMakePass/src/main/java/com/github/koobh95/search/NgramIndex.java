@@ -0,0 +1,84 @@
+package com.github.koobh95.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * - 문자열 배열에 대한 n-gram 역색인. 종목, 게시판 이름과 같이 작고 거의 변경되지 않는 목록의 부분
+ *  일치 검색에 사용한다.
+ * - NgramTokenizer의 토큰별로 해당 토큰을 포함하는 문자열의 순번 배열을 가지며, 후보를 구한 뒤
+ *  실제로 검색어를 포함하는지 확인한다.
+ * - 생성된 뒤에는 변경되지 않으므로 동기화 없이 여러 스레드에서 검색할 수 있다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class NgramIndex {
+	private static final int[] EMPTY = new int[0];
+
+	private final String[] texts;
+	private final Map<Long, int[]> postings;
+
+	/**
+	 * @param texts 색인할 문자열, 배열은 복사하지 않으므로 변경해서는 안 된다.
+	 */
+	public NgramIndex(String[] texts) {
+		this.texts = texts;
+		Map<Long, List<Integer>> lists = new HashMap<>();
+		for(int i = 0; i < texts.length; i++)
+			for(long token : NgramTokenizer.indexTokens(texts[i]))
+				lists.computeIfAbsent(token, k -> new ArrayList<>()).add(i);
+
+		postings = new HashMap<>(lists.size() * 4 / 3 + 1);
+		for(Map.Entry<Long, List<Integer>> entry : lists.entrySet())
+			postings.put(entry.getKey(),
+					entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	/**
+	 * 검색어를 포함하는 문자열의 순번을 검색한다.
+	 *
+	 * @param query 검색어, 비어 있다면 빈 배열을 반환한다.
+	 * @return 오름차순으로 정렬된 순번 배열
+	 */
+	public int[] search(String query) {
+		int[] candidates = null;
+		for(long token : NgramTokenizer.queryTokens(query)) {
+			int[] list = postings.getOrDefault(token, EMPTY);
+			candidates = candidates == null ? list : intersect(candidates, list);
+			if(candidates.length == 0)
+				return EMPTY;
+		}
+		if(candidates == null)
+			return EMPTY;
+
+		// bigram은 모두 포함하지만 연속으로 나타나지 않는 후보를 제외한다.
+		int[] result = new int[candidates.length];
+		int count = 0;
+		for(int i : candidates)
+			if(texts[i].contains(query))
+				result[count++] = i;
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+
+	// 오름차순으로 정렬된 두 배열의 교집합
+	private static int[] intersect(int[] a, int[] b) {
+		int[] result = new int[Math.min(a.length, b.length)];
+		int i = 0, j = 0, count = 0;
+		while(i < a.length && j < b.length) {
+			if(a[i] < b[j])
+				i++;
+			else if(a[i] > b[j])
+				j++;
+			else {
+				result[count++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+}
@@ -0,0 +1,80 @@
+package com.github.koobh95.search;
+
+import java.util.Arrays;
+
+/**
+ * - 게시글 검색 색인에 사용할 문자 n-gram 토큰을 생성한다.
+ * - 한글은 형태소 분석 없이도 부분 일치 검색을 지원하기 위해 문자 단위 unigram과 bigram을 사용한다.
+ *  색인할 때는 텍스트의 모든 unigram과 bigram을, 검색할 때는 키워드가 한 글자라면 unigram을, 두 글자
+ *  이상이라면 키워드의 bigram을 토큰으로 사용한다.
+ * - 토큰은 long 값으로 표현된다. unigram은 문자 값 그대로, bigram은 상위 비트에 구분 비트를 두고 두 
+ *  문자를 16비트씩 이어 붙인 값이다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public final class NgramTokenizer {
+	private static final long BIGRAM_FLAG = 1L << 32;
+	private static final long[] EMPTY = new long[0];
+	
+	private NgramTokenizer() {}
+	
+	/**
+	 * 색인할 텍스트로부터 중복되지 않는 unigram, bigram 토큰을 생성한다.
+	 * 
+	 * @param text 색인할 텍스트
+	 * @return 오름차순으로 정렬된 토큰 배열
+	 */
+	public static long[] indexTokens(String text) {
+		if(text == null || text.isEmpty())
+			return EMPTY;
+		
+		int length = text.length();
+		long[] tokens = new long[length * 2 - 1];
+		int count = 0;
+		for(int i = 0; i < length; i++) {
+			tokens[count++] = unigram(text.charAt(i));
+			if(i + 1 < length)
+				tokens[count++] = bigram(text.charAt(i), text.charAt(i + 1));
+		}
+		return distinct(tokens, count);
+	}
+	
+	/**
+	 * 검색 키워드로부터 검색에 사용할 토큰을 생성한다.
+	 * 
+	 * @param keyword 검색 키워드
+	 * @return 오름차순으로 정렬된 토큰 배열, 키워드가 비어 있다면 빈 배열
+	 */
+	public static long[] queryTokens(String keyword) {
+		if(keyword == null || keyword.isEmpty())
+			return EMPTY;
+		if(keyword.length() == 1)
+			return new long[] { unigram(keyword.charAt(0)) };
+		
+		int length = keyword.length();
+		long[] tokens = new long[length - 1];
+		for(int i = 0; i + 1 < length; i++)
+			tokens[i] = bigram(keyword.charAt(i), keyword.charAt(i + 1));
+		return distinct(tokens, tokens.length);
+	}
+	
+	private static long unigram(char c) {
+		return c;
+	}
+	
+	private static long bigram(char first, char second) {
+		return BIGRAM_FLAG | ((long)first << 16) | second;
+	}
+	
+	// 배열의 앞에서부터 count개의 토큰을 정렬한 뒤 중복을 제거하여 반환한다.
+	private static long[] distinct(long[] tokens, int count) {
+		Arrays.sort(tokens, 0, count);
+		int unique = 0;
+		for(int i = 0; i < count; i++) {
+			if(unique == 0 || tokens[unique - 1] != tokens[i])
+				tokens[unique++] = tokens[i];
+		}
+		return unique == tokens.length ? tokens : Arrays.copyOf(tokens, unique);
+	}
+}
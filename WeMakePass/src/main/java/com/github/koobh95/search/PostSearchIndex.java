@@ -0,0 +1,129 @@
+package com.github.koobh95.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.github.koobh95.data.model.enums.PostSearchTarget;
+
+/**
+ * - 하나의 게시판에 속한 게시글의 제목, 내용에 대한 역색인(inverted index).
+ * - 토큰별로 해당 토큰을 포함하는 게시글 번호 목록(PostingList)을 제목과 내용에 대해 각각 유지한다.
+ * - 검색은 키워드의 모든 토큰을 포함하는 게시글 번호의 교집합을 반환한다. bigram이 모두 포함되어
+ *  있더라도 키워드가 연속으로 나타나지 않을 수 있으므로 결과는 "후보"이며, 실제 부분 일치 여부는 
+ *  호출하는 측에서 확인해야 한다.
+ * - 검색은 동시에 수행될 수 있고 게시글 추가는 배타적으로 수행되도록 ReadWriteLock을 사용한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class PostSearchIndex {
+	private static final long[] EMPTY = new long[0];
+	
+	private final Map<Long, PostingList> titlePostings = new HashMap<>();
+	private final Map<Long, PostingList> contentPostings = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	
+	/**
+	 * 게시글의 제목과 내용을 색인에 추가한다.
+	 * 
+	 * @param postNo 게시글의 고유 식별 번호
+	 * @param title 게시글 제목
+	 * @param content 게시글 내용
+	 */
+	public void add(long postNo, String title, String content) {
+		// 토큰 생성은 잠금 밖에서 수행하여 잠금을 점유하는 시간을 줄인다.
+		long[] titleTokens = NgramTokenizer.indexTokens(title);
+		long[] contentTokens = NgramTokenizer.indexTokens(content);
+		
+		lock.writeLock().lock();
+		try {
+			addTokens(titlePostings, titleTokens, postNo);
+			addTokens(contentPostings, contentTokens, postNo);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * 키워드를 포함할 가능성이 있는 게시글 번호를 검색한다.
+	 * 
+	 * @param keyword 검색 키워드
+	 * @param target 키워드와 비교할 대상
+	 * @param upper 검색할 게시글 번호의 상한(포함하지 않음), 커서 페이징에 사용한다.
+	 * @return 오름차순으로 정렬된 후보 게시글 번호 배열
+	 */
+	public long[] search(String keyword, PostSearchTarget target, long upper) {
+		long[] tokens = NgramTokenizer.queryTokens(keyword);
+		if(tokens.length == 0)
+			return EMPTY;
+		
+		switch(target) {
+		case TITLE:
+			return intersect(titlePostings, tokens, upper);
+		case CONTENT:
+			return intersect(contentPostings, tokens, upper);
+		default:
+			return union(intersect(titlePostings, tokens, upper),
+					intersect(contentPostings, tokens, upper));
+		}
+	}
+	
+	private void addTokens(Map<Long, PostingList> postings, long[] tokens, 
+			long postNo) {
+		for(long token : tokens)
+			postings.computeIfAbsent(token, k -> new PostingList()).add(postNo);
+	}
+	
+	/**
+	 * - 모든 토큰의 게시글 번호 목록의 교집합을 읽기 잠금 안에서 구한다.
+	 * - 가장 짧은 목록만 upper 미만의 범위를 배열로 복원하고, 나머지 목록은 복원하지 않고 
+	 *  차례로 비교하여 후보를 줄인다.
+	 * - 하나라도 존재하지 않는 토큰이 있다면 교집합은 항상 비어 있다.
+	 */
+	private long[] intersect(Map<Long, PostingList> postings, long[] tokens, 
+			long upper) {
+		PostingList[] lists = new PostingList[tokens.length];
+		lock.readLock().lock();
+		try {
+			for(int i = 0; i < tokens.length; i++) {
+				lists[i] = postings.get(tokens[i]);
+				if(lists[i] == null)
+					return EMPTY;
+			}
+			Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+			
+			long[] result = lists[0].toArray(upper);
+			int size = result.length;
+			for(int i = 1; i < lists.length && size > 0; i++)
+				size = lists[i].retain(result, size);
+			return size == result.length ? result : Arrays.copyOf(result, size);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	// 정렬된 두 배열의 합집합을 구한다.
+	private static long[] union(long[] a, long[] b) {
+		long[] result = new long[a.length + b.length];
+		int i = 0, j = 0, count = 0;
+		while(i < a.length && j < b.length) {
+			if(a[i] < b[j])
+				result[count++] = a[i++];
+			else if(a[i] > b[j])
+				result[count++] = b[j++];
+			else {
+				result[count++] = a[i++];
+				j++;
+			}
+		}
+		while(i < a.length)
+			result[count++] = a[i++];
+		while(j < b.length)
+			result[count++] = b[j++];
+		return Arrays.copyOf(result, count);
+	}
+}
@@ -0,0 +1,163 @@
+package com.github.koobh95.search;
+
+import java.util.Arrays;
+
+/**
+ * - 하나의 토큰을 포함하는 게시글 번호 목록(posting list)을 압축하여 저장한다.
+ * - 게시글 번호는 오름차순으로 정렬된 상태에서 이전 값과의 차이(delta)를 가변 길이 정수(varint)로
+ *  저장한다. 게시글 번호는 시퀀스로 증가하므로 대부분의 차이 값은 1~2 byte로 저장된다.
+ * - 새 게시글 번호는 대부분 마지막 값보다 크므로 배열 끝에 이어 쓰는 것으로 추가된다. 순서가 어긋난
+ *  번호(여러 서버가 시퀀스를 나누어 할당받는 경우 등)는 정렬된 보조 버퍼에 모아 두었다가
+ *  목록 크기의 1/64(최소 BUFFER_MIN개)가 되면 한 번에 병합한다. 병합 비용은 목록 크기에 비례하지만
+ *  그만큼 드물게 일어나므로, 번호 하나를 추가하는 비용은 상수에 가깝다.
+ * - 보조 버퍼의 번호는 병합되기 전까지 압축된 목록과 중복될 수 있으며, 읽을 때 중복을 제거한다.
+ * - 이 클래스는 스레드에 안전하지 않으며 PostSearchIndex의 잠금 안에서만 사용된다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class PostingList {
+	private static final int BUFFER_MIN = 64;
+
+	private byte[] data = new byte[4];
+	private int length; // data에서 사용 중인 byte 수
+	private int size; // data에 저장된 게시글 번호 개수
+	private long last = -1; // data에 마지막으로 저장된(가장 큰) 게시글 번호
+	private long[] buffer; // 순서가 어긋난 게시글 번호, 오름차순
+	private int bufferSize;
+
+	/**
+	 * 게시글 번호를 추가한다. 이미 존재하는 번호라면 무시한다.
+	 *
+	 * @param postNo 추가할 게시글 번호
+	 */
+	public void add(long postNo) {
+		if(postNo > last) {
+			append(postNo);
+			return;
+		}
+		if(postNo == last)
+			return;
+
+		if(buffer == null)
+			buffer = new long[BUFFER_MIN];
+		int index = Arrays.binarySearch(buffer, 0, bufferSize, postNo);
+		if(index >= 0)
+			return;
+		int insertion = -index - 1;
+		if(bufferSize == buffer.length)
+			buffer = Arrays.copyOf(buffer, buffer.length * 2);
+		System.arraycopy(buffer, insertion, buffer, insertion + 1,
+				bufferSize - insertion);
+		buffer[insertion] = postNo;
+		if(++bufferSize >= Math.max(BUFFER_MIN, size >>> 6))
+			merge();
+	}
+
+	/**
+	 * 저장된 게시글 번호 중 upper보다 작은 번호를 오름차순 배열로 복원하여 반환한다.
+	 *
+	 * @param upper 반환할 번호의 상한(포함하지 않음)
+	 * @return
+	 */
+	public long[] toArray(long upper) {
+		long[] values = new long[size + bufferSize];
+		int count = 0;
+		int b = 0;
+		Decoder decoder = new Decoder();
+		while(decoder.hasNext()) {
+			long value = decoder.next();
+			if(value >= upper)
+				break;
+			while(b < bufferSize && buffer[b] < value)
+				values[count++] = buffer[b++];
+			if(b < bufferSize && buffer[b] == value)
+				b++;
+			values[count++] = value;
+		}
+		while(b < bufferSize && buffer[b] < upper)
+			values[count++] = buffer[b++];
+		return count == values.length ? values : Arrays.copyOf(values, count);
+	}
+
+	/**
+	 * - 오름차순으로 정렬된 values의 앞에서부터 count개 중 이 목록에 포함된 번호만 앞으로 모아 남긴다.
+	 * - 배열을 새로 만들지 않고, values의 가장 큰 값까지만 압축을 풀며 비교한다.
+	 *
+	 * @param values 오름차순으로 정렬된 게시글 번호
+	 * @param count values에서 사용 중인 개수
+	 * @return 남은 개수
+	 */
+	public int retain(long[] values, int count) {
+		int kept = 0;
+		Decoder decoder = new Decoder();
+		long current = decoder.hasNext() ? decoder.next() : Long.MAX_VALUE;
+		for(int i = 0; i < count; i++) {
+			long value = values[i];
+			while(current < value)
+				current = decoder.hasNext() ? decoder.next() : Long.MAX_VALUE;
+			if(current == value || (bufferSize > 0
+					&& Arrays.binarySearch(buffer, 0, bufferSize, value) >= 0))
+				values[kept++] = value;
+		}
+		return kept;
+	}
+
+	// 저장된 게시글 번호 개수, 병합되지 않은 중복 번호가 있다면 실제보다 클 수 있다.
+	public int size() {
+		return size + bufferSize;
+	}
+
+	// 보조 버퍼를 압축된 목록과 병합한다.
+	private void merge() {
+		long[] values = toArray(Long.MAX_VALUE);
+		data = new byte[Math.max(4, length + bufferSize * 2)];
+		length = 0;
+		size = 0;
+		last = -1;
+		bufferSize = 0;
+		if(buffer.length > BUFFER_MIN)
+			buffer = null;
+		for(long value : values)
+			append(value);
+	}
+
+	// 마지막 값보다 큰 게시글 번호를 delta varint로 이어 쓴다.
+	private void append(long postNo) {
+		long delta = postNo - last;
+		if(length + 10 > data.length)
+			data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+		while((delta & ~0x7FL) != 0) {
+			data[length++] = (byte)((delta & 0x7F) | 0x80);
+			delta >>>= 7;
+		}
+		data[length++] = (byte)delta;
+		last = postNo;
+		size++;
+	}
+
+	// 압축된 목록을 앞에서부터 하나씩 복원한다.
+	private class Decoder {
+		private int position;
+		private int index;
+		private long value = -1;
+
+		private boolean hasNext() {
+			return index < size;
+		}
+
+		private long next() {
+			long delta = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = data[position++];
+				delta |= (long)(b & 0x7F) << shift;
+				shift += 7;
+			} while((b & 0x80) != 0);
+			index++;
+			value += delta;
+			return value;
+		}
+	}
+}
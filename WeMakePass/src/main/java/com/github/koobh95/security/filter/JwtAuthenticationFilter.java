@@ -15,6 +15,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.github.koobh95.data.model.WmpUserDetails;
 import com.github.koobh95.data.model.enums.ErrorCode;
 import com.github.koobh95.security.util.JwtProvider;
+import com.github.koobh95.security.util.VerifiedToken;
 import com.github.koobh95.service.impl.WmpUserDetailsService;
 
 import io.jsonwebtoken.ExpiredJwtException;
@@ -27,6 +28,7 @@ import lombok.extern.log4j.Log4j2;
  * - 클라이언트가 보낸 Request의 Header에서 JWT을 파싱하고 검증하는 필터 클래스.
  * - SecurityConfig 클래스에서 bean으로 등록된다.
  * - UsernamePasswordAuthenticationFilter 전에 실행된다.
+ * - 토큰은 한 번만 파싱하며, 사용자 인증 정보는 WmpUserDetailsService의 캐시에서 조회된다.
  * 
  * @author BH-Ku
  * @since 2023-12-23
@@ -53,9 +55,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		String token = parseToken(request);
 		
 		try {
-			if(StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
+			if(StringUtils.hasText(token)) {
+				VerifiedToken verified = jwtProvider.verify(token); // 검증과 추출을 한 번에 처리
 				WmpUserDetails userDetails = wmpUserDetailsService
-						.loadUserByUsername(jwtProvider.parseUserId(token));
+						.loadUserByUsername(verified.getSubject());
 				UsernamePasswordAuthenticationToken authentication = 
 						new UsernamePasswordAuthenticationToken(
 								userDetails.getUsername(),
@@ -2,6 +2,7 @@ package com.github.koobh95.security.util;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
@@ -17,12 +18,19 @@ import javax.crypto.spec.SecretKeySpec;
 import com.github.koobh95.data.model.enums.ErrorCode;
 import com.github.koobh95.exception.AesDecryptException;
 import com.github.koobh95.exception.AesEncryptException;
+import com.github.koobh95.util.ObjectPool;
 
 import lombok.extern.log4j.Log4j2;
 
 /**
  * - 양방향 암호화를 위한 암호화/복호화 유틸리티 클래스.
  * - SecurityConfig 클래스에서 bean으로 등록된다.
+ * - Cipher 객체는 스레드에 안전하지 않기 때문에 암호화용, 복호화용 Cipher를 각각의 풀(ObjectPool)
+ *  에서 빌려 사용한 뒤 반환한다. Cipher.getInstance()의 Provider 탐색과 init()은 Cipher를 생성할
+ *  때 한 번만 수행되며, doFinal()이 끝나면 Cipher는 init() 직후의 상태로 돌아가므로 다시 초기화할
+ *  필요가 없다. 예외가 발생한 Cipher는 상태를 알 수 없으므로 반환하지 않고 버린다.
+ * - 스레드별(ThreadLocal)로 재사용하지 않으므로 요청마다 새로 생성되는 가상 스레드에서도 Cipher가
+ *  매번 생성되지 않는다.
  * 
  * @author BH-Ku
  * @since 2023-12-20
@@ -33,6 +41,12 @@ public class AES256Util {
 	private final IvParameterSpec IV_PRAM_SPEC; // 16bytes(fixed)
 	private final String ALGORITHM = "AES/CBC/PKCS5Padding";
 	
+	// 재사용하는 암호화, 복호화 Cipher
+	private final ObjectPool<Cipher> encryptCiphers = 
+			ObjectPool.ofProcessors(() -> createCipher(Cipher.ENCRYPT_MODE));
+	private final ObjectPool<Cipher> decryptCiphers = 
+			ObjectPool.ofProcessors(() -> createCipher(Cipher.DECRYPT_MODE));
+	
 	private final String NO_SUCH_ALGORITHM_ERR_MSG = 
 			"지원하지 않는 암호화 알고리즘이거나 현재 환경에서 사용할 수 없는 알고리즘입니다.";
 	private final String ILLEGAL_BLOCK_SIZE_ERR_MSG = 
@@ -56,63 +70,119 @@ public class AES256Util {
 	 * @return 암호화된 암호문
 	 */
 	public String encrypt(String plainText) {
-		String encryptedText = null;
-		
+		byte[] encryptedBytes = encrypt(plainText.getBytes(StandardCharsets.UTF_8));
+		return Base64.getUrlEncoder().encodeToString(encryptedBytes);
+	}
+	
+	/**
+	 * byte 배열을 암호화한다. 문자열 변환, Base64 인코딩 없이 암호문을 그대로 반환한다.
+	 * 
+	 * @param plainBytes 암호화되지 않은 데이터
+	 * @return 암호화된 데이터
+	 */
+	public byte[] encrypt(byte[] plainBytes) {
+		Cipher cipher = encryptCiphers.borrow();
 		try {
-			Cipher cipher = Cipher.getInstance(ALGORITHM);
-			cipher.init(Cipher.ENCRYPT_MODE, SECRET_KEY_SPEC, IV_PRAM_SPEC);
-			byte[] encryptedBytes = cipher.doFinal(plainText.getBytes("UTF-8"));	
-			encryptedText = Base64.getUrlEncoder().encodeToString(encryptedBytes);
-		} catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
-			log.error(NO_SUCH_ALGORITHM_ERR_MSG);
-			throw new AesEncryptException(ErrorCode.AES_ENCRYPTION_ERROR);
+			byte[] encrypted = cipher.doFinal(plainBytes);
+			encryptCiphers.release(cipher);
+			return encrypted;
 		} catch (IllegalBlockSizeException | BadPaddingException e) {
 			log.error(ILLEGAL_BLOCK_SIZE_ERR_MSG);
 			throw new AesEncryptException(ErrorCode.AES_ENCRYPTION_ERROR);
-		} catch (InvalidKeyException | InvalidAlgorithmParameterException e) {
-			log.error(INVALID_KEY_ERR_MSG);
-			throw new AesEncryptException(ErrorCode.AES_ENCRYPTION_ERROR);
-		} catch (UnsupportedEncodingException e) {
-			log.error(UNSUPPORTED_ENCODING_ERR_MSG);
-			throw new AesEncryptException(ErrorCode.AES_ENCRYPTION_ERROR);
 		}
-		
-		return encryptedText;
+	}
+	
+	/**
+	 * 여러 문자열을 순서대로 암호화한다. 여러 필드를 가진 DTO를 암호화할 때 사용한다.
+	 * 
+	 * @param plainTexts 암호화되지 않은 평문 목록
+	 * @return 파라미터와 같은 순서의 암호문 배열
+	 */
+	public String[] encryptAll(String... plainTexts) {
+		String[] encryptedTexts = new String[plainTexts.length];
+		for(int i = 0; i < plainTexts.length; i++)
+			encryptedTexts[i] = encrypt(plainTexts[i]);
+		return encryptedTexts;
 	}
 	
 	/**
 	 * - 문자열을 복호화하는 메서드로, 주로 클라이언트로부터 받은 Request의 parameter 혹은 body에
 	 *  담긴 암호화된 데이터를 복호화하는데 사용된다.
 	 * - 클라이언트 측에서 암호화를 수행할 때 URL Encoder를 사용하므로 복호화할 때에도 똑같이 URL 
-	 *  Encoder를 사용한다.
+	 *  Encoder를 사용한다. 단, URL 인코딩된 문자('%', '+')가 없다면 디코딩 결과가 같으므로 생략한다.
 	 * 
 	 * @param encryptedText 암호화된 암호문
 	 * @return 복호화된 평문
 	 */
 	public String decrypt(String encryptedText) {
-		String plainText = null;
-		
+		String base64Decoded = encryptedText;
+		if(encryptedText.indexOf('%') >= 0 || encryptedText.indexOf('+') >= 0) {
+			try {
+				base64Decoded = URLDecoder.decode(encryptedText, "UTF-8");
+			} catch (UnsupportedEncodingException e) {
+				log.error(UNSUPPORTED_ENCODING_ERR_MSG);
+				throw new AesDecryptException(ErrorCode.AES_DECRYPTION_ERROR);
+			}
+		}
+		byte[] decodeBytes = Base64.getDecoder().decode(base64Decoded);
+		return new String(decrypt(decodeBytes), StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * byte 배열로 된 암호문을 복호화한다. URL 디코딩, Base64 디코딩 없이 복호화만 수행한다.
+	 * 
+	 * @param encryptedBytes 암호화된 데이터
+	 * @return 복호화된 데이터
+	 */
+	public byte[] decrypt(byte[] encryptedBytes) {
+		Cipher cipher = decryptCiphers.borrow();
 		try {
-			Cipher cipher = Cipher.getInstance(ALGORITHM);
-			cipher.init(Cipher.DECRYPT_MODE, SECRET_KEY_SPEC, IV_PRAM_SPEC);
-			String base64Decoded = URLDecoder.decode(encryptedText, "UTF-8");
-			byte[] decodeBytes = Base64.getDecoder().decode(base64Decoded);
-			byte[] decryptedBytes = cipher.doFinal(decodeBytes);
-			plainText = new String(decryptedBytes, "UTF-8");
-		} catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
-			log.error(NO_SUCH_ALGORITHM_ERR_MSG);
-			throw new AesDecryptException(ErrorCode.AES_DECRYPTION_ERROR);
+			byte[] decrypted = cipher.doFinal(encryptedBytes);
+			decryptCiphers.release(cipher);
+			return decrypted;
 		} catch (IllegalBlockSizeException | BadPaddingException e) {
 			log.error(ILLEGAL_BLOCK_SIZE_ERR_MSG);
 			throw new AesDecryptException(ErrorCode.AES_DECRYPTION_ERROR);
+		}
+	}
+	
+	/**
+	 * 여러 문자열을 순서대로 복호화한다. 여러 필드가 암호화된 Request를 복호화할 때 사용한다.
+	 * 
+	 * @param encryptedTexts 암호문 목록
+	 * @return 파라미터와 같은 순서의 평문 배열
+	 */
+	public String[] decryptAll(String... encryptedTexts) {
+		String[] plainTexts = new String[encryptedTexts.length];
+		for(int i = 0; i < encryptedTexts.length; i++)
+			plainTexts[i] = decrypt(encryptedTexts[i]);
+		return plainTexts;
+	}
+	
+	/**
+	 * 풀에 보관할 Cipher 객체를 생성하고 초기화한다.
+	 * 
+	 * @param mode Cipher.ENCRYPT_MODE 혹은 Cipher.DECRYPT_MODE
+	 * @return
+	 */
+	private Cipher createCipher(int mode) {
+		try {
+			Cipher cipher = Cipher.getInstance(ALGORITHM);
+			cipher.init(mode, SECRET_KEY_SPEC, IV_PRAM_SPEC);
+			return cipher;
+		} catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+			log.error(NO_SUCH_ALGORITHM_ERR_MSG);
+			throw createException(mode);
 		} catch (InvalidKeyException | InvalidAlgorithmParameterException e) {
 			log.error(INVALID_KEY_ERR_MSG);
-			throw new AesDecryptException(ErrorCode.AES_DECRYPTION_ERROR);
-		} catch (UnsupportedEncodingException e) {
-			log.error(UNSUPPORTED_ENCODING_ERR_MSG);
-			throw new AesDecryptException(ErrorCode.AES_DECRYPTION_ERROR);
+			throw createException(mode);
 		}
-		
-		return plainText;
+	}
+	
+	// Cipher의 모드에 따라 암호화 혹은 복호화 예외를 생성한다.
+	private RuntimeException createException(int mode) {
+		return mode == Cipher.ENCRYPT_MODE
+				? new AesEncryptException(ErrorCode.AES_ENCRYPTION_ERROR)
+				: new AesDecryptException(ErrorCode.AES_DECRYPTION_ERROR);
 	}
 }
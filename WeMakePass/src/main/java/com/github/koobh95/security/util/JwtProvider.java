@@ -1,13 +1,19 @@
 package com.github.koobh95.security.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
-import java.util.Date;
+import java.util.Base64;
 
+import javax.crypto.Mac;
+
+import com.github.koobh95.util.ObjectPool;
+
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -16,6 +22,13 @@ import lombok.extern.log4j.Log4j2;
 /**
  * - JWT를 생성, 파싱, 검증하는 유틸리티 클래스.
  * - SecurityConfig 클래스에서 bean으로 등록된다.
+ * - 토큰 검증에는 키를 초기화할 때 한 번 생성한 JwtParser를 재사용한다. JwtParser는 불변 
+ *  객체이므로 여러 스레드에서 공유할 수 있다.
+ * - 토큰 생성은 JwtBuilder를 사용하지 않고 직접 처리한다. 헤더는 항상 같으므로 Base64URL로 인코딩한 
+ *  값을 미리 만들어 두고, Payload만 JSON으로 작성하여 인코딩한 뒤 풀(ObjectPool)에서 빌린 Mac으로 
+ *  HS256 서명을 생성한다. 생성된 토큰은 JwtBuilder로 생성한 토큰과 같은 형식이다.
+ * - Mac은 스레드가 아닌 풀 단위로 재사용하므로 요청마다 새로 생성되는 가상 스레드에서도 매번 
+ *  생성되지 않는다.
  * 
  * @author BH-Ku
  * @since 2023-12-23
@@ -23,8 +36,19 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class JwtProvider {
 	private Key secretKey;
-
-	private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+	private JwtParser jwtParser; // 키를 초기화할 때 한 번만 생성되는 파서
+	private ObjectPool<Mac> macPool; // 재사용하는 HS256 서명 객체
+	
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+	// {"typ":"JWT","alg":"HS256"}를 Base64URL로 인코딩한 AccessToken 헤더와 구분자
+	private static final byte[] ACCESS_TOKEN_HEADER = 
+			encodeHeader("{\"typ\":\"JWT\",\"alg\":\"HS256\"}");
+	// {"alg":"HS256"}를 Base64URL로 인코딩한 RefreshToken 헤더와 구분자
+	private static final byte[] REFRESH_TOKEN_HEADER = 
+			encodeHeader("{\"alg\":\"HS256\"}");
+	private static final Base64.Encoder BASE64_URL = 
+			Base64.getUrlEncoder().withoutPadding();
+	
 	private final long ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 20L; // 20분
 	private final long REFRESH_TOKEN_EXPIRATION = 1000 * 60 * 60 * 24 * 30L; // 1달
 	public final static String HEADER_AUTHORIZATION = "Authorization";
@@ -46,6 +70,10 @@ public class JwtProvider {
 	public void initSecretKey(String key) {
 		byte[] keyBytes = Decoders.BASE64.decode(key);
 		secretKey = Keys.hmacShaKeyFor(keyBytes);
+		jwtParser = Jwts.parserBuilder()
+				.setSigningKey(secretKey)
+				.build();
+		macPool = ObjectPool.ofProcessors(this::createMac);
 	}
 
 	/**
@@ -57,16 +85,15 @@ public class JwtProvider {
 	 * @return AccessToken
 	 */
 	public String createAccessToken(String userId) {
-		Date now = new Date(); // 현재 시간
-		String accessToken = Jwts.builder()
-				.setHeaderParam(Header.TYPE, Header.JWT_TYPE) // 헤더의 타입을 JWT로 지정
-				.signWith(secretKey, signatureAlgorithm) // 키, 알고리즘 지정
-				.setSubject(userId) // 사용자 아이디 지정
-				.setIssuedAt(now) // 발급 시간
-				.setExpiration(new Date(now.getTime() + 
-						ACCESS_TOKEN_EXPIRATION)) // 만료 시간 지정
-				.compact();
-		return accessToken;
+		long now = System.currentTimeMillis() / 1000; // 현재 시간(초)
+		StringBuilder payload = new StringBuilder(64 + userId.length());
+		payload.append("{\"sub\":");
+		appendJsonString(payload, userId); // 사용자 아이디 지정
+		payload.append(",\"iat\":").append(now) // 발급 시간
+			.append(",\"exp\":")
+			.append(now + ACCESS_TOKEN_EXPIRATION / 1000) // 만료 시간 지정
+			.append('}');
+		return sign(ACCESS_TOKEN_HEADER, payload);
 	}
 
 	/**
@@ -77,13 +104,12 @@ public class JwtProvider {
 	 * @return RefreshToken
 	 */
 	public String createRefreshToken() {
-		Date now = new Date();
-		String refreshToken = Jwts.builder()
-				.signWith(secretKey, signatureAlgorithm) // 키, 알고리즘 지정
-				.setExpiration(new Date(now.getTime() + 
-						REFRESH_TOKEN_EXPIRATION)) // 만료 시간 지정
-				.compact();
-		return refreshToken;
+		long now = System.currentTimeMillis() / 1000;
+		StringBuilder payload = new StringBuilder(24);
+		payload.append("{\"exp\":")
+			.append(now + REFRESH_TOKEN_EXPIRATION / 1000) // 만료 시간 지정
+			.append('}');
+		return sign(REFRESH_TOKEN_HEADER, payload);
 	}
 
 	/**
@@ -93,12 +119,27 @@ public class JwtProvider {
 	 * @return UserId
 	 */
 	public String parseUserId(String accessToken) {
-		return Jwts.parserBuilder()
-				.setSigningKey(secretKey)
-				.build()
-				.parseClaimsJws(accessToken)
-				.getBody()
-				.getSubject();
+		return parseClaims(accessToken).getSubject();
+	}
+	
+	/**
+	 * - 토큰을 검증하고 발급 대상의 아이디와 만료 시간을 반환한다. 
+	 * - 검증과 데이터 추출을 한 번의 파싱으로 처리해야 하는 경우(인증 필터 등)에 사용한다. 토큰에 문제가
+	 *  있는 경우 validateToken()과 같은 예외가 발생한다.
+	 * 
+	 * @param token 검증할 Token
+	 * @return
+	 */
+	public VerifiedToken verify(String token) {
+		Claims claims = parseClaims(token);
+		return new VerifiedToken(claims.getSubject(), 
+				claims.getExpiration() == null ? 0 
+						: claims.getExpiration().getTime());
+	}
+	
+	// 토큰을 검증하고 Claims를 반환한다.
+	private Claims parseClaims(String token) {
+		return jwtParser.parseClaimsJws(token).getBody();
 	}
 
 	/**
@@ -118,10 +159,7 @@ public class JwtProvider {
 	 *		UnsupportedJwtException // 지원하지 않는 토큰
 	 */
 	public boolean validateToken(String token) throws Exception {
-		Jwts.parserBuilder()
-				.setSigningKey(secretKey)
-				.build()
-				.parseClaimsJws(token);
+		parseClaims(token);
 		return true;
 	}
 	
@@ -142,4 +180,66 @@ public class JwtProvider {
 			return UNSUPPORTED_TOKEN_ERROR_MESSAGE;
 		return UNKNOWN_ERROR_MESSAGE;
 	}
+	
+	/**
+	 * - 미리 인코딩된 헤더와 Payload로 "헤더.Payload.서명" 형식의 토큰을 생성한다.
+	 * - 서명은 "헤더.Payload"를 HS256으로 서명한 값을 Base64URL로 인코딩한 것이다.
+	 * 
+	 * @param header Base64URL로 인코딩된 헤더와 구분자(.)
+	 * @param payload JSON 형식의 Payload
+	 * @return
+	 */
+	private String sign(byte[] header, CharSequence payload) {
+		byte[] encodedPayload = BASE64_URL.encode(
+				payload.toString().getBytes(StandardCharsets.UTF_8));
+		Mac mac = macPool.borrow();
+		mac.update(header);
+		mac.update(encodedPayload);
+		byte[] signature = BASE64_URL.encode(mac.doFinal()); // doFinal()은 Mac을 초기 상태로 되돌린다.
+		macPool.release(mac);
+		
+		byte[] token = new byte[header.length + encodedPayload.length + 1 
+		                        + signature.length];
+		System.arraycopy(header, 0, token, 0, header.length);
+		System.arraycopy(encodedPayload, 0, token, header.length, 
+				encodedPayload.length);
+		token[header.length + encodedPayload.length] = '.';
+		System.arraycopy(signature, 0, token, 
+				header.length + encodedPayload.length + 1, signature.length);
+		return new String(token, StandardCharsets.US_ASCII);
+	}
+	
+	// 비밀 키로 초기화된 HS256 Mac 객체를 생성한다.
+	private Mac createMac() {
+		try {
+			Mac mac = Mac.getInstance(MAC_ALGORITHM);
+			mac.init(secretKey);
+			return mac;
+		} catch(GeneralSecurityException e) {
+			throw new IllegalStateException(
+					"JWT 서명에 사용할 Mac 객체를 생성하지 못했습니다.", e);
+		}
+	}
+	
+	// JSON 헤더를 Base64URL로 인코딩한 뒤 Payload와의 구분자(.)를 붙여 반환한다.
+	private static byte[] encodeHeader(String json) {
+		return (Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(json.getBytes(StandardCharsets.UTF_8)) + ".")
+				.getBytes(StandardCharsets.US_ASCII);
+	}
+	
+	// 문자열을 JSON 문자열 리터럴로 이스케이프하여 추가한다.
+	private static void appendJsonString(StringBuilder sb, String value) {
+		sb.append('"');
+		for(int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if(c == '"' || c == '\\')
+				sb.append('\\').append(c);
+			else if(c < 0x20)
+				sb.append(String.format("\\u%04x", (int)c));
+			else
+				sb.append(c);
+		}
+		sb.append('"');
+	}
 }
@@ -0,0 +1,17 @@
+package com.github.koobh95.security.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JwtProvider.verify()로 검증이 완료된 토큰에서 추출한 데이터를 갖는 클래스.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@AllArgsConstructor
+@Getter
+public class VerifiedToken {
+	private final String subject; // 토큰 발급 대상의 아이디, RefreshToken이라면 null
+	private final long expiration; // 만료 시간(epoch millis)
+}
@@ -0,0 +1,12 @@
+package com.github.koobh95.service;
+
+/**
+ * 기존 시험 결과의 JSON 답안을 압축된 답안으로 변환하는 비지니스 로직을 처리한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface AnswerSheetMigrationService {
+	// 변환되지 않은 모든 답안을 변환하고 변환한 결과 수를 반환
+	int migrate();
+}
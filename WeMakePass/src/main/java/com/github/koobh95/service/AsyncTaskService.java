@@ -0,0 +1,17 @@
+package com.github.koobh95.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 API의 작업(DB 조회 등)을 요청을 처리하는 스레드 대신 I/O 전용 스레드 풀에서 처리한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface AsyncTaskService {
+	// 결과를 반환하는 작업을 실행한다.
+	<T> CompletableFuture<T> supply(Supplier<T> task);
+	// 결과가 없는 작업을 실행한다.
+	CompletableFuture<Void> run(Runnable task);
+}
@@ -2,6 +2,7 @@ package com.github.koobh95.service;
 
 import java.util.List;
 
+import com.github.koobh95.cache.CachedPayload;
 import com.github.koobh95.data.model.entity.Board;
 
 /**
@@ -15,4 +16,10 @@ public interface BoardService {
 	public List<Board> searchByBoardName(String keyword);
 	// 특정 게시판의 카테고리 목록을 조회
 	public List<String> getCategoryList(long boardNo);
+	// 특정 게시판의 카테고리 목록과 그 JSON 데이터를 조회
+	public CachedPayload<List<String>> getCategoryPayload(long boardNo);
+	// 게시글을 작성할 수 있는 게시판, 카테고리인지 확인
+	public boolean isValidCategory(long boardNo, String category);
+	// 게시판과 카테고리 스냅샷을 새로 만들어 교체
+	public void refreshCatalog();
 }
@@ -0,0 +1,16 @@
+package com.github.koobh95.service;
+
+import java.util.List;
+
+import com.github.koobh95.data.model.dto.CacheRegionStatsDTO;
+
+/**
+ * Hibernate 2차 캐시와 쿼리 캐시의 영역별 통계를 조회한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface CacheStatisticsService {
+	// 모든 캐시 영역의 적중/실패 통계를 조회한다.
+	List<CacheRegionStatsDTO> regionStats();
+}
@@ -3,7 +3,9 @@ package com.github.koobh95.service;
 import java.util.List;
 import java.util.Set;
 
+import com.github.koobh95.cache.CachedPayload;
 import com.github.koobh95.data.model.dto.DocAnswerDTO;
+import com.github.koobh95.data.model.dto.ExamBundleDTO;
 import com.github.koobh95.data.model.entity.DocQuestion;
 
 /**
@@ -19,4 +21,6 @@ public interface ExamDocService {
 	List<DocQuestion> getQuestionList(long examId);
 	// 특정 시험의 답안 목록을 조회한다.
 	List<DocAnswerDTO> getAnswerList(long examId);
+	// 특정 시험의 과목, 문제, 답안 목록을 한 번에 조회한다.
+	CachedPayload<ExamBundleDTO> getExamBundle(long examId);
 }
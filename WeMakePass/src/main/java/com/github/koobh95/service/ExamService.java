@@ -2,6 +2,7 @@ package com.github.koobh95.service;
 
 import java.util.List;
 
+import com.github.koobh95.cache.CachedPayload;
 import com.github.koobh95.data.model.dto.ExamResultDTO;
 import com.github.koobh95.data.model.entity.ExamInfo;
 
@@ -14,6 +15,10 @@ import com.github.koobh95.data.model.entity.ExamInfo;
 public interface ExamService {
 	// 특정 종목의 시험을 조회
 	List<ExamInfo> getExamInfoList(String jmCode);
+	// 특정 종목의 시험 목록과 그 JSON 데이터를 조회
+	CachedPayload<List<ExamInfo>> getExamInfoPayload(String jmCode);
 	// 시험 결과 저장
 	void saveResult(ExamResultDTO examResultDTO);
+	// 여러 시험 결과를 일괄 저장
+	void saveResults(List<ExamResultDTO> examResultDTOList);
 }
@@ -0,0 +1,17 @@
+package com.github.koobh95.service;
+
+import com.github.koobh95.data.model.dto.ExamStatsDTO;
+
+/**
+ * 시험별 응시 결과 통계를 누적하고 조회하는 비지니스 로직을 처리한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface ExamStatsService {
+	// 저장된 응시 결과를 통계에 누적
+	void record(long examId, long examResultId, byte[] answerSheet, 
+			String reasonForRejection, int score);
+	// 특정 시험의 통계를 조회
+	ExamStatsDTO getStats(long examId);
+}
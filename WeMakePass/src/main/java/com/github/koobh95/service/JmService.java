@@ -11,8 +11,10 @@ import com.github.koobh95.data.model.dto.JmDTO;
  * @since 2023-12-19
  */
 public interface JmService {
-	// Keyword와 JmName이 부분일치하는 데이터 검색
-	List<JmDTO> searchByJmName(String keyword);
+	// Keyword와 JmName이 부분일치하는 데이터를 순위 순으로 최대 limit개 검색
+	List<JmDTO> searchByJmName(String keyword, int limit);
 	// Keyword로 종목 이름을 검색하되, DB에 시험 데이터를 가진 종목에 한하여 검색
 	List<JmDTO> searchByJmNameWithExam(String keyword);
+	// 종목 이름 색인과 시험 데이터를 가진 종목 코드 목록을 DB에서 다시 생성
+	void refreshIndex();
 }
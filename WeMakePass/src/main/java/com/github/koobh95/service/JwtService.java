@@ -12,4 +12,6 @@ import com.github.koobh95.data.model.dto.request.JwtReissueRequest;
 public interface JwtService {
 	// 클라이언트로부터 받은 RefreshToken의 유효성을 검증하여 토큰을 재발급한다.
 	public JwtDTO reissueToken(JwtReissueRequest tokenReissueRequest);
+	// 인증이 완료된 사용자에게 AccessToken과 RefreshToken을 발급한다.
+	public JwtDTO issueToken(String userId);
 }
@@ -0,0 +1,12 @@
+package com.github.koobh95.service;
+
+/**
+ * 발송 대기열(mail_outbox_tb)에 저장된 메일을 SMTP 서버로 발송한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface MailDispatchService {
+	// 발송 대기 중인 메일을 한 묶음 발송하고 발송에 성공한 메일 수를 반환한다.
+	int dispatch();
+}
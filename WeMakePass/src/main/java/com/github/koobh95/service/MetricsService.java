@@ -0,0 +1,12 @@
+package com.github.koobh95.service;
+
+/**
+ * 서버가 수집한 지표를 Prometheus 텍스트 형식으로 제공한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface MetricsService {
+	// 수집한 모든 지표를 Prometheus 텍스트 형식으로 반환한다.
+	String scrape();
+}
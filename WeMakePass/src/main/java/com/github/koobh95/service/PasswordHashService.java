@@ -0,0 +1,17 @@
+package com.github.koobh95.service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비밀번호 단방향 암호화(BCrypt)와 검증을 전용 스레드 풀에서 처리한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface PasswordHashService {
+	// 비밀번호를 단방향 암호화한다.
+	CompletableFuture<String> encode(CharSequence rawPassword);
+	// 비밀번호가 암호화된 비밀번호와 일치하는지 검증한다.
+	CompletableFuture<Boolean> matches(CharSequence rawPassword, 
+			String encodedPassword);
+}
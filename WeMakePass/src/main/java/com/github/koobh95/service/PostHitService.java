@@ -0,0 +1,16 @@
+package com.github.koobh95.service;
+
+/**
+ * 게시글 조회수를 메모리에 누적한 뒤 주기적으로 DB에 반영하는 비지니스 로직을 처리한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface PostHitService {
+	// 특정 게시글의 조회수를 1 증가시키고 아직 DB에 반영되지 않은 증가량을 반환
+	long increase(long postNo);
+	// 특정 게시글에 대해 아직 DB에 반영되지 않은 조회수 증가량을 반환
+	long pendingHit(long postNo);
+	// 누적된 조회수 증가량을 DB에 일괄 반영
+	void flush();
+}
@@ -0,0 +1,21 @@
+package com.github.koobh95.service;
+
+import com.github.koobh95.data.model.enums.PostSearchTarget;
+
+/**
+ * 게시글 검색에 사용하는 메모리 역색인을 관리하는 비지니스 로직을 처리한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public interface PostIndexService {
+	// 색인 구축이 완료되어 검색에 사용할 수 있는지 여부
+	boolean isReady();
+	// 새로 작성된 게시글을 색인에 추가
+	void add(long postNo, long boardNo, String title, String content);
+	// 특정 게시판에서 키워드를 포함할 가능성이 있는 게시글 번호를 검색
+	long[] search(long boardNo, String keyword, PostSearchTarget target, 
+			long beforePostNo);
+	// DB에 저장된 게시글로 색인을 구축
+	void rebuild();
+}
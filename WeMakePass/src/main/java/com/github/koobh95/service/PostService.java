@@ -16,6 +16,11 @@ public interface PostService {
 	// 특정 게시판, 특정 카테고리의 게시글을 페이지 단위로 조회
 	PostPageResponse postListByCategory(long boardNo, int pageNo, 
 			String category);
+	// 특정 게시판의 게시글을 특정 게시글 번호 이전부터 조회(Keyset 페이징)
+	PostPageResponse postListBefore(long boardNo, long beforePostNo);
+	// 특정 게시판, 특정 카테고리의 게시글을 특정 게시글 번호 이전부터 조회(Keyset 페이징)
+	PostPageResponse postListByCategoryBefore(long boardNo, long beforePostNo,
+			String category);
 
 	// 새로운 게시글을 작성
 	void write(PostWriteRequest postWriteRequest);
@@ -23,20 +28,24 @@ public interface PostService {
 	// 특정 게시글 조회
 	PostDetailDTO postDetail(long postNo);
 	
+	// 검색은 이전 페이지의 마지막 게시글 번호(beforePostNo)가 있다면 그 이후부터, 없거나(0 이하) 검색
+	// 색인을 사용할 수 없다면 pageNo로 조회
 	// 특정 게시판에서 특정 게시글의 제목과 키워드가 부분 일치하는 게시글 조회
-	PostPageResponse searchTitle(int pageNo, long boardNo, String keyword);
+	PostPageResponse searchTitle(int pageNo, long beforePostNo, 
+			long boardNo, String keyword);
 	// 특정 게시판에서 특정 게시글의 내용과 키워드가 부분 일치하는 게시글 조회
-	PostPageResponse searchContent(int pageNo, long boardNo, String keyword);
+	PostPageResponse searchContent(int pageNo, long beforePostNo, 
+			long boardNo, String keyword);
 	// 특정 게시판에서 특정 게시글의 제목이나 내용 키워드가 부분 일치하는 게시글 조회
-	PostPageResponse searchTitleAndContent(int pageNo, long boardNo, 
-			String keyword);
+	PostPageResponse searchTitleAndContent(int pageNo, long beforePostNo, 
+			long boardNo, String keyword);
 	// 특정 게시판에서 특정 게시글의 제목과 키워드가 부분 일치하면서 특정 카테고리에 해당하는 게시글 조회  
-	PostPageResponse searchCategoryAndTitle(int pageNo, long boardNo, 
-			String category, String keyword);
+	PostPageResponse searchCategoryAndTitle(int pageNo, long beforePostNo, 
+			long boardNo, String category, String keyword);
 	// 특정 게시판에서 특정 게시글의 내용과 키워드가 부분 일치하면서 특정 카테고리에 해당하는 게시글 조회
-	PostPageResponse searchCategoryAndContent(int pageNo, long boardNo, 
-			String category, String keyword);
+	PostPageResponse searchCategoryAndContent(int pageNo, long beforePostNo, 
+			long boardNo, String category, String keyword);
 	// 특정 게시판에서 특정 게시글의 제목 혹은 내용과 키워드가 부분 일치하면서 특정 카테고리에 해당하는 게시글 조회
 	PostPageResponse searchCategoryAndTitleAndContent(int pageNo, 
-			long boardNo, String category, String keyword);
+			long beforePostNo, long boardNo, String category, String keyword);
 }
@@ -1,5 +1,7 @@
 package com.github.koobh95.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.github.koobh95.data.model.dto.JwtDTO;
 import com.github.koobh95.data.model.dto.UserInfoDTO;
 import com.github.koobh95.data.model.dto.request.LoginRequest;
@@ -15,16 +17,25 @@ import com.github.koobh95.data.model.dto.request.SignUpRequest;
 public interface UserService {
 	// 로그인 요청 처리
 	JwtDTO login(LoginRequest userRequest);
+	// 로그인 요청 처리(비동기)
+	CompletableFuture<JwtDTO> loginAsync(LoginRequest userRequest);
 	// 로그아웃 요청 처리
 	void logout(String userId);
 	// 사용자가 클라이언트에 저장할 데이터를 반환
 	UserInfoDTO userInfo(String userId);
 	// 회원가입 요청 처리
 	void signUp(SignUpRequest signUpRequest);
+	// 회원가입 요청 처리(비동기)
+	CompletableFuture<Void> signUpAsync(SignUpRequest signUpRequest);
 	// 비밀번호 변경
 	void passwordReset(PasswordResetRequest request);
+	// 비밀번호 변경(비동기)
+	CompletableFuture<Void> passwordResetAsync(PasswordResetRequest request);
 	// 닉네임 변경
 	void nicknameChange(String userId, String newNickname);
 	// 비밀번호 변경을 위해 현재 비밀번호를 검증한다.
 	void currnetPasswordAuth(String userId, String encryptedPassword);
+	// 비밀번호 변경을 위해 현재 비밀번호를 검증한다.(비동기)
+	CompletableFuture<Void> currentPasswordAuthAsync(String userId, 
+			String encryptedPassword);
 }
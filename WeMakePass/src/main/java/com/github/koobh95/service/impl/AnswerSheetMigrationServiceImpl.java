@@ -0,0 +1,120 @@
+package com.github.koobh95.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.github.koobh95.data.model.entity.DataMigration;
+import com.github.koobh95.data.repository.DataMigrationRepository;
+import com.github.koobh95.service.AnswerSheetMigrationService;
+import com.github.koobh95.util.AnswerSheetCodec;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * - exam_result_tb에 JSON으로 저장된 기존 답안을 AnswerSheetCodec으로 압축하여 answer_sheet_bin에 
+ *  저장하고 JSON 답안은 지운다.
+ * - 애플리케이션이 시작되면 별도의 스레드에서 실행된다. 모든 결과를 끝까지 확인하면 완료를 
+ *  data_migration_tb에 기록하고, 이후에는 기록을 한 번 조회하는 것으로 끝난다. 이후 저장되는
+ *  결과는 저장할 때 압축되므로 다시 변환할 필요가 없다.
+ * - 결과 식별 번호 순으로 BATCH_SIZE씩 읽어 하나의 JDBC batch UPDATE로 반영하므로 배치마다 
+ *  커밋된다. 중단되더라도 다음 실행에서 남은 결과부터 이어서 변환한다.
+ * - 손실 없이 압축할 수 없는 답안(0 ~ 7 범위를 벗어난 선택지 번호, 너무 많은 문항 등)은 JSON 
+ *  그대로 둔다. 완료가 기록되므로 이러한 결과를 실행할 때마다 다시 확인하지 않는다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Service("answerSheetMigrationService")
+@RequiredArgsConstructor
+@Log4j2
+public class AnswerSheetMigrationServiceImpl implements AnswerSheetMigrationService {
+	private final JdbcTemplate jdbcTemplate;
+	private final DataMigrationRepository dataMigrationRepository;
+	private final Executor executor;
+	
+	private final AtomicBoolean started = new AtomicBoolean();
+	
+	private static final String MIGRATION_NAME = "exam_result_answer_sheet_bin";
+	private static final int BATCH_SIZE = 500; // 한 번에 변환할 결과 수
+	private static final String SELECT_SQL = 
+			"SELECT * FROM ("
+			+ "SELECT exam_result_id, answer_sheet FROM exam_result_tb "
+			+ "WHERE answer_sheet_bin IS NULL AND answer_sheet IS NOT NULL "
+			+ "AND exam_result_id > ? ORDER BY exam_result_id"
+			+ ") WHERE ROWNUM <= ?";
+	private static final String UPDATE_SQL = 
+			"UPDATE exam_result_tb SET answer_sheet_bin = ?, answer_sheet = NULL "
+			+ "WHERE exam_result_id = ? AND answer_sheet_bin IS NULL";
+	
+	/**
+	 * - 컨텍스트 초기화가 끝나면 변환을 시작한다.
+	 * - Servlet 컨텍스트의 초기화 이벤트도 전달되므로 최초 한 번만 시작한다.
+	 */
+	@EventListener(ContextRefreshedEvent.class)
+	public void onContextRefreshed() {
+		if(started.compareAndSet(false, true))
+			executor.execute(this::migrate);
+	}
+
+	/**
+	 *  변환되지 않은 모든 답안을 BATCH_SIZE씩 변환한 뒤 완료를 기록한다. 이미 완료되었다면 변환하지
+	 * 않는다. DB 오류가 발생하면 완료를 기록하지 않고 중단하며, 이미 변환된 결과는 그대로 유지된다.
+	 */
+	@Override
+	public int migrate() {
+		try {
+			if(dataMigrationRepository.existsById(MIGRATION_NAME))
+				return 0;
+		} catch(DataAccessException e) {
+			log.error("시험 답안 변환 완료 여부를 조회하던 도중 오류가 발생했습니다.");
+			log.error(e.getMessage());
+			return 0;
+		}
+		
+		long start = System.currentTimeMillis();
+		long lastId = 0;
+		int migrated = 0;
+		int skipped = 0;
+		try {
+			while(true) {
+				List<Object[]> rows = jdbcTemplate.query(SELECT_SQL, 
+						(rs, rowNum) -> new Object[] { 
+								rs.getLong(1), rs.getString(2) }, 
+						lastId, BATCH_SIZE);
+				if(rows.isEmpty())
+					break;
+				
+				List<Object[]> batchArgs = new ArrayList<>(rows.size());
+				for(Object[] row : rows) {
+					byte[] answerSheet = AnswerSheetCodec.fromJson((String)row[1]);
+					if(answerSheet == null)
+						skipped++;
+					else
+						batchArgs.add(new Object[] { answerSheet, row[0] });
+				}
+				if(!batchArgs.isEmpty())
+					jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+				migrated += batchArgs.size();
+				lastId = (long)rows.get(rows.size() - 1)[0];
+			}
+			dataMigrationRepository.save(DataMigration.completed(MIGRATION_NAME));
+		} catch(DataAccessException e) {
+			log.error("시험 답안을 변환하던 도중 오류가 발생했습니다.");
+			log.error(e.getMessage());
+			return migrated;
+		}
+		
+		log.info("시험 답안 변환 완료: " + migrated + "건(변환 불가 " + skipped + "건), "
+				+ (System.currentTimeMillis() - start) + "ms");
+		return migrated;
+	}
+}
@@ -0,0 +1,62 @@
+package com.github.koobh95.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.github.koobh95.data.model.enums.ErrorCode;
+import com.github.koobh95.exception.AsyncTaskException;
+import com.github.koobh95.service.AsyncTaskService;
+
+/**
+ * - 비동기 API의 작업을 I/O 전용 스레드 풀(ioTaskExecutor)에서 처리한다.
+ * - Controller가 반환한 CompletableFuture가 완료될 때까지 서블릿 컨테이너의 스레드는 반환되므로,
+ *  DB 응답을 기다리는 요청이 많아도 다른 요청을 처리할 스레드가 고갈되지 않는다.
+ * - 대기열이 가득 차면 작업을 쌓아두지 않고 즉시 AsyncTaskException(503)으로 거절하여 부하를
+ *  클라이언트로 되돌린다. 작업 중 발생한 예외는 CompletableFuture를 통해 ExceptionHandler로 
+ *  전달된다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Service("asyncTaskService")
+public class AsyncTaskServiceImpl implements AsyncTaskService {
+	private final Executor ioTaskExecutor;
+	
+	public AsyncTaskServiceImpl(
+			@Qualifier("ioTaskExecutor") Executor ioTaskExecutor) {
+		this.ioTaskExecutor = ioTaskExecutor;
+	}
+
+	/**
+	 * 결과를 반환하는 작업을 I/O 전용 스레드 풀에서 실행한다.
+	 * 
+	 * @param task 실행할 작업
+	 */
+	@Override
+	public <T> CompletableFuture<T> supply(Supplier<T> task) {
+		try {
+			return CompletableFuture.supplyAsync(task, ioTaskExecutor);
+		} catch(RejectedExecutionException e) {
+			throw new AsyncTaskException(ErrorCode.IO_TASK_BUSY,
+					"I/O 작업 대기열이 가득 찼습니다.");
+		}
+	}
+
+	/**
+	 * 결과가 없는 작업을 I/O 전용 스레드 풀에서 실행한다.
+	 * 
+	 * @param task 실행할 작업
+	 */
+	@Override
+	public CompletableFuture<Void> run(Runnable task) {
+		return supply(() -> {
+			task.run();
+			return null;
+		});
+	}
+}
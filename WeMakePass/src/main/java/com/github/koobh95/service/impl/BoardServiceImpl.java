@@ -1,38 +1,75 @@
 package com.github.koobh95.service.impl;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.koobh95.cache.BoardCatalog;
+import com.github.koobh95.cache.CachedPayload;
 import com.github.koobh95.data.model.entity.Board;
+import com.github.koobh95.data.model.entity.BoardCategory;
 import com.github.koobh95.data.repository.BoardCategoryRepository;
 import com.github.koobh95.data.repository.BoardRepository;
 import com.github.koobh95.service.BoardService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 
 /**
- * 게시판을 조회하는 비지니스 로직을 처리한다.
+ * - 게시판을 조회하는 비지니스 로직을 처리한다.
+ * - 게시판과 카테고리는 관리자가 DB에서 직접 수정할 때만 변경되므로, 애플리케이션이 시작되면 
+ *  별도의 스레드에서 모든 게시판과 카테고리를 읽어 스냅샷(BoardCatalog)을 만들고 
+ *  CATALOG_REFRESH_DELAY마다, 혹은 refreshCatalog()가 호출되면 새로 만들어 교체한다.
+ * - 게시판 이름 검색, 카테고리 조회와 확인은 DB 조회 없이 스냅샷에서 처리하며, 스냅샷이 
+ *  만들어지기 전에만 DB에서 조회한다.
  * 
  * @author BH-Ku
  * @since 2024-01-07
  */
 @Service("boardService")
 @RequiredArgsConstructor
+@Log4j2
 public class BoardServiceImpl implements BoardService {
 	private final BoardRepository boardRepository;
 	private final BoardCategoryRepository boardCategoryRepository;
+	private final Executor executor;
+	private final ObjectMapper objMapper = new ObjectMapper();
+	
+	private final AtomicBoolean started = new AtomicBoolean();
+	private volatile BoardCatalog catalog; // 만들어지기 전에는 null
+	
+	private static final long CATALOG_REFRESH_DELAY = 10 * 60 * 1000; // 스냅샷 갱신 주기(ms)
+	
+	/**
+	 * - 컨텍스트 초기화가 끝나면 스냅샷 생성을 시작한다.
+	 * - Servlet 컨텍스트의 초기화 이벤트도 전달되므로 최초 한 번만 시작한다.
+	 */
+	@EventListener(ContextRefreshedEvent.class)
+	public void onContextRefreshed() {
+		if(started.compareAndSet(false, true))
+			executor.execute(this::refreshCatalog);
+	}
 
 	/**
 	 * 게시판 이름을 기준으로 데이터 조회
 	 * 
 	 * @param keyword 검색어
 	 */
-	@Transactional(readOnly = true)
 	@Override
-	public List<Board> searchByBoardName(String keyword) {		
+	public List<Board> searchByBoardName(String keyword) {
+		BoardCatalog current = catalog;
+		if(current != null)
+			return current.searchByName(keyword);
 		return boardRepository.findByBoardNameContaining(keyword);
 	}
 
@@ -43,10 +80,72 @@ public class BoardServiceImpl implements BoardService {
 	 */
 	@Override
 	public List<String> getCategoryList(long boardNo) {
-		return boardCategoryRepository.
-				findByBoardNoOrderByBoardCategoryNo(boardNo).
-				stream().
-				map(e -> e.getCategoryName()).
-				collect(Collectors.toList());
+		return getCategoryPayload(boardNo).getValue();
+	}
+	
+	/**
+	 * 특정 게시판의 카테고리 목록과 그 JSON 데이터를 스냅샷에서 조회한다.
+	 * 
+	 * @param boardNo 카테고리를 조회할 게시판의 고유 식별 번호
+	 */
+	@Override
+	public CachedPayload<List<String>> getCategoryPayload(long boardNo) {
+		BoardCatalog current = catalog;
+		if(current != null)
+			return current.getCategoryPayload(boardNo);
+		
+		return CachedPayload.of(
+				Collections.unmodifiableList(boardCategoryRepository.
+						findByBoardNoOrderByBoardCategoryNo(boardNo).
+						stream().
+						map(e -> e.getCategoryName()).
+						collect(Collectors.toList())),
+				objMapper);
+	}
+	
+	/**
+	 * - 게시글을 작성할 수 있는 게시판, 카테고리인지 확인한다.
+	 * - 게시판이 존재해야 하며, 카테고리를 가진 게시판이라면 그 중 하나여야 한다.
+	 * - 스냅샷이 만들어지기 전에는 확인하지 않는다.
+	 * 
+	 * @param boardNo 게시글을 작성할 게시판의 고유 식별 번호
+	 * @param category 게시글의 카테고리
+	 */
+	@Override
+	public boolean isValidCategory(long boardNo, String category) {
+		BoardCatalog current = catalog;
+		if(current == null)
+			return true;
+		if(!current.containsBoard(boardNo))
+			return false;
+		return current.categoryCount(boardNo) == 0 
+				|| current.containsCategory(boardNo, category);
+	}
+	
+	/**
+	 *  DB의 모든 게시판과 카테고리로 스냅샷을 새로 만들어 교체한다. 실패할 경우 기존 스냅샷을 
+	 * 그대로 사용한다.
+	 */
+	@Scheduled(initialDelay = CATALOG_REFRESH_DELAY, fixedDelay = CATALOG_REFRESH_DELAY)
+	@Override
+	public void refreshCatalog() {
+		long start = System.currentTimeMillis();
+		List<Board> boardList;
+		List<BoardCategory> categoryList;
+		try {
+			boardList = boardRepository.findAll();
+			categoryList = boardCategoryRepository.findAll(
+					Sort.by("boardCategoryNo"));
+		} catch(DataAccessException e) {
+			log.error("게시판 스냅샷을 만들던 도중 오류가 발생했습니다.");
+			log.error(e.getMessage());
+			return;
+		}
+		
+		BoardCatalog newCatalog = new BoardCatalog(boardList, categoryList, objMapper);
+		catalog = newCatalog;
+		log.info("게시판 스냅샷 생성 완료: " + newCatalog.size() + "건(카테고리 "
+				+ categoryList.size() + "건), " 
+				+ (System.currentTimeMillis() - start) + "ms");
 	}
 }
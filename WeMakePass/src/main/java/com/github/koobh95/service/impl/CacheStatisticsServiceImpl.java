@@ -0,0 +1,83 @@
+package com.github.koobh95.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import com.github.koobh95.data.model.dto.CacheRegionStatsDTO;
+import com.github.koobh95.service.CacheStatisticsService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * - Hibernate 2차 캐시와 쿼리 캐시의 영역별 통계를 조회한다.
+ * - 통계는 hibernate.generate_statistics가 활성화되어 있어야 수집된다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Service("cacheStatisticsService")
+@RequiredArgsConstructor
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+	private final EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * - 모든 캐시 영역의 적중/실패 통계를 영역 이름 순으로 반환한다.
+	 * - 쿼리 결과 영역은 해당 영역을 사용하는 쿼리가 처음 실행될 때 생성되므로 그 전에는 조회되지 
+	 *  않는다.
+	 */
+	@Override
+	public List<CacheRegionStatsDTO> regionStats() {
+		SessionFactoryImplementor sessionFactory = entityManagerFactory
+				.unwrap(SessionFactoryImplementor.class);
+		Statistics statistics = sessionFactory.getStatistics();
+		String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+		Arrays.sort(regionNames);
+		
+		List<CacheRegionStatsDTO> regionStats = 
+				new ArrayList<>(regionNames.length);
+		for(String regionName : regionNames) {
+			Region region = sessionFactory.getCache().getRegion(regionName);
+			CacheRegionStatistics regionStatistics = 
+					statistics.getCacheRegionStatistics(regionName);
+			if(region == null || regionStatistics == null)
+				continue;
+			
+			regionStats.add(toDto(regionName, getRegionType(region), 
+					regionStatistics));
+		}
+		return regionStats;
+	}
+	
+	// 캐시 영역의 종류(ENTITY, QUERY, TIMESTAMPS)를 반환한다.
+	private String getRegionType(Region region) {
+		if(region instanceof DomainDataRegion)
+			return "ENTITY";
+		if(region instanceof QueryResultsRegion)
+			return "QUERY";
+		if(region instanceof TimestampsRegion)
+			return "TIMESTAMPS";
+		return "UNKNOWN";
+	}
+	
+	// 영역 통계를 DTO로 변환한다.
+	private CacheRegionStatsDTO toDto(String regionName, String regionType, 
+			CacheRegionStatistics region) {
+		final long hit = region.getHitCount();
+		final long miss = region.getMissCount();
+		final double hitRatio = hit + miss == 0 ? 0 : (double)hit / (hit + miss);
+		return new CacheRegionStatsDTO(regionName, regionType, hit, miss, 
+				region.getPutCount(), hitRatio);
+	}
+}
@@ -1,15 +1,19 @@
 package com.github.koobh95.service.impl;
 
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.koobh95.cache.CachedPayload;
+import com.github.koobh95.cache.LruCache;
 import com.github.koobh95.data.model.dto.DocAnswerDTO;
+import com.github.koobh95.data.model.dto.ExamBundleDTO;
 import com.github.koobh95.data.model.entity.DocAnswer;
 import com.github.koobh95.data.model.entity.DocQuestion;
-import com.github.koobh95.data.model.entity.mapping.SubjectNameMapping;
 import com.github.koobh95.data.repository.DocAnswerRepository;
 import com.github.koobh95.data.repository.DocQuestionRepository;
 import com.github.koobh95.service.ExamDocService;
@@ -17,7 +21,10 @@ import com.github.koobh95.service.ExamDocService;
 import lombok.RequiredArgsConstructor;
 
 /**
- * 필기 시험 조회 관련된 비지니스 로직를 처리한다.
+ * - 필기 시험 조회 관련된 비지니스 로직를 처리한다.
+ * - 시험의 문제, 답안은 한 번 등록되면 변경되지 않으므로 시험별로 과목, 문제, 답안 목록을 묶어 
+ *  캐시(examBundleCache)에 저장하고 모든 조회에서 공유한다. 많은 사용자가 같은 시험을 동시에 
+ *  열더라도 DB 조회는 한 번만 실행된다.
  * 
  * @author BH-Ku
  * @since 2024-01-06
@@ -27,29 +34,17 @@ import lombok.RequiredArgsConstructor;
 public class ExamDocServiceImpl implements ExamDocService{
 	private final DocQuestionRepository docQuestionRepository;
 	private final DocAnswerRepository docAnswerRepository;
+	private final LruCache<Long, CachedPayload<ExamBundleDTO>> examBundleCache;
+	private final ObjectMapper objMapper = new ObjectMapper();
 	
 	/**
-	 * - 특정 시험의 과목 목록을 반환한다.
-	 * - 조회하려는 시험의 식별 번호를 조회하되 문항 번호를 오름차순으로 조회하여 각 문항의 과목 순서를
-	 *  유지하여 조회할 수 있게 한다. 읽어 온 데이터는 Set에 모두 저장하여 중복을 제거한 뒤 반환하는데
-	 *  이 때 Set에 저장되는 과목의 순서를 보장하기 위해서 HashSet이 아닌 LinkedHashSet을 
-	 *  사용하였다.
-	 * - 메모리 낭비를 줄이기 위해서 과목명만 읽어올 수 있도록 Mapping 클래스를 사용하였다. 
-	 *  
-	 * 단순히 subjectName에 DISTINCT를 
-	 * 사용하여 데이터를 읽을 경우 questionId가 없어 정렬이 불가능하기 때문에
-	 * 모든 데이터를  
+	 * 특정 시험의 과목 목록을 문항 번호 순서를 유지하여 반환한다.
+	 * 
+	 * @param examId 조회할 시험의 고유 식별 번호
 	 */
 	@Override
 	public Set<String> getSubjectList(long examId) {
-		List<SubjectNameMapping> subjectList = docQuestionRepository.
-				findByExamIdOrderByQuestionId(examId);
-		Set<String> subjectSet = new LinkedHashSet<>();
-		
-		for(SubjectNameMapping m : subjectList)
-			subjectSet.add(m.getSubjectName());
-		
-		return subjectSet;
+		return getExamBundle(examId).getValue().getSubjects();
 	}
 
 	/**
@@ -59,17 +54,53 @@ public class ExamDocServiceImpl implements ExamDocService{
 	 */
 	@Override
 	public List<DocQuestion> getQuestionList(long examId) {
-		return docQuestionRepository.findByExamIdOrderByQuestionIdAsc(examId);
+		return getExamBundle(examId).getValue().getQuestions();
 	}
 
 	/**
-	 * 특정 필기 시험의 답안 목록을 오름차순으로 조회한 뒤 DTO 리스트로 변환하여 반환한다.
+	 * 특정 필기 시험의 답안 목록을 오름차순으로 조회한 DTO 리스트를 반환한다.
 	 * 
 	 * @param examId 조회할 시험의 고유 식별 번호
 	 */
 	@Override
 	public List<DocAnswerDTO> getAnswerList(long examId) {
-		return DocAnswer.toDtoList(docAnswerRepository.
-				findByExamIdOrderByQuestionId(examId));
+		return getExamBundle(examId).getValue().getAnswers();
+	}
+
+	/**
+	 * 특정 시험의 과목, 문제, 답안 목록과 그 JSON 데이터를 캐시에서 조회한다. 캐시에 없다면 DB에서
+	 * 읽어 캐시에 저장한다.
+	 * 
+	 * @param examId 조회할 시험의 고유 식별 번호
+	 */
+	@Override
+	public CachedPayload<ExamBundleDTO> getExamBundle(long examId) {
+		return examBundleCache.get(examId, this::loadExamBundle);
+	}
+	
+	/**
+	 * - 특정 시험의 문제, 답안 목록을 DB에서 읽어 ExamBundleDTO로 구성한다.
+	 * - 과목 목록은 문항 번호 오름차순으로 조회한 문제 목록에서 과목 이름을 순서대로 추출하여 구성하며, 
+	 *  순서를 보장하기 위해서 HashSet이 아닌 LinkedHashSet을 사용하였다.
+	 * - 캐시된 목록은 여러 요청에서 공유되므로 수정할 수 없는 컬렉션으로 감싼다.
+	 * 
+	 * @param examId 조회할 시험의 고유 식별 번호
+	 * @return
+	 */
+	private CachedPayload<ExamBundleDTO> loadExamBundle(long examId) {
+		List<DocQuestion> questionList = 
+				docQuestionRepository.findByExamIdOrderByQuestionIdAsc(examId);
+		List<DocAnswerDTO> answerList = DocAnswer.toDtoList(
+				docAnswerRepository.findByExamIdOrderByQuestionId(examId));
+		
+		Set<String> subjectSet = new LinkedHashSet<>();
+		for(DocQuestion question : questionList)
+			subjectSet.add(question.getSubjectName());
+		
+		ExamBundleDTO bundle = new ExamBundleDTO(
+				Collections.unmodifiableSet(subjectSet),
+				Collections.unmodifiableList(questionList),
+				Collections.unmodifiableList(answerList));
+		return CachedPayload.of(bundle, objMapper);
 	}
 }
@@ -1,20 +1,32 @@
 package com.github.koobh95.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.koobh95.cache.CachedPayload;
+import com.github.koobh95.cache.LruCache;
 import com.github.koobh95.data.model.dto.ExamResultDTO;
 import com.github.koobh95.data.model.entity.ExamInfo;
 import com.github.koobh95.data.model.entity.ExamResult;
 import com.github.koobh95.data.repository.ExamInfoRepository;
 import com.github.koobh95.data.repository.ExamResultRepository;
 import com.github.koobh95.service.ExamService;
+import com.github.koobh95.service.ExamStatsService;
+import com.github.koobh95.util.AnswerSheetCodec;
 
 import lombok.RequiredArgsConstructor;
 
 /**
- * 시험 정보를 조회하는 비지니스 로직을 처리한다.
+ * - 시험 정보를 조회하는 비지니스 로직을 처리한다.
+ * - 종목별 시험 목록은 JSON 데이터, ETag와 함께 캐시(examInfoCache)에 저장하여 공유한다.
+ * - 저장된 시험 결과는 시험 통계(ExamStatsService)에 누적한다.
  * 
  * @author BH-Ku
  * @since 2024-01-03
@@ -24,6 +36,9 @@ import lombok.RequiredArgsConstructor;
 public class ExamServiceImpl implements ExamService {
 	private final ExamInfoRepository examInfoRepository;
 	private final ExamResultRepository examResultRepository;
+	private final ExamStatsService examStatsService;
+	private final LruCache<String, CachedPayload<List<ExamInfo>>> examInfoCache;
+	private final ObjectMapper objMapper = new ObjectMapper();
 	
 	/**
 	 * 특정 종목의 시험을 조회
@@ -32,21 +47,86 @@ public class ExamServiceImpl implements ExamService {
 	 */
 	@Override
 	public List<ExamInfo> getExamInfoList(String jmCode) {
-		return examInfoRepository.findByJmCode(jmCode);
+		return getExamInfoPayload(jmCode).getValue();
+	}
+	
+	/**
+	 * 특정 종목의 시험 목록과 그 JSON 데이터를 캐시에서 조회한다. 캐시에 없다면 DB에서 읽어 캐시에
+	 * 저장한다.
+	 * 
+	 * @param jmCode 조회할 종목 코드
+	 */
+	@Override
+	public CachedPayload<List<ExamInfo>> getExamInfoPayload(String jmCode) {
+		return examInfoCache.get(jmCode, code -> CachedPayload.of(
+				Collections.unmodifiableList(examInfoRepository.findByJmCode(code)),
+				objMapper));
 	}
 
 	/**
-	 * 시험 결과를 저장
+	 * 시험 결과를 저장하고 시험 통계에 누적한다. 답안은 압축하여 저장한다.
 	 * 
 	 * @param examResultDTO 시험 결과와 관련된 데이터를 가진 객체
 	 */
 	@Override
 	public void saveResult(ExamResultDTO examResultDTO) {
-		examResultRepository.save(ExamResult.create(examResultDTO.getExamId(), 
+		byte[] answerSheet = AnswerSheetCodec.fromJson(examResultDTO.getAnswerSheet());
+		ExamResult examResult = examResultRepository.save(
+				toEntity(examResultDTO, answerSheet));
+		record(examResultDTO, examResult, answerSheet);
+	}
+	
+	/**
+	 * - 여러 시험 결과를 하나의 트랜잭션으로 일괄 저장한다.
+	 * - INSERT는 커밋 시점에 hibernate.jdbc.batch_size 단위의 JDBC batch로 실행되고, 식별 번호는
+	 *  시퀀스에서 allocationSize 단위로 할당받으므로 결과 수와 관계없이 적은 횟수의 왕복으로 저장된다.
+	 * - 시험 통계에는 트랜잭션이 커밋된 뒤에 누적한다.
+	 * 
+	 * @param examResultDTOList 저장할 시험 결과 리스트
+	 */
+	@Transactional
+	@Override
+	public void saveResults(List<ExamResultDTO> examResultDTOList) {
+		int size = examResultDTOList.size();
+		List<ExamResult> entityList = new ArrayList<>(size);
+		byte[][] answerSheets = new byte[size][];
+		for(int i = 0; i < size; i++) {
+			ExamResultDTO examResultDTO = examResultDTOList.get(i);
+			answerSheets[i] = AnswerSheetCodec.fromJson(examResultDTO.getAnswerSheet());
+			entityList.add(toEntity(examResultDTO, answerSheets[i]));
+		}
+		examResultRepository.saveAll(entityList);
+		
+		TransactionSynchronizationManager.registerSynchronization(
+				new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						for(int i = 0; i < size; i++)
+							record(examResultDTOList.get(i), entityList.get(i), 
+									answerSheets[i]);
+					}
+				});
+	}
+	
+	/**
+	 *  클라이언트로부터 받은 시험 결과를 저장할 Entity 객체로 변환한다. 압축할 수 없는 답안은 JSON 
+	 * 그대로 저장한다.
+	 */
+	private ExamResult toEntity(ExamResultDTO examResultDTO, byte[] answerSheet) {
+		return ExamResult.create(examResultDTO.getExamId(), 
 				examResultDTO.getUserId(), 
 				examResultDTO.getReasonForRejection(),
 				examResultDTO.getElapsedTime(),
 				examResultDTO.getScore(),
-				examResultDTO.getAnswerSheet()));
+				examResultDTO.getAnswerSheet(),
+				answerSheet);
+	}
+	
+	// 저장된 시험 결과를 시험 통계에 누적한다.
+	private void record(ExamResultDTO examResultDTO, ExamResult examResult, 
+			byte[] answerSheet) {
+		examStatsService.record(examResultDTO.getExamId(), 
+				examResult.getExamResultId(), answerSheet, 
+				examResultDTO.getReasonForRejection(), examResultDTO.getScore());
 	}
 }
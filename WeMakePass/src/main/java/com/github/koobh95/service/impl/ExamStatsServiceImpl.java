@@ -0,0 +1,305 @@
+package com.github.koobh95.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.koobh95.data.model.dto.DocAnswerDTO;
+import com.github.koobh95.data.model.dto.ExamBundleDTO;
+import com.github.koobh95.data.model.dto.ExamStatsDTO;
+import com.github.koobh95.data.model.entity.DocQuestion;
+import com.github.koobh95.data.model.entity.mapping.ExamResultSheetMapping;
+import com.github.koobh95.data.model.enums.ErrorCode;
+import com.github.koobh95.data.repository.ExamResultRepository;
+import com.github.koobh95.exception.ExamStatsException;
+import com.github.koobh95.service.ExamDocService;
+import com.github.koobh95.service.ExamStatsService;
+import com.github.koobh95.stats.ExamStats;
+import com.github.koobh95.util.AnswerSheetCodec;
+import com.github.koobh95.util.StringUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * - 시험별 응시 결과 통계(ExamStats)를 메모리에 유지한다.
+ * - 통계는 요청을 처리하는 스레드가 아닌 백그라운드에서 만든다. 애플리케이션이 시작되면 응시 결과가
+ *  있는 모든 시험의 통계를 차례로 만들고, 이후 처음 조회되는 시험은 조회 시 만들기 시작한다. 통계가
+ *  아직 없는 시험을 조회하면 ExamStatsException(EXAM_STATS_NOT_READY)을 던진다.
+ * - 응시 결과가 없는 시험(존재하지 않는 시험 포함)은 통계를 만들지 않고 
+ *  ExamStatsException(EXAM_STATS_NOT_FOUND)을 던진다. 임의의 식별 번호로 조회하더라도 시험 데이터 
+ *  캐시(examBundleCache)와 통계가 늘어나지 않는다. 문제 데이터가 없는 시험의 통계도 등록하지 않는다.
+ * - 통계는 해당 시험의 응시 결과만 DB에서 읽어 한 번 만들고, 이후 저장되는 응시 결과는 저장할 때
+ *  압축한 답안(AnswerSheetCodec)으로 누적한다. 통계는 제거되지 않으므로 다시 만들지 않는다. 압축되지
+ *  않은 기존 답안(JSON)은 통계를 만들 때만 변환한다.
+ * - 통계를 만드는 도중 저장된 결과는 버퍼에 모아 두었다가 통계가 완성되면 누적한다. 이때 통계를
+ *  만들며 이미 읽은 결과(식별 번호로 확인)는 제외한다. 결과는 저장(커밋) 직후에 누적되므로 통계를
+ *  만들기 시작한 뒤 저장된 결과는 누락되거나 두 번 누적되지 않는다. 통계를 만드는 중이 아니면서
+ *  통계가 없는 시험의 결과는 이미 DB에 저장되었으므로 통계를 만들 때 포함된다.
+ * - 불합격 사유가 없는 결과를 합격으로 처리한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Service("examStatsService")
+@RequiredArgsConstructor
+@Log4j2
+public class ExamStatsServiceImpl implements ExamStatsService {
+	private final ExamDocService examDocService;
+	private final ExamResultRepository examResultRepository;
+	private final Executor executor;
+	private final ObjectMapper objMapper = new ObjectMapper();
+
+	private final Map<Long, ExamStats> statsMap = new ConcurrentHashMap<>();
+	// 통계를 만드는 중인 시험과 그 동안 저장된 결과, buildLock으로 보호된다.
+	private final Map<Long, List<PendingResult>> building = new HashMap<>();
+	private final ReentrantLock buildLock = new ReentrantLock();
+	private final AtomicBoolean started = new AtomicBoolean();
+
+	// 선택지 데이터에서 선택지 수를 알 수 없는 문항의 선택지 수
+	private static final int DEFAULT_OPTION_COUNT = 4;
+
+	/**
+	 * 애플리케이션이 시작되면 응시 결과가 있는 모든 시험의 통계를 백그라운드에서 만든다.
+	 */
+	@EventListener(ContextRefreshedEvent.class)
+	public void buildAllOnStartup() {
+		if(started.compareAndSet(false, true))
+			executor.execute(this::buildAll);
+	}
+
+	/**
+	 *  저장된 응시 결과를 통계에 누적한다. 통계를 만드는 중인 시험이라면 버퍼에 모아 두며, 통계가
+	 * 없는 시험이거나 압축된 답안이 없다면 무시한다.
+	 *
+	 * @param examId 응시한 시험의 고유 식별 번호
+	 * @param examResultId 저장된 응시 결과의 고유 식별 번호
+	 * @param answerSheet 압축된 답안
+	 * @param reasonForRejection 불합격 사유
+	 * @param score 총점
+	 */
+	@Override
+	public void record(long examId, long examResultId, byte[] answerSheet,
+			String reasonForRejection, int score) {
+		if(answerSheet == null)
+			return;
+
+		boolean passed = StringUtil.isEmpty(reasonForRejection);
+		ExamStats stats;
+		buildLock.lock();
+		try {
+			List<PendingResult> pending = building.get(examId);
+			if(pending != null) {
+				pending.add(new PendingResult(examResultId, answerSheet, passed,
+						score));
+				return;
+			}
+			stats = statsMap.get(examId);
+		} finally {
+			buildLock.unlock();
+		}
+		if(stats != null)
+			stats.record(answerSheet, passed, score);
+	}
+
+	/**
+	 *  특정 시험의 통계를 조회한다. 통계가 아직 없다면 응시 결과가 있는 시험인지 확인한 뒤 
+	 * 백그라운드에서 만들기 시작하고 ExamStatsException을 던진다.
+	 *
+	 * @param examId 조회할 시험의 고유 식별 번호
+	 */
+	@Override
+	public ExamStatsDTO getStats(long examId) {
+		ExamStats stats = statsMap.get(examId);
+		if(stats != null)
+			return stats.snapshot();
+
+		if(startBuild(examId)) {
+			boolean exists;
+			try {
+				exists = examResultRepository.existsByExamId(examId);
+			} catch(RuntimeException e) {
+				cancelBuild(examId);
+				throw e;
+			}
+			if(!exists) {
+				cancelBuild(examId);
+				throw new ExamStatsException(ErrorCode.EXAM_STATS_NOT_FOUND,
+						"examId=" + examId);
+			}
+			try {
+				executor.execute(() -> build(examId));
+			} catch(RejectedExecutionException e) {
+				cancelBuild(examId);
+			}
+		}
+		throw new ExamStatsException(ErrorCode.EXAM_STATS_NOT_READY,
+				"examId=" + examId);
+	}
+
+	// 응시 결과가 있는 모든 시험의 통계를 차례로 만든다.
+	private void buildAll() {
+		List<Long> examIds;
+		try {
+			examIds = examResultRepository.findExamIds();
+		} catch(DataAccessException e) {
+			log.error("통계를 만들 시험 목록을 조회하던 도중 오류가 발생했습니다.");
+			log.error(e.getMessage());
+			return;
+		}
+
+		long start = System.currentTimeMillis();
+		for(long examId : examIds)
+			if(startBuild(examId))
+				build(examId);
+		log.info("전체 시험 통계 생성 완료: " + examIds.size() + "개 시험, "
+				+ (System.currentTimeMillis() - start) + "ms");
+	}
+
+	/**
+	 * 시험을 통계를 만드는 중인 상태로 표시한다. 이미 통계가 있거나 만드는 중이라면 false를 반환한다.
+	 *
+	 * @param examId 시험의 고유 식별 번호
+	 * @return
+	 */
+	private boolean startBuild(long examId) {
+		buildLock.lock();
+		try {
+			if(statsMap.containsKey(examId) || building.containsKey(examId))
+				return false;
+			building.put(examId, new ArrayList<>());
+			return true;
+		} finally {
+			buildLock.unlock();
+		}
+	}
+
+	// 통계를 만들지 못했다면 표시를 제거하여 다음 조회 시 다시 만든다.
+	private void cancelBuild(long examId) {
+		buildLock.lock();
+		try {
+			building.remove(examId);
+		} finally {
+			buildLock.unlock();
+		}
+	}
+
+	/**
+	 * - 통계를 만들고, 만드는 동안 저장된 결과 중 통계를 만들며 읽지 않은 결과를 누적한 뒤 등록한다.
+	 * - startBuild()가 true를 반환한 시험에 대해서만 호출되어야 한다.
+	 *
+	 * @param examId 시험의 고유 식별 번호
+	 */
+	private void build(long examId) {
+		long[] readIds;
+		ExamStats stats;
+		try {
+			long start = System.currentTimeMillis();
+			stats = createStats(examId);
+			if(stats == null) {
+				log.error("문제 데이터가 없어 시험 통계를 만들 수 없습니다. (examId=" + examId + ')');
+				cancelBuild(examId);
+				return;
+			}
+			List<ExamResultSheetMapping> results =
+					examResultRepository.findByExamId(examId);
+			readIds = new long[results.size()];
+			for(int i = 0; i < readIds.length; i++) {
+				ExamResultSheetMapping result = results.get(i);
+				readIds[i] = result.getExamResultId();
+				byte[] sheet = result.getAnswerSheetBin() != null ?
+						result.getAnswerSheetBin() :
+							AnswerSheetCodec.fromJson(result.getAnswerSheet());
+				if(sheet != null)
+					stats.record(sheet,
+							StringUtil.isEmpty(result.getReasonForRejection()),
+							result.getScore());
+			}
+			Arrays.sort(readIds);
+			log.info("시험 통계 생성 완료: examId=" + examId + ", " + results.size()
+					+ "건, " + (System.currentTimeMillis() - start) + "ms");
+		} catch(RuntimeException e) {
+			log.error("시험 통계를 만들던 도중 오류가 발생했습니다. (examId=" + examId + ')');
+			log.error(e.getMessage());
+			cancelBuild(examId);
+			return;
+		}
+
+		buildLock.lock();
+		try {
+			for(PendingResult result : building.remove(examId))
+				if(Arrays.binarySearch(readIds, result.examResultId) < 0)
+					stats.record(result.answerSheet, result.passed, result.score);
+			statsMap.put(examId, stats);
+		} finally {
+			buildLock.unlock();
+		}
+	}
+
+	/**
+	 * - 시험 데이터로 빈 통계를 만든다. 문제 데이터가 없다면 null을 반환한다.
+	 * - 답안은 문항 번호로 문제와 연결되며, 답안이 없는 문항은 경고를 남기고 정답 없음으로 처리한다.
+	 *
+	 * @param examId 시험의 고유 식별 번호
+	 * @return
+	 */
+	private ExamStats createStats(long examId) {
+		ExamBundleDTO bundle = examDocService.getExamBundle(examId).getValue();
+		List<DocQuestion> questions = bundle.getQuestions();
+		if(questions.isEmpty())
+			return null;
+
+		List<DocAnswerDTO> answers = bundle.getAnswers();
+		if(answers.size() != questions.size())
+			log.warn("문제 수와 답안 수가 일치하지 않습니다. (examId=" + examId + ", 문제 "
+					+ questions.size() + "개, 답안 " + answers.size() + "개)");
+		int[] optionCounts = new int[questions.size()];
+		for(int i = 0; i < optionCounts.length; i++)
+			optionCounts[i] = countOptions(questions.get(i).getOptions());
+		return new ExamStats(examId, questions, answers, optionCounts);
+	}
+
+	// JSON 형태로 저장된 객관식 데이터의 선택지 수
+	private int countOptions(String options) {
+		if(StringUtil.isEmpty(options))
+			return DEFAULT_OPTION_COUNT;
+		try {
+			JsonNode node = objMapper.readTree(options);
+			return node.isContainerNode() && node.size() > 0 ?
+					node.size() : DEFAULT_OPTION_COUNT;
+		} catch(JsonProcessingException e) {
+			return DEFAULT_OPTION_COUNT;
+		}
+	}
+
+	// 통계를 만드는 도중 저장된 응시 결과
+	private static class PendingResult {
+		private final long examResultId;
+		private final byte[] answerSheet;
+		private final boolean passed;
+		private final int score;
+
+		private PendingResult(long examResultId, byte[] answerSheet,
+				boolean passed, int score) {
+			this.examResultId = examResultId;
+			this.answerSheet = answerSheet;
+			this.passed = passed;
+			this.score = score;
+		}
+	}
+}
@@ -1,52 +1,129 @@
 package com.github.koobh95.service.impl;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.github.koobh95.data.model.dto.JmDTO;
 import com.github.koobh95.data.model.entity.Jm;
+import com.github.koobh95.data.repository.ExamInfoRepository;
 import com.github.koobh95.data.repository.JmRepository;
+import com.github.koobh95.search.JmNameIndex;
 import com.github.koobh95.service.JmService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 
 /**
- * 종목 정보와 관련된 비지니스 로직을 처리한다.
+ * - 종목 정보와 관련된 비지니스 로직을 처리한다.
+ * - 종목 목록(jm_tb)은 작고 거의 변경되지 않으므로 애플리케이션이 시작되면 별도의 스레드에서 
+ *  종목 이름 색인(JmNameIndex)을 만들고, INDEX_REFRESH_DELAY마다 다시 만들어 교체한다. 
+ *  색인은 변경되지 않는 객체이므로 volatile 필드의 교체만으로 검색 중인 요청에 영향 없이 반영된다.
+ * - 종목 이름 검색은 키 입력마다 요청되므로 LIKE 검색 대신 색인을 사용하며, 색인이 만들어지기 
+ *  전에만 DB에서 검색한다.
+ * - 시험 데이터(exam_info_tb)를 가진 종목 코드 목록도 색인과 함께 만들어 두고, 시험 데이터를 가진
+ *  종목 검색은 색인의 검색 결과를 이 목록으로 걸러 DB 조회 없이 처리한다. 시험 데이터는 
+ *  애플리케이션에서 변경하지 않으므로(@Immutable) 색인과 같은 주기로 다시 조회한다.
  * 
  * @author BH-Ku
  * @since 2023-12-19
  */
 @Service("jmService")
 @RequiredArgsConstructor
+@Log4j2
 public class JmServiceImpl implements JmService {
 	private final JmRepository jmRepository;
+	private final ExamInfoRepository examInfoRepository;
+	private final Executor executor;
+	
+	private final AtomicBoolean started = new AtomicBoolean();
+	private volatile JmNameIndex index; // 만들어지기 전에는 null
+	private volatile Set<String> jmCodesWithExam; // 시험 데이터를 가진 종목 코드
+	
+	private static final long INDEX_REFRESH_DELAY = 60 * 60 * 1000; // 색인 갱신 주기(ms)
+	
+	/**
+	 * - 컨텍스트 초기화가 끝나면 색인 생성을 시작한다.
+	 * - Servlet 컨텍스트의 초기화 이벤트도 전달되므로 최초 한 번만 시작한다.
+	 */
+	@EventListener(ContextRefreshedEvent.class)
+	public void onContextRefreshed() {
+		if(started.compareAndSet(false, true))
+			executor.execute(this::refreshIndex);
+	}
 	
 	/**
-	 *  DB에서 Keyword와 종목 이름이 부분일치하는 데이터를 조회한 결과를 JmDTO로 변환하여 결과를
-	 * 반환한다.
+	 *  색인에서 Keyword와 종목 이름이 부분일치하는 종목을 순위 순으로 검색한다. 초성으로만 이루어진
+	 * 검색어는 종목 이름의 초성과 비교한다.
 	 * 
 	 * @param keyword 부분 검색할 검색어
-	 * @return List<JmDTO> JmEntity를 JmDTO로 변환한 리스트 
+	 * @param limit 반환할 최대 종목 수, 0 이하라면 제한하지 않는다.
+	 * @return List<JmDTO> 검색된 종목 리스트
 	 */
-	@Transactional(readOnly = true)
 	@Override
-	public List<JmDTO> searchByJmName(String keyword) {
-		List<Jm> entityList = jmRepository.findByJmNameContaining(keyword);
-		return Jm.toDtoList(entityList);
+	public List<JmDTO> searchByJmName(String keyword, int limit) {
+		JmNameIndex current = index;
+		if(current != null)
+			return current.search(keyword, limit);
+		
+		List<JmDTO> dtoList = 
+				Jm.toDtoList(jmRepository.findByJmNameContaining(keyword));
+		return limit > 0 && dtoList.size() > limit ? 
+				dtoList.subList(0, limit) : dtoList;
 	}
 
 	/**
-	 *  DB에서 Keyword와 종목 이름이 일치하는 데이터를 조회한 결과에서 시험 데이터를 가진 종목에 한해
-	 * JmDTO로 변환하여 결과를 반환한다.
+	 *  색인에서 Keyword와 종목 이름이 일치하는 종목 중 시험 데이터를 가진 종목을 순위 순으로 
+	 * 검색한다. 색인이 만들어지기 전에는 DB에서 조회한다.
 	 * 
 	 * @param keyword 조회할 종목 이름
-	 * @return List<JmDTO> JmEntity를 JmDTO로 변환한 리스트 
+	 * @return List<JmDTO> 검색된 종목 리스트
 	 */
 	@Override
 	public List<JmDTO> searchByJmNameWithExam(String keyword) {
+		JmNameIndex current = index;
+		Set<String> jmCodes = jmCodesWithExam;
+		if(current != null && jmCodes != null)
+			return current.search(keyword, 0, 
+					jm -> jmCodes.contains(jm.getJmCode()));
+		
 		List<Jm> entityList = jmRepository.findByJmNameWithExamInfo(keyword);
 		return Jm.toDtoList(entityList);
 	}
+	
+	/**
+	 *  DB의 모든 종목과 시험 데이터를 가진 종목 코드로 색인을 새로 만들어 교체한다. 실패할 경우 기존
+	 * 색인을 그대로 사용한다.
+	 */
+	@Scheduled(initialDelay = INDEX_REFRESH_DELAY, fixedDelay = INDEX_REFRESH_DELAY)
+	@Override
+	public void refreshIndex() {
+		long start = System.currentTimeMillis();
+		List<Jm> entityList;
+		Set<String> jmCodes;
+		try {
+			entityList = jmRepository.findAll();
+			jmCodes = Collections.unmodifiableSet(
+					new HashSet<>(examInfoRepository.findDistinctJmCodes()));
+		} catch(DataAccessException e) {
+			log.error("종목 이름 색인을 만들던 도중 오류가 발생했습니다.");
+			log.error(e.getMessage());
+			return;
+		}
+		
+		jmCodesWithExam = jmCodes;
+		index = new JmNameIndex(Jm.toDtoList(entityList));
+		log.info("종목 이름 색인 생성 완료: " + index.size() + "건(시험 데이터 "
+				+ jmCodes.size() + "건), " 
+				+ (System.currentTimeMillis() - start) + "ms");
+	}
 }
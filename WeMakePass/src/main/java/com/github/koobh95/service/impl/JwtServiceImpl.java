@@ -31,6 +31,29 @@ public class JwtServiceImpl implements JwtService {
 	private final AES256Util aes256Util;
 	private final JwtProvider jwtProvider;
 	
+	/**
+	 * - 인증(로그인)이 완료된 사용자에게 AccessToken과 RefreshToken을 발급한다.
+	 * - 해당 사용자의 토큰 정보가 DB에 존재할 경우 토큰을 갱신하고 존재하지 않는다면 발급한 토큰을 새로
+	 *  삽입한다. 토큰 정보가 DB에 존재한다는 것은 이전에 로그인한 후 정상적으로 로그아웃되지 않았음을
+	 *  의미한다.
+	 * 
+	 * @param userId 토큰을 발급할 사용자의 아이디
+	 */
+	@Transactional
+	@Override
+	public JwtDTO issueToken(String userId) {
+		String refreshToken = jwtProvider.createRefreshToken();
+		Optional<UserToken> userToken = userTokenRepository.findById(userId);
+		
+		// 토큰의 존재 여부를 확인하여 존재할 경우 update, 아닐 경우 insert 
+		userToken.ifPresentOrElse(ut -> 
+			ut.updateRefreshToken(refreshToken), () -> 
+				userTokenRepository.save(new UserToken(userId, refreshToken)));
+		
+		return new JwtDTO(jwtProvider.createAccessToken(userId), 
+				aes256Util.encrypt(refreshToken));
+	}
+	
 	/**
 	 * - 클라이언트로부터 사용자의 ID와 보유한 RefreshToken을 받아 토큰 재발급을 진행한다.
 	 * - 토큰 재발급을 하기 위해 다음 사항들을 검증한다.
@@ -0,0 +1,290 @@
+package com.github.koobh95.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.github.koobh95.data.model.entity.MailOutbox;
+import com.github.koobh95.data.model.enums.MailOutboxStatus;
+import com.github.koobh95.data.repository.MailOutboxRepository;
+import com.github.koobh95.service.MailDispatchService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * - 발송 대기열(mail_outbox_tb)에 저장된 메일을 DISPATCH_DELAY마다 최대 BATCH_SIZE개씩 읽어 
+ *  발송한다.
+ * - 메일마다 SMTP 연결을 새로 맺지 않도록 하나의 Transport를 연결한 채로 유지하며 재사용한다. 
+ *  IDLE_TIMEOUT 동안 발송할 메일이 없으면 연결을 닫는다.
+ * - 서버가 메일을 거부(SendFailedException)했거나 메일을 생성할 수 없는 경우에만 발송 실패로 
+ *  기록한다. 실패한 메일은 시도 횟수에 따라 지수적으로 늘어나는 대기 시간(최대 MAX_BACKOFF) 이후 
+ *  다시 시도하며, MAX_ATTEMPTS번 실패하면 FAILED 상태로 변경하고 더 이상 시도하지 않는다.
+ * - SMTP 서버에 연결할 수 없거나 발송 도중 연결이 끊어지는 등의 오류는 메일의 문제가 아니므로 
+ *  메일은 시도 횟수를 늘리지 않은 채 PENDING 상태로 두고, 남은 메일의 발송을 멈춘 뒤 발송 자체를
+ *  일정 시간 중단한다.
+ * - 발송이 완료된 메일은 인증 코드가 남지 않도록 내용을 비운다.
+ * - 인증 메일은 인증 코드의 유효 시간이 지나면 쓸모가 없으므로, 재시도 대기나 발송 중단으로 만료
+ *  시간이 지난 메일은 발송하지 않고 FAILED 상태로 변경한다. 발송이 중단된 동안에도 만료 처리는 
+ *  매 주기마다 실행한다.
+ * - 발송 작업과 서버 종료 시 연결을 닫는 작업은 dispatchLock으로 동기화한다. 가상 스레드에서
+ *  실행될 때 SMTP 응답을 기다리는 동안 캐리어 스레드가 고정(pinning)되지 않도록 synchronized 
+ *  대신 ReentrantLock을 사용한다.
+ * - SMTP 서버 설정은 MailConfig의 JavaMailSenderImpl을 그대로 사용한다. 발송 동작은 내장 SMTP 
+ *  서버(GreenMail)를 사용하는 MailDispatchServiceImplTest에서 검증한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Service("mailDispatchService")
+@RequiredArgsConstructor
+@Log4j2
+public class MailDispatchServiceImpl implements MailDispatchService, 
+		DisposableBean {
+	private final MailOutboxRepository mailOutboxRepository;
+	private final JavaMailSenderImpl javaMailSender;
+	private final ReentrantLock dispatchLock = new ReentrantLock();
+	
+	private Transport transport; // 연결을 유지하며 재사용하는 SMTP Transport
+	private long lastSendTime; // 마지막으로 메일을 발송한 시간(ms)
+	private int connectFailures; // 연속으로 SMTP 서버 연결에 실패한 횟수
+	private long connectRetryTime; // SMTP 서버 연결을 다시 시도할 수 있는 시간(ms)
+	
+	private static final long DISPATCH_DELAY = 2000; // 발송 주기(ms)
+	private static final int BATCH_SIZE = 50; // 한 번에 발송할 최대 메일 수
+	private static final int MAX_ATTEMPTS = 5; // 메일 당 최대 발송 시도 횟수
+	private static final long BASE_BACKOFF = 30 * 1000; // 첫 재시도 대기 시간(ms)
+	private static final long MAX_BACKOFF = 30 * 60 * 1000; // 최대 재시도 대기 시간(ms)
+	private static final long IDLE_TIMEOUT = 60 * 1000; // 연결 유지 시간(ms)
+	private static final int MAX_ERROR_LENGTH = 1000; // last_error 컬럼 길이
+	private static final String EXPIRED_ERROR = "발송 전에 만료됨"; // 만료된 메일의 실패 사유
+
+	/**
+	 * - 발송 대기 중인 메일을 한 묶음 발송하고 발송에 성공한 메일 수를 반환한다.
+	 * - 발송 결과는 메일마다 즉시 DB에 반영한다. 발송과 결과 반영 사이에 서버가 종료되면 같은 메일이
+	 *  다시 발송될 수 있다(at-least-once).
+	 */
+	@Scheduled(fixedDelay = DISPATCH_DELAY)
+	@Override
+	public int dispatch() {
+		dispatchLock.lock();
+		try {
+			return dispatchBatch();
+		} finally {
+			dispatchLock.unlock();
+		}
+	}
+	
+	/**
+	 * 서버가 종료될 때 SMTP 연결을 닫는다.
+	 */
+	@Override
+	public void destroy() {
+		dispatchLock.lock();
+		try {
+			closeTransport();
+		} finally {
+			dispatchLock.unlock();
+		}
+	}
+	
+	// dispatch()의 구현, dispatchLock을 획득한 상태에서 호출된다.
+	private int dispatchBatch() {
+		final long now = System.currentTimeMillis();
+		expire();
+		if(now < connectRetryTime)
+			return 0;
+		
+		List<MailOutbox> mailList;
+		try {
+			mailList = mailOutboxRepository.findDispatchable(
+					LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+		} catch(DataAccessException e) {
+			log.error("발송 대기 중인 메일을 조회하던 도중 오류가 발생했습니다.");
+			log.error(e.getMessage());
+			return 0;
+		}
+		
+		if(mailList.isEmpty()) {
+			if(now - lastSendTime > IDLE_TIMEOUT)
+				closeTransport();
+			return 0;
+		}
+		
+		if(!connect())
+			return 0;
+		
+		int sentCount = 0;
+		for(MailOutbox mail : mailList) {
+			MimeMessage message;
+			try {
+				message = createMessage(mail);
+			} catch(MessagingException e) {
+				log.error("메일을 생성하던 도중 오류가 발생했습니다. (outboxNo=" + 
+						mail.getOutboxNo() + ')');
+				log.error(e.getMessage());
+				markFailed(mail, e);
+				continue;
+			}
+			
+			try {
+				transport.sendMessage(message, message.getAllRecipients());
+			} catch(SendFailedException e) {
+				log.error("메일 발송이 거부되었습니다. (outboxNo=" + 
+						mail.getOutboxNo() + ')');
+				log.error(e.getMessage());
+				markFailed(mail, e);
+				continue;
+			} catch(MessagingException e) {
+				// 메일이 아닌 연결의 문제이므로 메일은 PENDING 상태로 두고 발송을 중단한다.
+				log.error("메일을 발송하던 도중 SMTP 연결에 오류가 발생했습니다. (outboxNo=" + 
+						mail.getOutboxNo() + ')');
+				log.error(e.getMessage());
+				closeTransport();
+				connectRetryTime = System.currentTimeMillis() + 
+						backoff(++connectFailures);
+				break;
+			}
+			
+			try {
+				mailOutboxRepository.markSent(mail.getOutboxNo(), 
+						LocalDateTime.now());
+				sentCount++;
+			} catch(DataAccessException e) {
+				// 기록하지 못한 메일은 다음 발송 때 다시 발송되므로 더 발송하지 않는다.
+				log.error("메일 발송 완료를 기록하던 도중 오류가 발생했습니다. (outboxNo=" + 
+						mail.getOutboxNo() + ')');
+				log.error(e.getMessage());
+				break;
+			}
+		}
+		
+		lastSendTime = System.currentTimeMillis();
+		return sentCount;
+	}
+	
+	// 만료 시간이 지난 메일을 발송하지 않도록 FAILED 상태로 변경한다.
+	private void expire() {
+		try {
+			int expired = mailOutboxRepository.markExpired(LocalDateTime.now(), 
+					EXPIRED_ERROR);
+			if(expired > 0)
+				log.warn("만료 시간이 지나 발송하지 않은 메일: " + expired + "개");
+		} catch(DataAccessException e) {
+			log.error("만료된 메일을 처리하던 도중 오류가 발생했습니다.");
+			log.error(e.getMessage());
+		}
+	}
+	
+	/**
+	 * - 연결된 Transport가 없거나 연결이 끊어졌다면 SMTP 서버에 새로 연결한다.
+	 * - 연결에 실패하면 연속 실패 횟수에 따라 늘어나는 시간 동안 발송을 중단한다.
+	 * 
+	 * @return 연결 성공 여부
+	 */
+	private boolean connect() {
+		if(transport != null && transport.isConnected())
+			return true;
+		
+		closeTransport();
+		try {
+			transport = javaMailSender.getSession().getTransport(
+					javaMailSender.getProtocol() == null ? 
+							"smtp" : javaMailSender.getProtocol());
+			transport.connect(javaMailSender.getHost(), javaMailSender.getPort(),
+					javaMailSender.getUsername(), javaMailSender.getPassword());
+			connectFailures = 0;
+			return true;
+		} catch(MessagingException e) {
+			log.error("SMTP 서버에 연결하던 도중 오류가 발생했습니다.");
+			log.error(e.getMessage());
+			transport = null;
+			connectRetryTime = System.currentTimeMillis() + 
+					backoff(++connectFailures);
+			return false;
+		}
+	}
+	
+	// 연결된 Transport를 닫는다.
+	private void closeTransport() {
+		if(transport == null)
+			return;
+		
+		try {
+			transport.close();
+		} catch(MessagingException e) {
+			log.error("SMTP 연결을 닫던 도중 오류가 발생했습니다.");
+			log.error(e.getMessage());
+		}
+		transport = null;
+	}
+	
+	/**
+	 * 대기열에 저장된 메일 정보로 발송할 MimeMessage를 생성한다.
+	 * 
+	 * @param mail 발송할 메일 정보
+	 * @return
+	 * @throws MessagingException
+	 */
+	private MimeMessage createMessage(MailOutbox mail) 
+			throws MessagingException {
+		MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+		MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, 
+				"UTF-8");
+		helper.setTo(mail.getRecipient());
+		helper.setSubject(mail.getSubject());
+		helper.setText(mail.getContent(), true);
+		mimeMessage.saveChanges();
+		return mimeMessage;
+	}
+	
+	/**
+	 * 메일 발송 실패를 기록한다. 최대 시도 횟수에 도달했다면 더 이상 발송하지 않는다.
+	 * 
+	 * @param mail 발송에 실패한 메일
+	 * @param e 발송 중 발생한 예외
+	 */
+	private void markFailed(MailOutbox mail, MessagingException e) {
+		final int attempts = mail.getAttempts() + 1;
+		final MailOutboxStatus status = attempts >= MAX_ATTEMPTS ? 
+				MailOutboxStatus.FAILED : MailOutboxStatus.PENDING;
+		String error = String.valueOf(e.getMessage());
+		if(error.length() > MAX_ERROR_LENGTH)
+			error = error.substring(0, MAX_ERROR_LENGTH);
+		
+		try {
+			mailOutboxRepository.markFailed(mail.getOutboxNo(), status, 
+					LocalDateTime.now().plus(backoff(attempts), ChronoUnit.MILLIS), 
+					error);
+		} catch(DataAccessException de) {
+			log.error("메일 발송 실패를 기록하던 도중 오류가 발생했습니다. (outboxNo=" + 
+					mail.getOutboxNo() + ')');
+			log.error(de.getMessage());
+		}
+	}
+	
+	/**
+	 * 실패 횟수에 따라 BASE_BACKOFF부터 두 배씩 늘어나는 대기 시간을 반환한다.
+	 * 
+	 * @param failures 연속 실패 횟수(1 이상)
+	 * @return 대기 시간(ms), 최대 MAX_BACKOFF
+	 */
+	private long backoff(int failures) {
+		int shift = Math.min(failures - 1, 16);
+		return Math.min(BASE_BACKOFF << shift, MAX_BACKOFF);
+	}
+}
@@ -1,43 +1,41 @@
 package com.github.koobh95.service.impl;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.concurrent.Executor;
 
-import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
-
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.github.koobh95.data.model.entity.MailOutbox;
 import com.github.koobh95.data.model.entity.User;
 import com.github.koobh95.data.model.entity.UserCert;
 import com.github.koobh95.data.model.enums.ErrorCode;
+import com.github.koobh95.data.repository.MailOutboxRepository;
 import com.github.koobh95.data.repository.UserCertRepository;
 import com.github.koobh95.data.repository.UserRepository;
 import com.github.koobh95.exception.MailServiceException;
 import com.github.koobh95.service.MailService;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.log4j.Log4j2;
 
 /**
- * 메일 관련 비지니스 로직을 처리한다.
+ * - 메일 관련 비지니스 로직을 처리한다.
+ * - 메일은 직접 발송하지 않고 발송 대기열(mail_outbox_tb)에 저장하며, 실제 발송은 
+ *  MailDispatchService가 처리한다.
  *  
  * @author BH-Ku
  * @since 2023-12-29
  */
 @Service("mailService")
 @RequiredArgsConstructor
-@Log4j2
 public class MailServiceImpl implements MailService{
 	private final UserCertRepository userCertRepository;
 	private final UserRepository userRepository;
+	private final MailOutboxRepository mailOutboxRepository;
 	
-	private final JavaMailSender javaMailSender;
-	private final Executor executor;
+	// 인증 코드의 유효 시간, 이 시간 안에 발송하지 못한 인증 메일은 발송하지 않는다.
+	private static final Duration CERT_CODE_VALIDITY = Duration.ofMinutes(3);
 	
 	/**
 	 * - 계정 인증을 수행하지 않은 사용자를 대상으로 인증 메일을 발송한다.
@@ -46,7 +44,8 @@ public class MailServiceImpl implements MailService{
 	 *  > 로그인을 시도했으나 계정 인증을 수행하지 않은 상태라 로그인에 실패하고 계정 인증을 시도
 	 * - 기본적으로 계정을 생성한 직후나 로그인을 시도한 후에 접근할 수 있는 API에서만 호출되기 때문에
 	 *  계정의 존재 여부는 확인하지 않는다.
-	 * - 인증 코드를 발급한 뒤 테이블에 데이터를 삽입 혹은 갱신한 뒤 비동기로 이메일을 전송한다.
+	 * - 인증 코드를 발급한 뒤 테이블에 데이터를 삽입 혹은 갱신하고, 같은 트랜잭션에서 메일을 발송 
+	 *  대기열에 저장한다.
 	 *  
 	 * @param userId 계정 인증을 시도하는 유저의 아이디
 	 */
@@ -55,12 +54,11 @@ public class MailServiceImpl implements MailService{
 	public void sendAccountCertMail(String userId) {
 		final String email = userRepository.findById(userId).get().getEmail();
 		final String code = generateCertCode();
-		MimeMessage message = createAccountCertMail(email, code);
 		Optional<UserCert> userCert = userCertRepository.findById(userId);
 		userCert.ifPresentOrElse(e -> e.updateCode(code),
 				() -> userCertRepository.save(
 						new UserCert(userId, code, LocalDateTime.now())));
-		sendMail(message);
+		sendMail(createAccountCertMail(email, code));
 	}
 	
 	/**
@@ -69,6 +67,7 @@ public class MailServiceImpl implements MailService{
 	 * 
 	 * @param email 아이디 찾기에 사용되는 이메일
 	 */
+	@Transactional
 	@Override
 	public void sendFindIdMail(String email) {
 		Optional<User> user = userRepository.findByEmail(email);
@@ -84,7 +83,8 @@ public class MailServiceImpl implements MailService{
 	 * - 비밀번호 찾기 이메일을 전송한다.
 	 * - DB에 사용자 요청한 아이디와 일치하는 데이터가 있을 경우 해당 계정의 이메일로 비밀번호 찾기
 	 *  인증 메일을 발송한다.
-	 * - 인증 코드를 발급한 뒤 테이블에 데이터를 삽입 혹은 갱신한 뒤 비동기로 이메일을 전송한다.
+	 * - 인증 코드를 발급한 뒤 테이블에 데이터를 삽입 혹은 갱신하고, 같은 트랜잭션에서 메일을 발송 
+	 *  대기열에 저장한다.
 	 * 
 	 * @param userId
 	 */
@@ -132,26 +132,15 @@ public class MailServiceImpl implements MailService{
 	 * @param code 이메일에 포함시킬 인증 코드
 	 * @return
 	 */
-	private MimeMessage createAccountCertMail(String email, String code) {
-		MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-		
-		try {
-			MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, 
-					"UTF-8");
-			helper.setTo(email);
-			helper.setSubject("We Make Pass 회원가입을 위한 인증 번호 안내드립니다.");
-			helper.setText(new StringBuffer()
-					.append("<h1>안녕하세요. We Make Pass 입니다.</h1><br><br>")
-					.append("본인 인증을 위한 인증 번호 안내드립니다.<br>")
-					.append("다음 인증 번호를 3분 이내에 입력해주세요.<br>")
-					.append("<h3>" + code + "</h3><br><br>")
-					.toString(), true);
-		} catch (MessagingException e) {
-			log.error("이메일을 생성하던 도중 오류가 발생했습니다.");
-			log.error(e.getMessage());
-		}
-
-		return mimeMessage;
+	private MailOutbox createAccountCertMail(String email, String code) {
+		return MailOutbox.create(email, "We Make Pass 회원가입을 위한 인증 번호 안내드립니다.", 
+				new StringBuilder()
+				.append("<h1>안녕하세요. We Make Pass 입니다.</h1><br><br>")
+				.append("본인 인증을 위한 인증 번호 안내드립니다.<br>")
+				.append("다음 인증 번호를 " + CERT_CODE_VALIDITY.toMinutes() 
+						+ "분 이내에 입력해주세요.<br>")
+				.append("<h3>" + code + "</h3><br><br>")
+				.toString(), CERT_CODE_VALIDITY);
 	}
 	
 	/**
@@ -161,26 +150,14 @@ public class MailServiceImpl implements MailService{
 	 * @param userId 이메일에 작성할 아이디
 	 * @return
 	 */
-	private MimeMessage createFindIdMail(String email, String userId) {
-		MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-		
-		try {
-			MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true,
-					"UTF-8");
-			helper.setTo(email);
-			helper.setSubject("We Make Pass 아이디 찾기 안내입니다.");
-			helper.setText(new StringBuffer()
-					.append("<h1>안녕하세요. We Make Pass 입니다.</h1><br><br>")
-					.append("본 메일은 아이디 찾기 요청으로 발송되었습니다.<br>")
-					.append("회원님의 아이디는 다음과 같습니다.<br>")
-					.append("<h3>" + userId + "</h3><br>")
-					.toString(), true);
-		} catch (MessagingException e) {
-			log.error("이메일을 생성하던 도중 오류가 발생했습니다.");
-			log.error(e.getMessage());
-		}
-
-		return mimeMessage;
+	private MailOutbox createFindIdMail(String email, String userId) {
+		return MailOutbox.create(email, "We Make Pass 아이디 찾기 안내입니다.", 
+				new StringBuilder()
+				.append("<h1>안녕하세요. We Make Pass 입니다.</h1><br><br>")
+				.append("본 메일은 아이디 찾기 요청으로 발송되었습니다.<br>")
+				.append("회원님의 아이디는 다음과 같습니다.<br>")
+				.append("<h3>" + userId + "</h3><br>")
+				.toString());
 	}
 	
 	/**
@@ -189,39 +166,27 @@ public class MailServiceImpl implements MailService{
 	 * @param code 이메일에 포함시킬 인증 코드
 	 * @return
 	 */
-	private MimeMessage createFindPasswordCertMail(String email, String code) {
-		MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-		
-		try {
-			MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true,
-					"UTF-8");
-			helper.setTo(email);
-			helper.setSubject("We Make Pass 비밀번호 변경 인증번호입니다.");
-			helper.setText(new StringBuffer()
-					.append("<h1>안녕하세요. We Make Pass 입니다.</h1><br><br>")
-					.append("본 메일은 비밀번호 변경을 위해서 발송되었습니다.<br>")
-					.append("다음 인증 번호를 3분 이내에 입력해주세요.<br>")
-					.append("<h3>" + code + "</h3><br><br>")
-					.toString(), true);
-		} catch (MessagingException e) {
-			log.error("이메일을 생성하던 도중 오류가 발생했습니다.");
-			log.error(e.getMessage());
-		}
-
-		return mimeMessage;
+	private MailOutbox createFindPasswordCertMail(String email, String code) {
+		return MailOutbox.create(email, "We Make Pass 비밀번호 변경 인증번호입니다.", 
+				new StringBuilder()
+				.append("<h1>안녕하세요. We Make Pass 입니다.</h1><br><br>")
+				.append("본 메일은 비밀번호 변경을 위해서 발송되었습니다.<br>")
+				.append("다음 인증 번호를 " + CERT_CODE_VALIDITY.toMinutes() 
+						+ "분 이내에 입력해주세요.<br>")
+				.append("<h3>" + code + "</h3><br><br>")
+				.toString(), CERT_CODE_VALIDITY);
 	}
 	
 	/**
-	 * - 작성된 메일 객체를 파라미터로 받아 메일을 전송한다.
-	 * - 메일을 보내는 작업은 비동기로 수행한다. 메일을 전송하는데 약 2~4초 정도가 소요되기 때문에 
-	 *  클라이언트에서 느끼는 딜레이를 최소화하기 위해 요청을 처리하는 스레드가 아닌 별도의 스레드로 작업을
-	 *  처리한다.
+	 * - 작성된 메일을 발송 대기열(mail_outbox_tb)에 저장한다.
+	 * - 메일을 전송하는데 약 2~4초 정도가 소요되기 때문에 요청을 처리하는 스레드에서 직접 발송하지 
+	 *  않는다. 호출한 메서드의 트랜잭션 안에서 저장되므로 인증 코드 저장과 함께 커밋되며, 서버가 
+	 *  재시작되어도 유실되지 않는다. 실제 발송은 MailDispatchService가 처리한다.
 	 *  
-	 * @param message HTML로 작성된 메일 정보(제목, 내용, 발신자)를 갖고 있는 객체 
+	 * @param mail 수신자, 제목, HTML로 작성된 내용을 갖고 있는 객체 
 	 */
-	private void sendMail(MimeMessage message) {
-		Runnable task = () -> javaMailSender.send(message);
-		executor.execute(task);
+	private void sendMail(MailOutbox mail) {
+		mailOutboxRepository.save(mail);
 	}
 	
 	/**
@@ -230,10 +195,10 @@ public class MailServiceImpl implements MailService{
 	 * @return 6자리 숫자로 이루어진 랜덤 문자열 
 	 */
 	private String generateCertCode() {
-		StringBuffer codeBuffer = new StringBuffer();
+		StringBuilder codeBuilder = new StringBuilder();
 		
 		for (int i = 0; i < 6; i++)
-			codeBuffer.append((int) ((Math.random() * 10000) % 10));
-		return codeBuffer.toString();
+			codeBuilder.append((int) ((Math.random() * 10000) % 10));
+		return codeBuilder.toString();
 	}
 }
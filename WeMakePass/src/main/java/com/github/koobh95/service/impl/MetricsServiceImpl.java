@@ -0,0 +1,242 @@
+package com.github.koobh95.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import com.github.koobh95.cache.LruCache;
+import com.github.koobh95.data.model.dto.CacheRegionStatsDTO;
+import com.github.koobh95.data.model.enums.ErrorCode;
+import com.github.koobh95.metrics.ConnectionPoolMetrics;
+import com.github.koobh95.metrics.LatencyHistogram;
+import com.github.koobh95.metrics.MetricsRegistry;
+import com.github.koobh95.metrics.MetricsRegistry.EndpointMetrics;
+import com.github.koobh95.metrics.MetricsRegistry.StatementType;
+import com.github.koobh95.metrics.PrometheusTextWriter;
+import com.github.koobh95.service.CacheStatisticsService;
+import com.github.koobh95.service.MetricsService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * - 서버가 수집한 지표를 Prometheus 텍스트 형식으로 제공한다.
+ * - 요청 처리 시간, 요청 수, ErrorCode별 에러 수, DB Statement 실행 시간은 MetricsRegistry에서 
+ *  읽고, 커넥션 풀, 스레드 풀, 캐시의 상태는 조회 시점의 값을 읽는다.
+ * - 스레드 풀은 Executor 타입의 모든 bean 중 ThreadPoolTaskExecutor, ThreadPoolTaskScheduler를
+ *  bean 이름으로 구분하여 작성한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Service("metricsService")
+@RequiredArgsConstructor
+public class MetricsServiceImpl implements MetricsService {
+	private final MetricsRegistry metricsRegistry;
+	private final ConnectionPoolMetrics connectionPoolMetrics;
+	private final Map<String, Executor> executors;
+	private final List<LruCache<?, ?>> caches;
+	private final CacheStatisticsService cacheStatisticsService;
+	
+	// 요청 처리 시간, DB Statement 실행 시간의 백분위
+	private static final double[] QUANTILES = { 0.5, 0.9, 0.99, 0.999 };
+	private static final String[] QUANTILE_LABELS = { "0.5", "0.9", "0.99", "0.999" };
+
+	/**
+	 * 수집한 모든 지표를 Prometheus 텍스트 형식으로 반환한다.
+	 */
+	@Override
+	public String scrape() {
+		PrometheusTextWriter writer = new PrometheusTextWriter();
+		writeHttpMetrics(writer);
+		writeErrorMetrics(writer);
+		writeDatabaseMetrics(writer);
+		writeExecutorMetrics(writer);
+		writeCacheMetrics(writer);
+		return writer.toString();
+	}
+	
+	// API별 요청 처리 시간과 응답 상태 코드별 요청 수를 작성한다.
+	private void writeHttpMetrics(PrometheusTextWriter writer) {
+		final String latency = "wmp_http_server_requests_seconds";
+		writer.header(latency, "HTTP 요청 처리 시간", "summary");
+		metricsRegistry.forEachEndpoint((uri, endpoint) -> 
+			writeSummary(writer, latency, endpoint.getLatency(), 
+					"method", endpoint.getMethod().name(), "uri", uri));
+		
+		final String max = "wmp_http_server_requests_seconds_max";
+		writer.header(max, "HTTP 요청 처리 시간의 최대값", "gauge");
+		metricsRegistry.forEachEndpoint((uri, endpoint) -> 
+			writer.sample(max, endpoint.getLatency().getMaxSeconds(), 
+					"method", endpoint.getMethod().name(), "uri", uri));
+		
+		final String requests = "wmp_http_server_requests_total";
+		writer.header(requests, "응답 상태 코드별 HTTP 요청 수", "counter");
+		metricsRegistry.forEachEndpoint((uri, endpoint) -> 
+			writeStatusCounts(writer, requests, uri, endpoint));
+	}
+	
+	// 응답 상태 코드별 요청 수를 작성한다.
+	private void writeStatusCounts(PrometheusTextWriter writer, String name,
+			String uri, EndpointMetrics endpoint) {
+		endpoint.forEachStatus((status, count) -> writer.sample(name, count, 
+				"method", endpoint.getMethod().name(), "uri", uri, 
+				"status", String.valueOf(status)));
+	}
+	
+	// ErrorCode별로 클라이언트에 반환한 횟수를 작성한다.
+	private void writeErrorMetrics(PrometheusTextWriter writer) {
+		final String errors = "wmp_errors_total";
+		writer.header(errors, "ErrorCode별 에러 응답 수", "counter");
+		for(ErrorCode errorCode : ErrorCode.values())
+			writer.sample(errors, metricsRegistry.getErrorCount(errorCode), 
+					"code", errorCode.name(), 
+					"status", String.valueOf(errorCode.getHttpStatus().value()));
+	}
+	
+	// DB Statement 실행 시간과 커넥션 풀의 상태를 작성한다.
+	private void writeDatabaseMetrics(PrometheusTextWriter writer) {
+		final String statement = "wmp_db_statement_seconds";
+		writer.header(statement, "DB Statement 실행 시간", "summary");
+		for(StatementType type : StatementType.values())
+			writeSummary(writer, statement, 
+					metricsRegistry.getStatementLatency(type), 
+					"type", type.name().toLowerCase());
+		
+		writer.header("wmp_db_statement_errors_total", 
+				"실행 중 예외가 발생한 DB Statement 수", "counter")
+			.sample("wmp_db_statement_errors_total", 
+					metricsRegistry.getStatementErrorCount());
+		
+		final String connections = "wmp_db_pool_connections";
+		writer.header(connections, "상태별 커넥션 수", "gauge")
+			.sample(connections, connectionPoolMetrics.getActiveConnections(), 
+					"state", "active")
+			.sample(connections, connectionPoolMetrics.getIdleConnections(), 
+					"state", "idle")
+			.sample(connections, connectionPoolMetrics.getTotalConnections(), 
+					"state", "total");
+		writer.header("wmp_db_pool_pending_threads", 
+				"커넥션을 얻기 위해 대기 중인 스레드 수", "gauge")
+			.sample("wmp_db_pool_pending_threads", 
+					connectionPoolMetrics.getPendingThreads());
+		writer.header("wmp_db_pool_acquire_total", "커넥션 획득 횟수", "counter")
+			.sample("wmp_db_pool_acquire_total", 
+					connectionPoolMetrics.getAcquireCount());
+		writer.header("wmp_db_pool_acquire_seconds_total", 
+				"커넥션 획득 대기 시간의 합계", "counter")
+			.sample("wmp_db_pool_acquire_seconds_total", 
+					connectionPoolMetrics.getTotalAcquireMillis() / 1000);
+		writer.header("wmp_db_pool_acquire_seconds_max", 
+				"커넥션 획득 대기 시간의 최대값", "gauge")
+			.sample("wmp_db_pool_acquire_seconds_max", 
+					connectionPoolMetrics.getMaxAcquireMillis() / 1000);
+		writer.header("wmp_db_pool_timeouts_total", "커넥션 획득 타임아웃 횟수", 
+				"counter")
+			.sample("wmp_db_pool_timeouts_total", 
+					connectionPoolMetrics.getTimeoutCount());
+		writer.header("wmp_db_pool_usage_seconds_total", "커넥션 사용 시간의 합계", 
+				"counter")
+			.sample("wmp_db_pool_usage_seconds_total", 
+					connectionPoolMetrics.getTotalUsageMillis() / 1000.0);
+	}
+	
+	// 스레드 풀별 활성 스레드 수, 대기열 크기 등을 작성한다.
+	private void writeExecutorMetrics(PrometheusTextWriter writer) {
+		List<String> names = new ArrayList<>();
+		List<ThreadPoolExecutor> pools = new ArrayList<>();
+		executors.forEach((name, executor) -> {
+			if(executor instanceof ThreadPoolTaskExecutor) {
+				names.add(name);
+				pools.add(((ThreadPoolTaskExecutor)executor).getThreadPoolExecutor());
+			} else if(executor instanceof ThreadPoolTaskScheduler) {
+				names.add(name);
+				pools.add(((ThreadPoolTaskScheduler)executor)
+						.getScheduledThreadPoolExecutor());
+			}
+		});
+		
+		writer.header("wmp_executor_active_threads", "작업 중인 스레드 수", "gauge");
+		for(int i = 0; i < pools.size(); i++)
+			writer.sample("wmp_executor_active_threads", 
+					pools.get(i).getActiveCount(), "executor", names.get(i));
+		writer.header("wmp_executor_pool_size", "스레드 풀의 스레드 수", "gauge");
+		for(int i = 0; i < pools.size(); i++)
+			writer.sample("wmp_executor_pool_size", 
+					pools.get(i).getPoolSize(), "executor", names.get(i));
+		writer.header("wmp_executor_queue_size", "대기열에서 대기 중인 작업 수", "gauge");
+		for(int i = 0; i < pools.size(); i++)
+			writer.sample("wmp_executor_queue_size", 
+					pools.get(i).getQueue().size(), "executor", names.get(i));
+		writer.header("wmp_executor_queue_remaining", "대기열의 남은 용량", "gauge");
+		for(int i = 0; i < pools.size(); i++)
+			writer.sample("wmp_executor_queue_remaining", 
+					pools.get(i).getQueue().remainingCapacity(), 
+					"executor", names.get(i));
+		writer.header("wmp_executor_completed_tasks_total", "완료된 작업 수", 
+				"counter");
+		for(int i = 0; i < pools.size(); i++)
+			writer.sample("wmp_executor_completed_tasks_total", 
+					pools.get(i).getCompletedTaskCount(), "executor", names.get(i));
+	}
+	
+	// 애플리케이션 캐시(LruCache)와 Hibernate 2차 캐시의 적중/실패 수를 작성한다.
+	private void writeCacheMetrics(PrometheusTextWriter writer) {
+		writer.header("wmp_cache_hits_total", "캐시 적중 수", "counter");
+		for(LruCache<?, ?> cache : caches)
+			writer.sample("wmp_cache_hits_total", cache.getHitCount(), 
+					"cache", cache.getName());
+		writer.header("wmp_cache_misses_total", "캐시 실패 수", "counter");
+		for(LruCache<?, ?> cache : caches)
+			writer.sample("wmp_cache_misses_total", cache.getMissCount(), 
+					"cache", cache.getName());
+		writer.header("wmp_cache_size", "캐시에 저장된 항목 수", "gauge");
+		for(LruCache<?, ?> cache : caches)
+			writer.sample("wmp_cache_size", cache.size(), "cache", cache.getName());
+		writer.header("wmp_cache_max_size", "캐시에 저장할 수 있는 최대 항목 수", 
+				"gauge");
+		for(LruCache<?, ?> cache : caches)
+			writer.sample("wmp_cache_max_size", cache.getMaxSize(), 
+					"cache", cache.getName());
+		
+		List<CacheRegionStatsDTO> regions = cacheStatisticsService.regionStats();
+		writer.header("wmp_hibernate_cache_hits_total", "2차 캐시 영역별 적중 수", 
+				"counter");
+		for(CacheRegionStatsDTO region : regions)
+			writer.sample("wmp_hibernate_cache_hits_total", region.getHitCount(), 
+					"region", region.getRegionName(), 
+					"type", region.getRegionType());
+		writer.header("wmp_hibernate_cache_misses_total", "2차 캐시 영역별 실패 수", 
+				"counter");
+		for(CacheRegionStatsDTO region : regions)
+			writer.sample("wmp_hibernate_cache_misses_total", region.getMissCount(), 
+					"region", region.getRegionName(), 
+					"type", region.getRegionType());
+		writer.header("wmp_hibernate_cache_puts_total", "2차 캐시 영역별 저장 수", 
+				"counter");
+		for(CacheRegionStatsDTO region : regions)
+			writer.sample("wmp_hibernate_cache_puts_total", region.getPutCount(), 
+					"region", region.getRegionName(), 
+					"type", region.getRegionType());
+	}
+	
+	// 히스토그램의 백분위 수, 합계, 개수를 summary 형식으로 작성한다.
+	private void writeSummary(PrometheusTextWriter writer, String name, 
+			LatencyHistogram histogram, String... labels) {
+		double[] values = histogram.getQuantileSeconds(QUANTILES);
+		String[] quantileLabels = new String[labels.length + 2];
+		System.arraycopy(labels, 0, quantileLabels, 0, labels.length);
+		quantileLabels[labels.length] = "quantile";
+		for(int i = 0; i < QUANTILES.length; i++) {
+			quantileLabels[labels.length + 1] = QUANTILE_LABELS[i];
+			writer.sample(name, values[i], quantileLabels);
+		}
+		writer.sample(name + "_sum", histogram.getSumSeconds(), labels);
+		writer.sample(name + "_count", histogram.getCount(), labels);
+	}
+}
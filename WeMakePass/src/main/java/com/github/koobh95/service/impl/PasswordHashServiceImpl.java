@@ -0,0 +1,69 @@
+package com.github.koobh95.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.github.koobh95.data.model.enums.ErrorCode;
+import com.github.koobh95.exception.PasswordHashException;
+import com.github.koobh95.service.PasswordHashService;
+
+/**
+ * - 비밀번호 단방향 암호화(BCrypt)와 검증을 전용 스레드 풀(passwordHashExecutor)에서 처리한다.
+ * - BCrypt는 의도적으로 CPU를 많이 사용하는 연산이므로 요청을 처리하는 스레드에서 직접 수행하면 
+ *  로그인이 몰리는 시간에 다른 API까지 처리가 지연된다. 전용 스레드 풀의 크기와 대기열을 제한하여 
+ *  동시에 수행되는 해시 작업을 제한하고, 대기열이 가득 차면 기다리지 않고 즉시 
+ *  PasswordHashException(503)으로 거절한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Service("passwordHashService")
+public class PasswordHashServiceImpl implements PasswordHashService {
+	private final PasswordEncoder passwordEncoder;
+	private final Executor passwordHashExecutor;
+	
+	public PasswordHashServiceImpl(PasswordEncoder passwordEncoder,
+			@Qualifier("passwordHashExecutor") Executor passwordHashExecutor) {
+		this.passwordEncoder = passwordEncoder;
+		this.passwordHashExecutor = passwordHashExecutor;
+	}
+
+	/**
+	 * 비밀번호를 단방향 암호화한다.
+	 * 
+	 * @param rawPassword 평문 비밀번호
+	 */
+	@Override
+	public CompletableFuture<String> encode(CharSequence rawPassword) {
+		return submit(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	/**
+	 * 비밀번호가 암호화된 비밀번호와 일치하는지 검증한다.
+	 * 
+	 * @param rawPassword 평문 비밀번호
+	 * @param encodedPassword 단방향 암호화된 비밀번호
+	 */
+	@Override
+	public CompletableFuture<Boolean> matches(CharSequence rawPassword, 
+			String encodedPassword) {
+		return submit(() -> passwordEncoder.matches(rawPassword, 
+				encodedPassword));
+	}
+	
+	// 작업을 전용 스레드 풀에 제출한다. 대기열이 가득 찼다면 즉시 예외를 던진다.
+	private <T> CompletableFuture<T> submit(Supplier<T> task) {
+		try {
+			return CompletableFuture.supplyAsync(task, passwordHashExecutor);
+		} catch(RejectedExecutionException e) {
+			throw new PasswordHashException(ErrorCode.PASSWORD_HASH_BUSY,
+					"비밀번호 해시 작업 대기열이 가득 찼습니다.");
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package com.github.koobh95.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.github.koobh95.service.PostHitService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * - 게시글 조회수를 Write-behind 방식으로 처리한다.
+ * - 조회 시마다 post_tb의 행을 UPDATE하면 인기 게시글의 행 잠금에서 요청이 직렬화되므로, 조회수
+ *  증가량은 게시글 번호별 LongAdder에 누적하고 FLUSH_DELAY마다 하나의 JDBC batch UPDATE로
+ *  DB에 반영한다.
+ * - 반영되지 않은 증가량은 서버가 비정상 종료될 경우 유실될 수 있다. 정상 종료 시에는 destroy()에서
+ *  마지막으로 반영한다.
+ * - 반영이 끝나 증가량이 0이 된 게시글은 Map에서 제거되는데, 제거되는 순간과 동시에 증가된 조회수
+ *  1건이 드물게 누락될 수 있다. 조회수는 정확한 값이 요구되지 않으므로 이를 허용한다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Service("PostHitService")
+@RequiredArgsConstructor
+@Log4j2
+public class PostHitServiceImpl implements PostHitService, DisposableBean {
+	private final JdbcTemplate jdbcTemplate;
+	
+	// 게시글 번호별로 아직 DB에 반영되지 않은 조회수 증가량
+	private final Map<Long, LongAdder> pendingHits = new ConcurrentHashMap<>();
+	
+	private static final String FLUSH_SQL = 
+			"UPDATE post_tb SET hit = hit + ? WHERE post_no = ?";
+	private static final long FLUSH_DELAY = 3000; // 반영 주기(ms)
+
+	/**
+	 * 특정 게시글의 조회수를 1 증가시키고, 아직 DB에 반영되지 않은 증가량을 반환한다.
+	 * 
+	 * @param postNo 조회수를 증가시킬 게시글의 고유 식별 번호
+	 */
+	@Override
+	public long increase(long postNo) {
+		LongAdder adder = pendingHits.computeIfAbsent(postNo, 
+				k -> new LongAdder());
+		adder.increment();
+		return adder.sum();
+	}
+
+	/**
+	 * 특정 게시글에 대해 아직 DB에 반영되지 않은 조회수 증가량을 반환한다.
+	 * 
+	 * @param postNo 조회할 게시글의 고유 식별 번호
+	 */
+	@Override
+	public long pendingHit(long postNo) {
+		LongAdder adder = pendingHits.get(postNo);
+		return adder == null ? 0 : adder.sum();
+	}
+
+	/**
+	 * - 누적된 조회수 증가량을 하나의 batch UPDATE로 DB에 반영한다.
+	 * - 읽은 값만큼만 LongAdder에서 차감하므로 반영 도중 증가한 조회수는 다음 주기에 반영된다.
+	 * - UPDATE에 실패할 경우 차감한 값을 되돌려 다음 주기에 다시 시도한다.
+	 */
+	@Scheduled(fixedDelay = FLUSH_DELAY)
+	@Override
+	public void flush() {
+		List<Object[]> batchArgs = new ArrayList<>();
+		List<LongAdder> adders = new ArrayList<>();
+		
+		for(Map.Entry<Long, LongAdder> entry : pendingHits.entrySet()) {
+			LongAdder adder = entry.getValue();
+			long delta = adder.sum();
+			if(delta == 0) {
+				pendingHits.computeIfPresent(entry.getKey(), 
+						(k, v) -> v.sum() == 0 ? null : v);
+				continue;
+			}
+			adder.add(-delta);
+			batchArgs.add(new Object[] { delta, entry.getKey() });
+			adders.add(adder);
+		}
+		
+		if(batchArgs.isEmpty())
+			return;
+		
+		try {
+			jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+		} catch(DataAccessException e) {
+			log.error("조회수를 DB에 반영하던 도중 오류가 발생했습니다.");
+			log.error(e.getMessage());
+			for(int i = 0; i < adders.size(); i++)
+				adders.get(i).add((long)batchArgs.get(i)[0]);
+		}
+	}
+
+	// 애플리케이션 종료 시 남아 있는 조회수 증가량을 반영
+	@Override
+	public void destroy() {
+		flush();
+	}
+}
@@ -0,0 +1,208 @@
+package com.github.koobh95.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.github.koobh95.data.model.entity.mapping.PostIndexMapping;
+import com.github.koobh95.data.model.enums.PostSearchTarget;
+import com.github.koobh95.data.repository.PostRepository;
+import com.github.koobh95.search.PostSearchIndex;
+import com.github.koobh95.service.PostIndexService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * - 게시판별 게시글 검색 색인(PostSearchIndex)을 관리한다.
+ * - 애플리케이션이 시작되면 별도의 스레드에서 DB에 저장된 게시글을 읽어 색인을 구축하며, 구축이 
+ *  완료되기 전까지 search()는 null을 반환하여 호출하는 측이 기존의 LIKE 검색을 사용하도록 한다.
+ * - 색인은 사용 중인 색인과 별도의 Map에 새로 구축한 뒤 통째로 교체한다. 구축하는 도중에 작성된
+ *  게시글은 사용 중인 색인에 추가되는 동시에 목록에 모아 두었다가, 교체 직전에 새 색인에 다시
+ *  추가한다. 중복으로 추가되는 게시글 번호는 PostingList에서 무시된다.
+ * - 다시 구축하는 동안에도 기존 색인으로 검색하며, 구축은 동시에 하나만 실행된다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Service("PostIndexService")
+@RequiredArgsConstructor
+@Log4j2
+public class PostIndexServiceImpl implements PostIndexService {
+	private final PostRepository postRepository;
+	private final Executor executor;
+	
+	// 게시판 번호별 검색 색인, 구축이 끝나면 새 Map으로 교체된다.
+	private volatile Map<Long, PostSearchIndex> indexes = new ConcurrentHashMap<>();
+	private final AtomicBoolean started = new AtomicBoolean();
+	private final AtomicBoolean building = new AtomicBoolean();
+	private volatile boolean ready;
+	
+	// add()와 색인 교체를 직렬화하여, 구축 중 작성된 게시글이 교체 후의 색인에서 누락되지 않도록 한다.
+	private final Lock swapLock = new ReentrantLock();
+	private List<PendingPost> pendingPosts; // 구축 중에 작성된 게시글, swapLock으로 보호
+	
+	private final int BUILD_CHUNK_SIZE = 500; // 색인 구축 시 한 번에 읽을 게시글 수
+
+	/**
+	 * - 컨텍스트 초기화가 끝나면 색인 구축을 시작한다.
+	 * - Servlet 컨텍스트의 초기화 이벤트도 전달되므로 최초 한 번만 시작한다.
+	 */
+	@EventListener(ContextRefreshedEvent.class)
+	public void onContextRefreshed() {
+		if(started.compareAndSet(false, true))
+			executor.execute(this::rebuild);
+	}
+
+	@Override
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 새로 작성된 게시글을 색인에 추가한다.
+	 * 
+	 * @param postNo 게시글의 고유 식별 번호
+	 * @param boardNo 게시글이 작성된 게시판의 고유 식별 번호
+	 * @param title 게시글 제목
+	 * @param content 게시글 내용
+	 */
+	@Override
+	public void add(long postNo, long boardNo, String title, String content) {
+		swapLock.lock();
+		try {
+			if(pendingPosts != null)
+				pendingPosts.add(new PendingPost(postNo, boardNo, title, content));
+			add(indexes, postNo, boardNo, title, content);
+		} finally {
+			swapLock.unlock();
+		}
+	}
+
+	/**
+	 * 특정 게시판에서 키워드를 포함할 가능성이 있는 게시글 번호를 검색한다.
+	 * 
+	 * @param boardNo 검색할 게시판의 고유 식별 번호
+	 * @param keyword 검색 키워드
+	 * @param target 키워드와 비교할 대상
+	 * @param beforePostNo 이 번호보다 작은 번호를 가진 게시글만 검색, 0 이하라면 제한하지 않는다.
+	 * @return 오름차순으로 정렬된 후보 게시글 번호 배열, 색인을 사용할 수 없다면 null
+	 */
+	@Override
+	public long[] search(long boardNo, String keyword, 
+			PostSearchTarget target, long beforePostNo) {
+		if(!ready || keyword == null || keyword.isEmpty())
+			return null;
+		
+		PostSearchIndex index = indexes.get(boardNo);
+		if(index == null)
+			return new long[0];
+		return index.search(keyword, target, 
+				beforePostNo > 0 ? beforePostNo : Long.MAX_VALUE);
+	}
+
+	/**
+	 * - 삭제되지 않은 모든 게시글을 게시글 번호 순으로 나누어 읽으며 새 색인에 추가하고, 구축 중에 
+	 *  작성된 게시글을 더한 뒤 사용 중인 색인과 교체한다.
+	 * - 실패할 경우 기존 색인을 그대로 사용하며, 최초 구축에 실패했다면 검색은 기존의 LIKE 검색으로
+	 *  처리된다. 이미 구축 중이라면 아무것도 하지 않는다.
+	 */
+	@Override
+	public void rebuild() {
+		if(!building.compareAndSet(false, true))
+			return;
+		try {
+			build();
+		} finally {
+			building.set(false);
+		}
+	}
+	
+	private void build() {
+		long start = System.currentTimeMillis();
+		long after = 0;
+		int count = 0;
+		Map<Long, PostSearchIndex> newIndexes = new ConcurrentHashMap<>();
+		setPendingPosts(new ArrayList<>());
+		
+		try {
+			Slice<PostIndexMapping> slice;
+			do {
+				slice = postRepository.findForIndex(
+						PageRequest.of(0, BUILD_CHUNK_SIZE, Sort.by("postNo")), 
+						after);
+				for(PostIndexMapping m : slice) {
+					add(newIndexes, m.getPostNo(), m.getBoardNo(), m.getTitle(), 
+							m.getContent());
+					after = m.getPostNo();
+					count++;
+				}
+			} while(slice.hasNext());
+		} catch(DataAccessException e) {
+			log.error("게시글 검색 색인을 구축하던 도중 오류가 발생했습니다.");
+			log.error(e.getMessage());
+			setPendingPosts(null);
+			return;
+		}
+		
+		int pending;
+		swapLock.lock();
+		try {
+			pending = pendingPosts.size();
+			for(PendingPost p : pendingPosts)
+				add(newIndexes, p.postNo, p.boardNo, p.title, p.content);
+			pendingPosts = null;
+			indexes = newIndexes;
+		} finally {
+			swapLock.unlock();
+		}
+		
+		ready = true;
+		log.info("게시글 검색 색인 구축 완료: " + count + "건(구축 중 작성 " + pending + "건), " 
+				+ (System.currentTimeMillis() - start) + "ms");
+	}
+	
+	private void setPendingPosts(List<PendingPost> list) {
+		swapLock.lock();
+		try {
+			pendingPosts = list;
+		} finally {
+			swapLock.unlock();
+		}
+	}
+	
+	private static void add(Map<Long, PostSearchIndex> target, long postNo, 
+			long boardNo, String title, String content) {
+		target.computeIfAbsent(boardNo, k -> new PostSearchIndex())
+			.add(postNo, title, content);
+	}
+	
+	// 색인을 구축하는 도중 작성된 게시글
+	private static class PendingPost {
+		private final long postNo;
+		private final long boardNo;
+		private final String title;
+		private final String content;
+		
+		private PendingPost(long postNo, long boardNo, String title, 
+				String content) {
+			this.postNo = postNo;
+			this.boardNo = boardNo;
+			this.title = title;
+			this.content = content;
+		}
+	}
+}
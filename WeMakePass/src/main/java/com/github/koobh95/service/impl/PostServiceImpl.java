@@ -1,7 +1,13 @@
 package com.github.koobh95.service.impl;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,8 +19,12 @@ import com.github.koobh95.data.model.dto.response.PostPageResponse;
 import com.github.koobh95.data.model.entity.Post;
 import com.github.koobh95.data.model.entity.mapping.PostMapping;
 import com.github.koobh95.data.model.enums.ErrorCode;
+import com.github.koobh95.data.model.enums.PostSearchTarget;
 import com.github.koobh95.data.repository.PostRepository;
 import com.github.koobh95.exception.PostException;
+import com.github.koobh95.service.BoardService;
+import com.github.koobh95.service.PostHitService;
+import com.github.koobh95.service.PostIndexService;
 import com.github.koobh95.service.PostService;
 
 import lombok.RequiredArgsConstructor;
@@ -29,8 +39,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 	private final PostRepository postRepository;
+	private final PostHitService postHitService;
+	private final PostIndexService postIndexService;
+	private final BoardService boardService;
 	
 	private final int PAGE_SIZE = 20; // 한 페이지에 표시할 데이터 개수
+	// 검색 후보를 DB에서 확인할 때 한 번에 조회할 게시글 수, Oracle IN 절의 제한(1000)보다 작아야 한다.
+	private final int SEARCH_CHUNK_SIZE = 500;
 
 	/**
 	 * 특정 게시판의 게시글을 페이지 단위로 조회한다.
@@ -64,24 +79,66 @@ public class PostServiceImpl implements PostService {
 		return createPostPageResponse(page);
 	}
 
+	/**
+	 * - 특정 게시판의 게시글을 Keyset 방식으로 조회한다.
+	 * - OFFSET 대신 "postNo < beforePostNo" 조건으로 다음 목록을 읽기 때문에 깊은 페이지에서도
+	 *  조회 비용이 일정하고, Slice로 조회하므로 COUNT 쿼리가 실행되지 않는다.
+	 * - 첫 목록을 조회할 때는 beforePostNo에 0 이하의 값을 전달한다.
+	 * 
+	 * @param boardNo 조회할 게시판의 고유 식별 번호
+	 * @param beforePostNo 이전에 읽은 목록의 nextCursor
+	 */
+	@Override
+	public PostPageResponse postListBefore(long boardNo, long beforePostNo) {
+		Slice<PostMapping> slice = postRepository.findByBoardNoBeforePostNo(
+				createKeysetPageRequest(), boardNo, toCursor(beforePostNo));
+		return createPostPageResponse(slice);
+	}
+
+	/**
+	 * 특정 게시판, 특정 카테고리의 게시글을 Keyset 방식으로 조회한다.
+	 * 
+	 * @param boardNo 조회할 게시판의 고유 식별 번호
+	 * @param beforePostNo 이전에 읽은 목록의 nextCursor
+	 * @param category 조회할 카테고리
+	 */
+	@Override
+	public PostPageResponse postListByCategoryBefore(long boardNo, 
+			long beforePostNo, String category) {
+		Slice<PostMapping> slice = 
+				postRepository.findByBoardNoAndCategoryBeforePostNo(
+						createKeysetPageRequest(), boardNo, category, 
+						toCursor(beforePostNo));
+		return createPostPageResponse(slice);
+	}
+
     /**
-     * 새로운 게시글을 DB에 저장한다.
+     * 새로운 게시글을 DB에 저장하고 검색 색인에 추가한다. 게시판과 카테고리는 게시판 스냅샷에서
+     * 확인한다.
      * 
      * @param postWriteRequest 새로운 게시글에 대한 데이터를 갖고 있는 객체
      */
 	@Override
 	public void write(PostWriteRequest postWriteRequest) {
-		postRepository.save(postWriteRequest.toEntity());
+		if(!boardService.isValidCategory(postWriteRequest.getBoardNo(), 
+				postWriteRequest.getCategory()))
+			throw new PostException(ErrorCode.POST_WRITE_FAILED_INVALID_CATEGORY,
+					"boardNo=" + postWriteRequest.getBoardNo() 
+							+ ", category=" + postWriteRequest.getCategory());
+		Post post = postRepository.save(postWriteRequest.toEntity());
+		postIndexService.add(post.getPostNo(), post.getBoardNo(), 
+				post.getTitle(), post.getContent());
 	}
 
 	/**
 	 * - 특정 게시물을 조회했을 경우 클라이언트에 표시할 데이터를 반환한다.
 	 * - 조회하려는 게시물이 삭제된 상태일 가능성이 있으므로 삭제 여부를 확인한다.
-	 * - 게시글을 조회하는 시점에서 조회수를 1 증가시킨 뒤 Entity 객체를 DTO 객체로 변환, 반환한다.
+	 * - 조회수는 PostHitService에 누적된 뒤 주기적으로 DB에 반영되므로, DB에 저장된 조회수에 아직
+	 *  반영되지 않은 증가량을 더하여 반환한다. 따라서 post_tb에 대한 UPDATE가 발생하지 않는다.
 	 * 
 	 * @param postNo 조회할 게시글의 고유 식별 번호
 	 */
-	@Transactional
+	@Transactional(readOnly = true)
 	@Override
 	public PostDetailDTO postDetail(long postNo) {
 		Post entity = postRepository.findByPostNo(postNo);
@@ -90,26 +147,33 @@ public class PostServiceImpl implements PostService {
 			throw new PostException(ErrorCode.POST_LOADING_FAILED_POST_DELETED,
 					"postNo=" + postNo);
 		
-		entity.increaseHit();
+		long pendingHit = postHitService.increase(postNo);
 		return new PostDetailDTO(
 				entity.getCategory(), 
 				entity.getUser().getNickname(),
 				entity.getTitle(),
 				entity.getContent(),
 				entity.getRegDate(),
-				entity.getHit());
+				entity.getHit() + pendingHit);
 	}
 	
 	/**
 	 * 특정 게시판에서 게시글 제목과 키워드가 부분 일치하는 게시글을 페이지 단위로 조회한다.
 	 * 
 	 * @param pageNo 조회할 페이지 번호
+	 * @param beforePostNo 이전 페이지의 마지막 게시글 번호(커서), 0 이하라면 pageNo로 조회한다.
 	 * @param boardNo 조회할 게시판의 고유 식별 번호
 	 * @param keyword 검색어
 	 */
 	@Override
-	public PostPageResponse searchTitle(int pageNo, long boardNo, 
-			String keyword) {
+	public PostPageResponse searchTitle(int pageNo, long beforePostNo, 
+			long boardNo, String keyword) {
+		long[] candidates = postIndexService.search(boardNo, keyword, 
+				PostSearchTarget.TITLE, beforePostNo);
+		if(candidates != null)
+			return searchCandidates(pageNo, beforePostNo, candidates, null, 
+					keyword, PostSearchTarget.TITLE);
+		
     	Page<PostMapping> page = postRepository.searchByTitle(
     			PageRequest.of(pageNo, PAGE_SIZE, Sort.by("postNo").descending()),
     			boardNo, keyword);
@@ -120,12 +184,19 @@ public class PostServiceImpl implements PostService {
 	 * 특정 게시판에서 게시글의 내용에서 키워드가 부분 일치하는 게시글을 페이지 단위로 조회한다.
 	 * 
 	 * @param pageNo 조회할 페이지 번호
+	 * @param beforePostNo 이전 페이지의 마지막 게시글 번호(커서), 0 이하라면 pageNo로 조회한다.
 	 * @param boardNo 조회할 게시판의 고유 식별 번호
 	 * @param keyword 검색어
 	 */
 	@Override
-	public PostPageResponse searchContent(int pageNo, long boardNo, 
-			String keyword) {
+	public PostPageResponse searchContent(int pageNo, long beforePostNo, 
+			long boardNo, String keyword) {
+		long[] candidates = postIndexService.search(boardNo, keyword, 
+				PostSearchTarget.CONTENT, beforePostNo);
+		if(candidates != null)
+			return searchCandidates(pageNo, beforePostNo, candidates, null, 
+					keyword, PostSearchTarget.CONTENT);
+		
     	Page<PostMapping> page = postRepository.searchByContent(
     			PageRequest.of(pageNo, PAGE_SIZE, Sort.by("postNo").descending()),
     			boardNo, keyword);
@@ -136,12 +207,19 @@ public class PostServiceImpl implements PostService {
 	 * 특정 게시판에서 게시글의 제목 혹은 내용과 키워드가 부분 일치하는 게시글을 페이지 단위로 조회한다.
 	 * 
 	 * @param pageNo 조회할 페이지 번호
+	 * @param beforePostNo 이전 페이지의 마지막 게시글 번호(커서), 0 이하라면 pageNo로 조회한다.
 	 * @param boardNo 조회할 게시판의 고유 식별 번호
 	 * @param keyword 검색어
 	 */
 	@Override
-	public PostPageResponse searchTitleAndContent(int pageNo, long boardNo, 
-			String keyword) {
+	public PostPageResponse searchTitleAndContent(int pageNo, long beforePostNo, 
+			long boardNo, String keyword) {
+		long[] candidates = postIndexService.search(boardNo, keyword, 
+				PostSearchTarget.TITLE_AND_CONTENT, beforePostNo);
+		if(candidates != null)
+			return searchCandidates(pageNo, beforePostNo, candidates, null, 
+					keyword, PostSearchTarget.TITLE_AND_CONTENT);
+		
     	Page<PostMapping> page = postRepository.searchByTitleAndContent(
     			PageRequest.of(pageNo, PAGE_SIZE, Sort.by("postNo").descending()),
     			boardNo, keyword);
@@ -153,16 +231,22 @@ public class PostServiceImpl implements PostService {
 	 * 단위로 조회한다.
 	 * 
 	 * @param pageNo 조회할 페이지 번호
+	 * @param beforePostNo 이전 페이지의 마지막 게시글 번호(커서), 0 이하라면 pageNo로 조회한다.
 	 * @param boardNo 조회할 게시판의 고유 식별 번호
 	 * @param category 조회할 카테고리
 	 * @param keyword 검색어
 	 */
 	@Override
-	public PostPageResponse searchCategoryAndTitle(int pageNo, long boardNo,
-			String category, String keyword) {
+	public PostPageResponse searchCategoryAndTitle(int pageNo, long beforePostNo, 
+			long boardNo, String category, String keyword) {
+		long[] candidates = postIndexService.search(boardNo, keyword, 
+				PostSearchTarget.TITLE, beforePostNo);
+		if(candidates != null)
+			return searchCandidates(pageNo, beforePostNo, candidates, category, 
+					keyword, PostSearchTarget.TITLE);
+		
     	Page<PostMapping> page = postRepository.searchByCategoryAndTitle(
-    			PageRequest.of(pageNo, PAGE_SIZE, 
-    					Sort.by("postNo").descending()),
+    			PageRequest.of(pageNo, PAGE_SIZE, Sort.by("postNo").descending()),
     			boardNo, category, keyword);
 		return createPostPageResponse(page);
 	}
@@ -172,13 +256,20 @@ public class PostServiceImpl implements PostService {
 	 * 단위로 조회한다.
 	 * 
 	 * @param pageNo 조회할 페이지 번호
+	 * @param beforePostNo 이전 페이지의 마지막 게시글 번호(커서), 0 이하라면 pageNo로 조회한다.
 	 * @param boardNo 조회할 게시판의 고유 식별 번호
 	 * @param category 조회할 카테고리
 	 * @param keyword 검색어
 	 */
 	@Override
-	public PostPageResponse searchCategoryAndContent(int pageNo, long boardNo, 
-			String category, String keyword) {
+	public PostPageResponse searchCategoryAndContent(int pageNo, long beforePostNo, 
+			long boardNo, String category, String keyword) {
+		long[] candidates = postIndexService.search(boardNo, keyword, 
+				PostSearchTarget.CONTENT, beforePostNo);
+		if(candidates != null)
+			return searchCandidates(pageNo, beforePostNo, candidates, category, 
+					keyword, PostSearchTarget.CONTENT);
+		
     	Page<PostMapping> page = postRepository.searchByCategoryAndContent(
     			PageRequest.of(pageNo, PAGE_SIZE, Sort.by("postNo").descending()),
     			boardNo, category, keyword);
@@ -190,13 +281,20 @@ public class PostServiceImpl implements PostService {
 	 * 페이지 단위로 조회한다.
 	 * 
 	 * @param pageNo 조회할 페이지 번호
+	 * @param beforePostNo 이전 페이지의 마지막 게시글 번호(커서), 0 이하라면 pageNo로 조회한다.
 	 * @param boardNo 조회할 게시판의 고유 식별 번호
 	 * @param category 조회할 카테고리
 	 * @param keyword 검색어
 	 */
 	@Override
 	public PostPageResponse searchCategoryAndTitleAndContent(int pageNo, 
-			long boardNo, String category, String keyword) {
+			long beforePostNo, long boardNo, String category, String keyword) {
+		long[] candidates = postIndexService.search(boardNo, keyword, 
+				PostSearchTarget.TITLE_AND_CONTENT, beforePostNo);
+		if(candidates != null)
+			return searchCandidates(pageNo, beforePostNo, candidates, category, 
+					keyword, PostSearchTarget.TITLE_AND_CONTENT);
+		
     	Page<PostMapping> page = postRepository.searchByCategoryAndTitleAndContent(
     			PageRequest.of(pageNo, PAGE_SIZE, Sort.by("postNo").descending()),
     			boardNo, category, keyword);
@@ -204,17 +302,100 @@ public class PostServiceImpl implements PostService {
 	}
 	
 	/**
-	 *  DB에서 조회한 Page 객체를 기반으로 클라이언트에게 반환할 객체를 생성한다. 먼저 Page 객체에 있는
-	 * Entity 리스트를 DTO 리스트로 변환한다. 그리고 페이지 번호와 마지막 페이지 여부를 
-	 * PostPageResponse에 초기화 하여 반환한다.
+	 * - 검색 색인으로 얻은 후보 게시글을 최신 게시글부터 SEARCH_CHUNK_SIZE개씩 DB에서 확인하여 실제로
+	 *  키워드와 부분 일치하는 게시글만 남기고, 요청한 페이지에 해당하는 게시글을 조회한다.
+	 * - 후보는 기본 키로 조회되므로 LIKE 비교가 전체 테이블이 아닌 후보 게시글에 대해서만 수행된다.
+	 * - 다음 페이지 존재 여부를 알기 위해 페이지 크기보다 하나 더 많은 게시글을 찾을 때까지 확인하며,
+	 *  전체 개수는 필요하지 않으므로 Slice로 응답을 생성한다.
+	 * - 커서(beforePostNo)가 있다면 후보는 이미 커서보다 작은 번호로 제한되어 있으므로 앞 페이지의
+	 *  후보를 다시 확인하지 않는다. 커서 없이 pageNo로 조회하면 앞 페이지의 후보를 모두 다시 확인하므로
+	 *  다음 페이지는 응답의 nextCursor로 조회하는 것이 좋다.
+	 * 
+	 * @param pageNo 조회할 페이지 번호
+	 * @param beforePostNo 이전 페이지의 마지막 게시글 번호(커서), 0 이하라면 pageNo로 건너뛴다.
+	 * @param candidates 오름차순으로 정렬된 후보 게시글 번호
+	 * @param category 조회할 카테고리, null이라면 카테고리로 제한하지 않는다.
+	 * @param keyword 검색어
+	 * @param target 키워드와 비교할 대상
+	 * @return
+	 */
+	private PostPageResponse searchCandidates(int pageNo, long beforePostNo, 
+			long[] candidates, String category, String keyword, 
+			PostSearchTarget target) {
+		long skip = beforePostNo > 0 ? 0 : (long)pageNo * PAGE_SIZE;
+		List<Long> matched = new ArrayList<>(PAGE_SIZE + 1);
+		
+		for(int end = candidates.length; 
+				end > 0 && matched.size() <= PAGE_SIZE; end -= SEARCH_CHUNK_SIZE) {
+			List<Long> chunk = new ArrayList<>(SEARCH_CHUNK_SIZE);
+			for(int i = end - 1; i >= 0 && i >= end - SEARCH_CHUNK_SIZE; i--)
+				chunk.add(candidates[i]);
+			
+			List<Long> found = new ArrayList<>(
+					filterCandidates(chunk, category, keyword, target));
+			found.sort(Comparator.reverseOrder());
+			for(Long postNo : found) {
+				if(skip > 0) {
+					skip--;
+					continue;
+				}
+				if(matched.size() > PAGE_SIZE)
+					break;
+				matched.add(postNo);
+			}
+		}
+		
+		boolean hasNext = matched.size() > PAGE_SIZE;
+		if(hasNext)
+			matched.remove(PAGE_SIZE);
+		
+		Sort sort = Sort.by("postNo").descending();
+		List<PostMapping> content = matched.isEmpty() ? new ArrayList<>() 
+				: postRepository.findByPostNoIn(matched, sort);
+		return createPostPageResponse(new SliceImpl<>(content, 
+				PageRequest.of(pageNo, PAGE_SIZE, sort), hasNext));
+	}
+	
+	// 검색 대상에 따라 후보 게시글 중 키워드와 실제로 부분 일치하는 게시글 번호를 조회한다.
+	private List<Long> filterCandidates(List<Long> postNos, String category,
+			String keyword, PostSearchTarget target) {
+		switch(target) {
+		case TITLE:
+			return postRepository.filterByTitle(postNos, category, keyword);
+		case CONTENT:
+			return postRepository.filterByContent(postNos, category, keyword);
+		default:
+			return postRepository.filterByTitleOrContent(postNos, category, 
+					keyword);
+		}
+	}
+	
+	/**
+	 *  DB에서 조회한 Page(Slice) 객체를 기반으로 클라이언트에게 반환할 객체를 생성한다. 먼저 Page 
+	 * 객체에 있는 Entity 리스트를 DTO 리스트로 변환한다. 그리고 페이지 번호, 마지막 페이지 여부, 다음
+	 * 목록 조회에 사용할 커서를 PostPageResponse에 초기화 하여 반환한다.
 	 * 
-	 * @param page DB에서 Page로 조회한 게시글 목록
+	 * @param page DB에서 Page(Slice)로 조회한 게시글 목록
 	 * @return
 	 */
-    private PostPageResponse createPostPageResponse(Page<PostMapping> page) {
-    	Page<PostDTO> convertedPage = Post.toDtoList(page); 
-		return new PostPageResponse(convertedPage.getContent(),
+    private PostPageResponse createPostPageResponse(Slice<PostMapping> page) {
+    	Slice<PostDTO> convertedPage = Post.toDtoList(page); 
+    	List<PostDTO> postList = convertedPage.getContent();
+    	long nextCursor = convertedPage.hasNext() && !postList.isEmpty()
+    			? postList.get(postList.size() - 1).getPostNo() : -1;
+		return new PostPageResponse(postList,
     			convertedPage.getNumber(),
-    			convertedPage.isLast());
+    			convertedPage.isLast(),
+    			nextCursor);
+    }
+    
+    // Keyset 페이징에 사용할 Pageable 객체를 생성한다. 페이지 번호는 항상 0이다.
+    private PageRequest createKeysetPageRequest() {
+    	return PageRequest.of(0, PAGE_SIZE, Sort.by("postNo").descending());
+    }
+    
+    // 0 이하의 커서는 첫 목록 조회를 의미하므로 가장 큰 값으로 변환한다.
+    private long toCursor(long beforePostNo) {
+    	return beforePostNo > 0 ? beforePostNo : Long.MAX_VALUE;
     }
 }
@@ -1,6 +1,7 @@
 package com.github.koobh95.service.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
@@ -10,11 +11,13 @@ import com.github.koobh95.data.model.dto.ReplyDTO;
 import com.github.koobh95.data.model.dto.request.ReplyWriteRequest;
 import com.github.koobh95.data.model.entity.Post;
 import com.github.koobh95.data.model.entity.Reply;
+import com.github.koobh95.data.model.entity.mapping.ReplyTreeMapping;
 import com.github.koobh95.data.model.enums.ErrorCode;
 import com.github.koobh95.data.repository.PostRepository;
 import com.github.koobh95.data.repository.ReplyRepository;
 import com.github.koobh95.exception.ReplyException;
 import com.github.koobh95.service.ReplyService;
+import com.github.koobh95.util.LongIntHashMap;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,6 +36,7 @@ public class ReplyServiceImpl implements ReplyService {
 	/**
 	 * - 특정 게시글의 댓글 목록을 조회한다.
 	 * - 댓글을 조회하는 시점에서 게시글이 삭제되었을 수 있으므로 확인한다.
+	 * - 게시글의 모든 댓글을 작성자 닉네임과 함께 하나의 쿼리로 읽은 뒤 메모리에서 목록을 구성한다.
 	 * 
 	 * @param postNo 조회할 게시글의 고유 식별 번호
 	 */
@@ -44,16 +48,18 @@ public class ReplyServiceImpl implements ReplyService {
 			throw new ReplyException(
 					ErrorCode.REPLY_LOADING_FAILED_POST_DELETED,
 					"postNo=" + postNo);
-		return convertToReplyDtoList(replyRepository.findByPostNo(postNo));
+		return buildReplyTree(replyRepository.findTreeByPostNo(postNo));
 	}
 
 	/**
 	 * - 새로운 댓글을 DB에 작성한다.
 	 * - 댓글을 추가하기 전에 댓글을 추가할 수 있는 상황인지 확인한다. 작성하려는 게시글이 삭제되었거나
 	 *  답글을 작성하려는데 상위 댓글이 삭제된 상태라면 예외를 발생시킨다. 
+	 * - 댓글을 저장하면서 같은 트랜잭션 안에서 게시글의 댓글 수를 1 증가시킨다.
 	 * 
 	 * @param request 작성할 댓글에 대한 데이터를 가진 객체
 	 */
+	@Transactional
 	@Override
 	public void write(ReplyWriteRequest request) {
 		Post post = postRepository.findByPostNo(request.getPostNo());
@@ -70,12 +76,14 @@ public class ReplyServiceImpl implements ReplyService {
 		}
 		
 		replyRepository.save(ReplyWriteRequest.toEntity(request));
+		postRepository.increaseReplyCount(request.getPostNo());
 	}
 
 	/**
 	 * - 특정 댓글을 삭제한다.
 	 * - 댓글을 삭제하기 전에 댓글을 표시 중인 게시글의 삭제 여부를 확인하여 삭제되었을 경우 예외를 
 	 *  발생시킨다.
+	 * - 이미 삭제된 댓글이 아닌 경우에만 게시글의 댓글 수를 1 감소시킨다.
 	 * 
 	 * @param replyNo 삭제할 댓글의 고유 식볇 번호
 	 */
@@ -87,50 +95,77 @@ public class ReplyServiceImpl implements ReplyService {
 			throw new ReplyException(
 					ErrorCode.REPLY_DELETE_FAILED_POST_DELETED,
 					"replyNo=" + replyNo);
-		replyRepository.findByReplyNo(replyNo).delete();
+		if(reply.getDeleteDate() != null) // 이미 삭제된 댓글
+			return;
+		reply.delete();
+		postRepository.decreaseReplyCount(reply.getPostNo());
 	}
 
 	/**
-	 * - DB에서 읽은 Entity List를 DTO List로 변환하여 반환한다.
-	 * - 삭제된 댓글은 추가하지 않는다. 단, 삭제되었지만 하위 댓글이 존재하는 경우 하위 댓글을 표시하기
-	 *  위해 객체에 이 댓글은 삭제된 댓글이라는 정보를 추가하고 리스트에 추가한다.
-	 * - 댓글을 추가한 뒤 하위 댓글이 존재할 경우 하위 댓글을 추가적으로 읽되 삭제되지 않은 댓글만 추가한다.
+	 * - 하나의 쿼리로 읽은 댓글 목록을 클라이언트에 표시할 순서의 DTO 리스트로 구성하여 반환한다.
+	 * - 상위 댓글은 댓글 번호를 키로 LongIntHashMap에 위치를 기록하고, 답글은 상위 댓글별 연결 리스트
+	 *  (int 배열)에 작성 순서대로 연결한 뒤 상위 댓글 순서대로 순회하므로 O(n)으로 구성된다.
+	 * - 삭제된 댓글은 추가하지 않는다. 단, 삭제되었지만 삭제되지 않은 답글이 존재하는 경우 답글을 
+	 *  표시하기 위해 삭제된 댓글이라는 정보만 가진 객체를 대신 추가한다.
+	 * - 답글은 삭제되지 않은 답글만 추가하며, 답글의 답글은 표시하지 않는다.
 	 * 
-	 * @param entityList DB에서 읽어온 댓글 목록
+	 * @param replyList 상위 댓글 번호, 댓글 번호 순으로 정렬된 게시글의 모든 댓글
 	 * @return
 	 */
-	private List<ReplyDTO> convertToReplyDtoList(List<Reply> entityList) {
-		List<ReplyDTO> dtoList = new ArrayList<>();
+	private List<ReplyDTO> buildReplyTree(List<ReplyTreeMapping> replyList) {
+		int size = replyList.size();
+		LongIntHashMap parentIndex = new LongIntHashMap(size);
+		int[] firstChild = new int[size]; // 상위 댓글별 첫 번째 답글의 위치
+		int[] lastChild = new int[size]; // 상위 댓글별 마지막 답글의 위치
+		int[] nextSibling = new int[size]; // 같은 상위 댓글을 가진 다음 답글의 위치
+		Arrays.fill(firstChild, -1);
+		Arrays.fill(nextSibling, -1);
 		
-		for(Reply reply : entityList) {
-			List<Reply> childReplyList = reply.getChildReplyList();
-			
-			if(childReplyList.size() == 0) { // 하위 댓글이 없음.
-				if(reply.getDeleteDate() != null) // 삭제된 상태
-					continue; // 무시
-				dtoList.add(Reply.toDto(reply)); // 하위 댓글이 없으니 삽입
+		int parentCount = 0;
+		for(int i = 0; i < size; i++) {
+			ReplyTreeMapping reply = replyList.get(i);
+			if(reply.getParentReplyNo() == -1) {
+				parentIndex.put(reply.getReplyNo(), i);
+				parentCount++;
 				continue;
-			} else { // 하위 댓글이 있음.
-				ReplyDTO dto = Reply.toDto(reply);
-				if(reply.getDeleteDate() != null) // 삭제된 상태
-					dtoList.add(ReplyDTO.ofDeletedReply());
-				else
-					dtoList.add(dto);
 			}
+			if(reply.getDeleteDate() != null) // 삭제된 답글은 표시하지 않음
+				continue;
 			
-			// 하위 댓글(답글) 탐색 및 추가
-			boolean childExist = false; // 하위 댓글이 모두 삭제되었을 가능성이 있음
-			for(Reply childReply : childReplyList) {
-				if(childReply.getDeleteDate() == null) {
-					dtoList.add(Reply.toDto(childReply));
-					childExist = true;
-				}
-			}
+			int parent = parentIndex.get(reply.getParentReplyNo());
+			if(parent == LongIntHashMap.NO_VALUE) // 답글의 답글
+				continue;
+			if(firstChild[parent] == -1)
+				firstChild[parent] = i;
+			else
+				nextSibling[lastChild[parent]] = i;
+			lastChild[parent] = i;
+		}
+		
+		List<ReplyDTO> dtoList = new ArrayList<>(size);
+		for(int i = 0; i < parentCount; i++) { // 상위 댓글은 목록의 앞쪽에 위치
+			ReplyTreeMapping reply = replyList.get(i);
+			if(reply.getDeleteDate() == null)
+				dtoList.add(toDto(reply));
+			else if(firstChild[i] != -1) // 삭제되었지만 답글이 남아 있음
+				dtoList.add(ReplyDTO.ofDeletedReply());
 			
-			if(!childExist) // 하위 댓글이 모두 삭제된 댓글일 경우 이전에 삽입한 상위 댓글 삭제
-				dtoList.remove(dtoList.size()-1);
+			for(int child = firstChild[i]; child != -1; 
+					child = nextSibling[child])
+				dtoList.add(toDto(replyList.get(child)));
 		}
 		
 		return dtoList;
 	}
+	
+	// 조회한 댓글 데이터를 DTO 객체로 변환하여 반환
+	private ReplyDTO toDto(ReplyTreeMapping reply) {
+		return new ReplyDTO(
+				reply.getParentReplyNo() != -1,
+				reply.getReplyNo(),
+				reply.getWriter(),
+				reply.getNickname(),
+				reply.getContent(),
+				reply.getRegDate());
+	}
 }
@@ -1,10 +1,14 @@
 package com.github.koobh95.service.impl;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.github.koobh95.data.model.dto.JwtDTO;
 import com.github.koobh95.data.model.dto.UserInfoDTO;
@@ -20,7 +24,9 @@ import com.github.koobh95.exception.LoginException;
 import com.github.koobh95.exception.SignUpException;
 import com.github.koobh95.exception.UserModifyException;
 import com.github.koobh95.security.util.AES256Util;
-import com.github.koobh95.security.util.JwtProvider;
+import com.github.koobh95.service.AsyncTaskService;
+import com.github.koobh95.service.JwtService;
+import com.github.koobh95.service.PasswordHashService;
 import com.github.koobh95.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -37,55 +43,67 @@ public class UserServiceImpl implements UserService{
 	private final UserRepository userRepository;
 	private final UserTokenRepository userTokenRepository;
 
-	private final JwtProvider jwtProvider;
+	private final JwtService jwtService;
 	private final AES256Util aes256Util;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHashService passwordHashService;
+	private final WmpUserDetailsService wmpUserDetailsService;
+	private final AsyncTaskService asyncTaskService;
+	private final PlatformTransactionManager transactionManager;
 	
 	/**
 	 * - 사용자가 로그인을 시도할 때 호출되는 메서드.
-	 * - 아이디의 존재 여부, 비밀번호 일치 여부, 계정 탈퇴 여부, 계정 인증 여부 등을 검증한다.
-	 * - 검증이 완료된 경우 AccessToken과 RefreshToken을 발급한다. 해당 사용자 토큰 정보가 DB에
-	 *  존재하는지 확인한 뒤 존재할 경우 토큰을 갱신하고 존재하지 않는다면 발급한 토큰을 새로 삽입한다.
-	 * - 토큰 정보가 DB에 존재한다는 것은 이전에 로그인한 후 정상적으로 로그아웃되지 않았음을 의미한다.
+	 * - 비밀번호 검증을 전용 스레드 풀에서 수행하는 loginAsync()의 결과를 기다린다.
 	 * 
 	 * @param userRequest 클라이언트가 보낸 유저 아이디와 비밀번호를 가지고 있으며 비밀번호는
 	 *        AES256 방식으로 암호화되어 있다.
 	 */
-	@Transactional
 	@Override
 	public JwtDTO login(LoginRequest userRequest) {
-		final String id = aes256Util.decrypt(userRequest.getUserId());
-		final String password = aes256Util.decrypt(userRequest.getPassword());
-		
-		Optional<User> user = userRepository.findById(id);
+		return join(loginAsync(userRequest));
+	}
+	
+	/**
+	 * - 사용자가 로그인을 시도할 때 호출되는 메서드.
+	 * - 아이디의 존재 여부, 비밀번호 일치 여부, 계정 탈퇴 여부, 계정 인증 여부 등을 검증한다.
+	 * - 비밀번호 일치 여부는 전용 스레드 풀(PasswordHashService)에서 검증하며, 토큰 발급은 DB에 
+	 *  접근하므로 CPU 연산용 스레드를 점유하지 않도록 I/O 전용 스레드 풀(AsyncTaskService)에서 
+	 *  이어서 처리한다.
+	 * - 검증이 완료된 경우 AccessToken과 RefreshToken을 발급한다.
+	 * 
+	 * @param userRequest 클라이언트가 보낸 유저 아이디와 비밀번호를 가지고 있으며 비밀번호는
+	 *        AES256 방식으로 암호화되어 있다.
+	 */
+	@Override
+	public CompletableFuture<JwtDTO> loginAsync(LoginRequest userRequest) {
+		final String[] decrypted = aes256Util.decryptAll(
+				userRequest.getUserId(), userRequest.getPassword());
+		final String id = decrypted[0];
+		final String password = decrypted[1];
 		
 		// 아이디 존재 여부 검증
-		user.orElseThrow(() -> 
+		User user = userRepository.findById(id).orElseThrow(() -> 
 			new LoginException(ErrorCode.USER_ID_NOT_FOUND, "id=" + id));
 		
-		// 비밀번호 일치 여부 검증
-		if(!passwordEncoder.matches(password, user.get().getPassword()))
-			throw new LoginException(ErrorCode.PASSWORD_MISMATCH, "id=" + id);
-		
-		// 계정 탈퇴 여부 검증
-		if(user.get().getWithdrawDate() != null)
-			throw new LoginException(ErrorCode.WITHDRAW_ACCOUNT, "id=" + id);
-		
-		// 계정 인증 여부 검증
-		if(user.get().getCert() =='N')
-			throw new LoginException(ErrorCode.UNCERT_USER, "id=" + id);
-		
-		String refreshToken = jwtProvider.createRefreshToken();
-		Optional<UserToken> userToken = userTokenRepository.findById(id);
-		
-		// 토큰의 존재 여부를 확인하여 존재할 경우 update, 아닐 경우 insert 
-		userToken.ifPresentOrElse(ut -> 
-			userToken.get().updateRefreshToken(refreshToken), () -> 
-				userTokenRepository.save(new UserToken(id, refreshToken)));
-		
-		return new JwtDTO(
-				jwtProvider.createAccessToken(user.get().getUserId()), 
-				aes256Util.encrypt(refreshToken));
+		return passwordHashService.matches(password, user.getPassword())
+				.thenCompose(matched -> {
+					// 비밀번호 일치 여부 검증
+					if(!matched)
+						throw new LoginException(ErrorCode.PASSWORD_MISMATCH, 
+								"id=" + id);
+					
+					// 계정 탈퇴 여부 검증
+					if(user.getWithdrawDate() != null)
+						throw new LoginException(ErrorCode.WITHDRAW_ACCOUNT, 
+								"id=" + id);
+					
+					// 계정 인증 여부 검증
+					if(user.getCert() =='N')
+						throw new LoginException(ErrorCode.UNCERT_USER, 
+								"id=" + id);
+					
+					return asyncTaskService.supply(
+							() -> jwtService.issueToken(user.getUserId()));
+				});
 	}
 
 	/**
@@ -112,30 +130,91 @@ public class UserServiceImpl implements UserService{
 	@Transactional(readOnly = true)
 	@Override
 	public UserInfoDTO userInfo(String userId) {
-		Optional<User> user = userRepository.findById(userId);
+		User user = userRepository.findById(userId).get();
+		String[] encrypted = aes256Util.encryptAll(
+				user.getUserId(), user.getNickname(), user.getEmail());
 		UserInfoDTO userInfo = new UserInfoDTO(
-				aes256Util.encrypt(user.get().getUserId()),
-				aes256Util.encrypt(user.get().getNickname()),
-				aes256Util.encrypt(user.get().getEmail()));
+				encrypted[0], encrypted[1], encrypted[2]);
 		return userInfo;
 	}
 
+	/**
+	 * - 회원가입 요청을 처리하는 메서드다.
+	 * - 비밀번호 암호화를 전용 스레드 풀에서 수행하는 signUpAsync()의 결과를 기다린다.
+	 * 
+	 * @param signUpRequest 
+	 */
+	@Override
+	public void signUp(SignUpRequest signUpRequest) {
+		join(signUpAsync(signUpRequest));
+	}
+	
 	/**
 	 * - 회원가입 요청을 처리하는 메서드다.
 	 * - SignUpRequest에는 회원가입 시 필요한 필수 입력값들이 암호화된 채로 초기화되어 있다. 각 
 	 * 데이터에 대한 제한 사항은 클라이언트 측에서 검증했으므로 여기서는 DB에 저장된 유저 데이터들과 중복
 	 * 검사만 수행한다. 
-	 * - 새로운 사용자 정보를 DB에 저장할 때 비밀번호는 단방향 암호화한 채로 저장한다.
+	 * - 새로운 사용자 정보를 DB에 저장할 때 비밀번호는 전용 스레드 풀에서 단방향 암호화한 채로 저장한다.
+	 * - 암호화 전의 중복 검사는 불필요한 BCrypt 연산을 줄이기 위한 것이며, 암호화하는 동안 같은 정보로
+	 *  가입한 사용자가 있을 수 있으므로 저장은 I/O 전용 스레드 풀에서 saveNewUser()로 다시 검사한 
+	 *  뒤 수행한다.
 	 * 
 	 * @param signUpRequest 
 	 */
 	@Override
-	public void signUp(SignUpRequest signUpRequest) {
-		final String id = aes256Util.decrypt(signUpRequest.getUserId());
-		final String password = aes256Util.decrypt(signUpRequest.getPassword());
-		final String nickname = aes256Util.decrypt(signUpRequest.getNickname());
-		final String email = aes256Util.decrypt(signUpRequest.getEmail());
+	public CompletableFuture<Void> signUpAsync(SignUpRequest signUpRequest) {
+		final String[] decrypted = aes256Util.decryptAll(
+				signUpRequest.getUserId(),
+				signUpRequest.getPassword(),
+				signUpRequest.getNickname(),
+				signUpRequest.getEmail());
+		final String id = decrypted[0];
+		final String password = decrypted[1];
+		final String nickname = decrypted[2];
+		final String email = decrypted[3];
+		
+		checkDuplicated(id, nickname, email);
 		
+		return passwordHashService.encode(password) // 암호화
+				.thenCompose(encryptedPassword -> asyncTaskService.run(
+						() -> saveNewUser(id, encryptedPassword, nickname, email)));
+	}
+	
+	/**
+	 * - 중복 검사와 저장을 하나의 트랜잭션에서 수행하여 새로운 사용자를 저장한다.
+	 * - 동시에 같은 정보로 가입하는 요청이 검사를 함께 통과하더라도 아이디는 기본 키, 닉네임과 
+	 *  이메일은 유니크 제약 조건(sql/user_tb_unique.sql)에 의해 한 요청만 저장된다. 제약 조건을 
+	 *  위반했다면 다시 검사하여 중복된 항목의 에러 코드로 예외를 던진다.
+	 * 
+	 * @param id 아이디
+	 * @param encryptedPassword 단방향 암호화된 비밀번호
+	 * @param nickname 닉네임
+	 * @param email 이메일
+	 */
+	private void saveNewUser(String id, String encryptedPassword, 
+			String nickname, String email) {
+		try {
+			new TransactionTemplate(transactionManager).executeWithoutResult(
+					status -> {
+						checkDuplicated(id, nickname, email);
+						userRepository.saveAndFlush(User.createNewUser(
+								id, encryptedPassword, nickname, email));
+					});
+		} catch(DataIntegrityViolationException e) {
+			checkDuplicated(id, nickname, email);
+			throw new SignUpException(ErrorCode.USER_ID_DUPLICATED, 
+					"id=" + id + ", " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * 아이디, 닉네임, 이메일이 이미 사용 중이라면 해당 항목의 에러 코드로 예외를 던진다.
+	 * 
+	 * @param id 아이디
+	 * @param nickname 닉네임
+	 * @param email 이메일
+	 */
+	private void checkDuplicated(String id, String nickname, String email) {
 		// 아이디 중복 검사
 		userRepository.findById(id).ifPresent(m -> {
 			throw new SignUpException(ErrorCode.USER_ID_DUPLICATED, "id=" + id);
@@ -152,12 +231,19 @@ public class UserServiceImpl implements UserService{
 			throw new SignUpException(ErrorCode.EMAIL_DUPLICATED, 
 					"email=" + email);
 		});
-		
-		String encryptedPassword = passwordEncoder.encode(password); // 암호화
-		userRepository.save(
-				User.createNewUser(id, encryptedPassword, nickname, email));
 	}
 
+	/**
+	 * - 비밀번호 변경 요청을 처리하는 메서드다.
+	 * - 비밀번호 검증과 암호화를 전용 스레드 풀에서 수행하는 passwordResetAsync()의 결과를 기다린다.
+	 * 
+	 * @param request 
+	 */
+	@Override
+	public void passwordReset(PasswordResetRequest request) {
+		join(passwordResetAsync(request));
+	}
+	
 	/**
 	 * - 비밀번호 변경 요청을 처리하는 메서드다.
 	 * - PasswordResetRequest 객체가 가진 아이디와 비밀번호는 양방향 암호화된 상태이기 때문에 
@@ -166,32 +252,52 @@ public class UserServiceImpl implements UserService{
 	 *  여부는 별도로 확인하지 않는다.
 	 * - 비밀번호를 변경하려면 현재 사용 중인 비밀번호와 일치하지 않으면서 이전에 사용한 비밀번호와도
 	 *  일치하지 않아야 한다. 두 조건을 모두 만족했을 경우 비밀번호를 변경한다.  
+	 * - 최대 세 번의 BCrypt 연산(검증 2회, 암호화 1회)을 전용 스레드 풀에서 차례로 수행한다. 검증
+	 *  이후 다른 요청에 의해 비밀번호가 먼저 변경되었다면 변경하지 않고 예외를 던진다.
+	 * - 비밀번호 갱신은 DB 작업이므로 I/O 전용 스레드 풀에서 처리한다.
 	 * 
 	 * @param request 
 	 */
-	@Transactional
 	@Override
-	public void passwordReset(PasswordResetRequest request) {
-		final String userId = aes256Util.decrypt(request.getUserId());
-		final String newPassword = aes256Util.decrypt(request.getPassword());
-		User user = userRepository.findById(userId).get();
+	public CompletableFuture<Void> passwordResetAsync(
+			PasswordResetRequest request) {
+		final String[] decrypted = aes256Util.decryptAll(
+				request.getUserId(), request.getPassword());
+		final String userId = decrypted[0];
+		final String newPassword = decrypted[1];
+		final User user = userRepository.findById(userId).get();
+		final String currentPassword = user.getPassword();
+		final String lastPassword = user.getLastPassword();
 		
-		if(passwordEncoder.matches(newPassword, user.getPassword()))
-			throw new UserModifyException(ErrorCode.PASSWORD_CURRENTLY_USE,
-					"id=" + userId);
-
-		if(user.getLastPassword() != null && 
-				passwordEncoder.matches(newPassword, user.getLastPassword()))
-			throw new UserModifyException(ErrorCode.PASSWORD_PREVIOUSLY_USE,
-					"id=" + userId);
-
-		user.updatePassword(passwordEncoder.encode(newPassword));
+		return passwordHashService.matches(newPassword, currentPassword)
+				.thenCompose(matched -> {
+					if(matched)
+						throw new UserModifyException(
+								ErrorCode.PASSWORD_CURRENTLY_USE, "id=" + userId);
+					
+					if(lastPassword == null)
+						return CompletableFuture.completedFuture(false);
+					return passwordHashService.matches(newPassword, lastPassword);
+				}).thenCompose(matched -> {
+					if(matched)
+						throw new UserModifyException(
+								ErrorCode.PASSWORD_PREVIOUSLY_USE, "id=" + userId);
+					return passwordHashService.encode(newPassword);
+				}).thenCompose(encryptedPassword -> asyncTaskService.run(() -> {
+					if(userRepository.updatePassword(
+							userId, currentPassword, encryptedPassword) == 0)
+						throw new UserModifyException(
+								ErrorCode.PASSWORD_CHANGED_CONCURRENTLY, 
+								"id=" + userId);
+					wmpUserDetailsService.evict(userId);
+				}));
 	}
 
 	/**
 	 * - 닉네임 변경 요청을 처리한다.
 	 * - 닉네임 변경을 위해서는 클라이언트에서 로그인이 필요하기 때문에 계정의 존재 여부는 검증하지 않는다.
 	 * - 변경하려는 닉네임과 같은 데이터가 DB에 존재하는지 확인하여 없을 경우 닉네임을 갱신한다.
+	 * - 계정 정보가 변경되었으므로 캐시된 인증 정보를 제거한다.
 	 * 
 	 * @param userId 
 	 * @param newNickname 
@@ -206,6 +312,7 @@ public class UserServiceImpl implements UserService{
 		
 		User user = userRepository.findById(userId).get();
 		user.updateNickname(newNickname);
+		wmpUserDetailsService.evict(userId);
 	}
 
 	/**
@@ -216,10 +323,39 @@ public class UserServiceImpl implements UserService{
 	 */
 	@Override
 	public void currnetPasswordAuth(String userId, String encryptedPassword) {
+		join(currentPasswordAuthAsync(userId, encryptedPassword));
+	}
+	
+	/**
+	 * 로그인된 사용자가 비밀번호를 변경하기 위해 현재 비밀번호를 전용 스레드 풀에서 검증한다.
+	 * 
+	 * @param userId 사용자 아이디
+	 * @param encryptedPassword 암호화된 비밀번호 
+	 */
+	@Override
+	public CompletableFuture<Void> currentPasswordAuthAsync(String userId, 
+			String encryptedPassword) {
 		final String password = aes256Util.decrypt(encryptedPassword);
 		User user = userRepository.findById(userId).get();
-		if(!passwordEncoder.matches(password, user.getPassword()))
-			throw new UserModifyException(ErrorCode.PASSWORD_MISMATCH, 
-					"id=" + userId);
+		return passwordHashService.matches(password, user.getPassword())
+				.thenAccept(matched -> {
+					if(!matched)
+						throw new UserModifyException(ErrorCode.PASSWORD_MISMATCH, 
+								"id=" + userId);
+				});
+	}
+	
+	/**
+	 * - 비동기 작업의 결과를 기다린다.
+	 * - 작업 중 발생한 예외는 CompletionException으로 감싸져 있으므로 원래의 예외를 꺼내 던진다.
+	 */
+	private <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch(CompletionException e) {
+			if(e.getCause() instanceof RuntimeException)
+				throw (RuntimeException)e.getCause();
+			throw e;
+		}
 	}
 }
@@ -6,6 +6,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.github.koobh95.cache.LruCache;
 import com.github.koobh95.data.model.WmpUserDetails;
 import com.github.koobh95.data.model.entity.User;
 import com.github.koobh95.data.repository.UserRepository;
@@ -13,7 +14,10 @@ import com.github.koobh95.data.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 
 /**
- * Authentication에 초기화되는 UserDetails 객체를 조회하는데 사용되는 서비스 클래스.
+ * - Authentication에 초기화되는 UserDetails 객체를 조회하는데 사용되는 서비스 클래스.
+ * - 인증이 필요한 모든 요청에서 호출되므로 조회한 WmpUserDetails는 만료 시간이 있는 캐시
+ *  (principalCache)에 저장하여 재사용한다. 계정 정보가 변경될 경우 evict()로 캐시에서 제거해야 
+ *  한다.
  * 
  * @author BH-Ku
  * @since 2023-12-23
@@ -22,14 +26,31 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class WmpUserDetailsService implements UserDetailsService {
 	private final UserRepository userRepository;
+	private final LruCache<String, WmpUserDetails> principalCache;
 	
 	/**
-	 *  AccessToken에서 파싱된 UserId를 파라미터로 받아 DB에서 데이터를 조회한다. 정상적으로
-	 * 조회되었을 경우 User 객체를 WmpUserDetails 객체로 변환하여 반환한다.
+	 *  AccessToken에서 파싱된 UserId를 파라미터로 받아 캐시 혹은 DB에서 데이터를 조회한다. 정상적으로
+	 * 조회되었을 경우 User 객체를 WmpUserDetails 객체로 변환하여 반환한다. 존재하지 않는 사용자는 
+	 * 캐시에 저장되지 않는다.
 	 */
 	@Override
 	public WmpUserDetails loadUserByUsername(String username) 
 			throws UsernameNotFoundException {
+		return principalCache.get(username, this::findUserDetails);
+	}
+	
+	/**
+	 * 캐시에 저장된 사용자의 인증 정보를 제거한다. 계정 탈퇴, 닉네임 변경 등 계정 정보가 변경되었을 때 
+	 * 호출한다.
+	 * 
+	 * @param userId 인증 정보를 제거할 사용자의 아이디
+	 */
+	public void evict(String userId) {
+		principalCache.invalidate(userId);
+	}
+	
+	// DB에서 사용자를 조회하여 WmpUserDetails 객체로 변환한다.
+	private WmpUserDetails findUserDetails(String username) {
 		Optional<User> user = userRepository.findById(username);
 		
 		if(!user.isPresent())
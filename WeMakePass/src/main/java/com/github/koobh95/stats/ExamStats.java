@@ -0,0 +1,153 @@
+package com.github.koobh95.stats;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.koobh95.data.model.dto.DocAnswerDTO;
+import com.github.koobh95.data.model.dto.ExamStatsDTO;
+import com.github.koobh95.data.model.dto.QuestionStatsDTO;
+import com.github.koobh95.data.model.dto.SubjectStatsDTO;
+import com.github.koobh95.data.model.entity.DocQuestion;
+import com.github.koobh95.util.AnswerSheetCodec;
+
+/**
+ * - 시험 하나의 응시 결과 통계를 누적하는 클래스.
+ * - 문항별, 선택지 번호별 선택 횟수를 하나의 AtomicIntegerArray에 이어서 저장하며(0번은 답을 
+ *  선택하지 않은 횟수), 문항의 정답률과 과목별 평균 점수는 조회할 때 정답 번호의 선택 횟수와 
+ *  배점으로 계산한다. 따라서 결과 하나를 누적할 때는 문항 수만큼의 증가 연산만 실행된다.
+ * - 잠금을 사용하지 않으므로 누적 도중 조회된 통계는 일부 문항에만 반영된 결과를 포함할 수 있다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class ExamStats {
+	private final long examId;
+	private final long[] questionIds; // 문항 번호 오름차순
+	private final int[] answers; // 문항별 정답 번호
+	private final int[] scores; // 문항별 배점
+	private final int[] optionCounts; // 문항별 선택지 수
+	private final int[] offsets; // 문항별 선택 횟수의 시작 위치
+	private final int[] subjectIndexes; // 문항별 과목 순번
+	private final String[] subjectNames; // 문항 번호 순서를 유지한 과목 이름
+
+	private final AtomicIntegerArray selections;
+	private final AtomicInteger attemptCount = new AtomicInteger();
+	private final AtomicInteger passCount = new AtomicInteger();
+	private final AtomicLong scoreSum = new AtomicLong();
+
+	/**
+	 * @param examId 시험의 고유 식별 번호
+	 * @param questions 문항 번호 오름차순 문제 목록
+	 * @param answerList 문항 번호 오름차순 답안 목록, 문항 번호로 문제와 연결하며 답안이 없는 
+	 *  문항의 정답 번호는 0(정답 없음)으로 처리한다.
+	 * @param optionCounts 문제 목록과 같은 순서의 문항별 선택지 수
+	 */
+	public ExamStats(long examId, List<DocQuestion> questions,
+			List<DocAnswerDTO> answerList, int[] optionCounts) {
+		int size = questions.size();
+		this.examId = examId;
+		this.questionIds = new long[size];
+		this.answers = new int[size];
+		this.scores = new int[size];
+		this.optionCounts = optionCounts.clone();
+		this.offsets = new int[size];
+		this.subjectIndexes = new int[size];
+
+		Map<String, Integer> subjects = new LinkedHashMap<>();
+		int length = 0;
+		int answerIndex = 0;
+		for(int i = 0; i < size; i++) {
+			DocQuestion question = questions.get(i);
+			questionIds[i] = question.getQuestionId();
+			// 두 목록 모두 문항 번호 오름차순이므로 함께 순회하며 문항 번호가 같은 답안을 찾는다.
+			while(answerIndex < answerList.size()
+					&& answerList.get(answerIndex).getQuestionId() < questionIds[i])
+				answerIndex++;
+			answers[i] = answerIndex < answerList.size()
+					&& answerList.get(answerIndex).getQuestionId() == questionIds[i] ?
+							answerList.get(answerIndex).getAnswer() : 0;
+			scores[i] = question.getScore();
+			offsets[i] = length;
+			length += this.optionCounts[i] + 1;
+			subjectIndexes[i] = subjects.computeIfAbsent(
+					question.getSubjectName(), k -> subjects.size());
+		}
+		subjectNames = subjects.keySet().toArray(new String[0]);
+		selections = new AtomicIntegerArray(length);
+	}
+
+	/**
+	 * 응시 결과 하나를 통계에 누적한다. 답안은 풀지 않고 문항별로 바로 읽는다.
+	 *
+	 * @param sheet AnswerSheetCodec으로 압축된 답안, 선택지 범위를 벗어난 값은 선택하지 않은 
+	 *  것으로 처리한다.
+	 * @param passed 합격 여부
+	 * @param score 총점
+	 */
+	public void record(byte[] sheet, boolean passed, int score) {
+		int size = AnswerSheetCodec.size(sheet);
+		for(int i = 0; i < questionIds.length; i++) {
+			int option = i < size ? AnswerSheetCodec.get(sheet, i) : 0;
+			if(option < 0 || option > optionCounts[i])
+				option = 0;
+			selections.incrementAndGet(offsets[i] + option);
+		}
+		scoreSum.addAndGet(score);
+		if(passed)
+			passCount.incrementAndGet();
+		attemptCount.incrementAndGet();
+	}
+
+	/**
+	 * 현재까지 누적된 통계를 반환한다.
+	 *
+	 * @return
+	 */
+	public ExamStatsDTO snapshot() {
+		int attempts = attemptCount.get();
+		int passes = passCount.get();
+		long totalScore = scoreSum.get();
+
+		int subjectCount = subjectNames.length;
+		int[] subjectMaxScores = new int[subjectCount];
+		long[] subjectScoreSums = new long[subjectCount];
+		long[] subjectCorrectSums = new long[subjectCount];
+		int[] subjectQuestionCounts = new int[subjectCount];
+
+		List<QuestionStatsDTO> questionStats = new ArrayList<>(questionIds.length);
+		for(int i = 0; i < questionIds.length; i++) {
+			int[] counts = new int[optionCounts[i] + 1];
+			for(int option = 0; option < counts.length; option++)
+				counts[option] = selections.get(offsets[i] + option);
+			int correct = answers[i] > 0 && answers[i] < counts.length ?
+					counts[answers[i]] : 0;
+			questionStats.add(new QuestionStatsDTO(questionIds[i], answers[i],
+					correct, ratio(correct, attempts), counts));
+
+			int subject = subjectIndexes[i];
+			subjectMaxScores[subject] += scores[i];
+			subjectScoreSums[subject] += (long)correct * scores[i];
+			subjectCorrectSums[subject] += correct;
+			subjectQuestionCounts[subject]++;
+		}
+
+		List<SubjectStatsDTO> subjectStats = new ArrayList<>(subjectCount);
+		for(int i = 0; i < subjectCount; i++)
+			subjectStats.add(new SubjectStatsDTO(subjectNames[i], subjectMaxScores[i],
+					ratio(subjectScoreSums[i], attempts),
+					ratio(subjectCorrectSums[i], (long)attempts * subjectQuestionCounts[i])));
+
+		return new ExamStatsDTO(examId, attempts, passes, ratio(passes, attempts),
+				ratio(totalScore, attempts), subjectStats, questionStats);
+	}
+
+	// 분모가 0이라면 0을 반환한다.
+	private static double ratio(long numerator, long denominator) {
+		return denominator == 0 ? 0 : (double)numerator / denominator;
+	}
+}
@@ -0,0 +1,175 @@
+package com.github.koobh95.util;
+
+/**
+ * - 시험 답안(문항 순서대로 선택한 선택지 번호)을 바이트 배열로 압축하는 유틸리티 클래스.
+ * - 형식: [버전 1바이트][문항 수 2바이트(big-endian)][답안당 3비트]. 답안은 상위 비트부터 순서대로
+ *  채우며, 0은 답을 선택하지 않은 것을 의미한다. 100문항 시험의 답안은 41바이트가 된다.
+ * - get()은 배열을 만들지 않고 특정 문항의 답안을 읽으므로, 통계에서는 답안을 풀지 않고 바로
+ *  사용한다.
+ * - 압축된 답안은 MAX_SIZE(answer_sheet_bin 컬럼의 크기)를 넘지 않아야 하므로 문항 수는 
+ *  MAX_QUESTIONS로 제한된다. 더 많은 문항의 답안은 압축하지 않고 JSON으로 저장한다.
+ * - 기존 JSON 형식("[1,3,0,2]")의 답안은 fromJson()으로 변환한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class AnswerSheetCodec {
+	public static final byte VERSION = 1;
+	public static final int MAX_OPTION = 7; // 3비트로 표현할 수 있는 최대 선택지 번호
+	public static final int MAX_SIZE = 2000; // 압축된 답안의 최대 크기(byte)
+
+	private static final int HEADER_SIZE = 3;
+	private static final int BITS = 3;
+	public static final int MAX_QUESTIONS = (MAX_SIZE - HEADER_SIZE) * 8 / BITS; // 5325문항
+	private static final int MASK = 0b111;
+
+	/**
+	 * 답안을 압축한다. 0 ~ MAX_OPTION 범위를 벗어난 값은 0(선택하지 않음)으로 저장한다.
+	 *
+	 * @param answers 문항 순서대로 선택한 선택지 번호
+	 * @return
+	 */
+	public static byte[] encode(int[] answers) {
+		return encode(answers, answers.length);
+	}
+
+	/**
+	 * 압축된 답안의 문항 수
+	 *
+	 * @param packed 압축된 답안
+	 * @return
+	 */
+	public static int size(byte[] packed) {
+		checkHeader(packed);
+		return ((packed[1] & 0xFF) << 8) | (packed[2] & 0xFF);
+	}
+
+	/**
+	 * 압축된 답안에서 특정 문항의 답안을 읽는다.
+	 *
+	 * @param packed 압축된 답안
+	 * @param index 문항 순번(0부터 시작)
+	 * @return 선택한 선택지 번호, 선택하지 않았다면 0
+	 */
+	public static int get(byte[] packed, int index) {
+		int bit = index * BITS;
+		int pos = HEADER_SIZE + (bit >> 3);
+		// 3비트는 최대 두 바이트에 걸쳐 있으므로 두 바이트를 이어서 읽는다.
+		int word = (packed[pos] & 0xFF) << 8;
+		if(pos + 1 < packed.length)
+			word |= packed[pos + 1] & 0xFF;
+		return (word >>> (16 - BITS - (bit & 7))) & MASK;
+	}
+
+	/**
+	 * 압축된 답안을 선택지 번호 배열로 푼다.
+	 *
+	 * @param packed 압축된 답안
+	 * @return
+	 */
+	public static int[] decode(byte[] packed) {
+		int[] answers = new int[size(packed)];
+		for(int i = 0; i < answers.length; i++)
+			answers[i] = get(packed, i);
+		return answers;
+	}
+
+	/**
+	 * - JSON 형식의 답안("[1,3,0,2]")을 트리나 리스트로 읽지 않고 바로 압축한다. null 원소는 0으로 처리한다.
+	 * - 손실 없이 변환할 수 있는 경우에만 변환한다. 정수 배열이 아니거나, 0 ~ MAX_OPTION 범위를 
+	 *  벗어난 값이 있거나, 문항 수가 MAX_QUESTIONS를 넘는다면 null을 반환한다.
+	 *
+	 * @param json JSON 형식의 답안
+	 * @return
+	 */
+	public static byte[] fromJson(String json) {
+		if(StringUtil.isEmpty(json))
+			return null;
+		int start = json.indexOf('[');
+		int end = json.lastIndexOf(']');
+		if(start < 0 || end < start || !isBlank(json, 0, start)
+				|| !isBlank(json, end + 1, json.length()))
+			return null;
+
+		// 원소 수는 쉼표 수로 구한다.
+		boolean empty = isBlank(json, start + 1, end);
+		int count = 0;
+		if(!empty) {
+			count = 1;
+			for(int i = start + 1; i < end; i++)
+				if(json.charAt(i) == ',')
+					count++;
+		}
+		if(count > MAX_QUESTIONS)
+			return null;
+
+		int[] answers = new int[count];
+		int index = 0;
+		int i = start + 1;
+		while(index < count) {
+			int comma = json.indexOf(',', i);
+			int elementEnd = comma < 0 || comma > end ? end : comma;
+			String element = json.substring(i, elementEnd).trim();
+			if(!element.equals("null")) {
+				try {
+					answers[index] = Integer.parseInt(element);
+				} catch(NumberFormatException e) {
+					return null;
+				}
+				if(answers[index] < 0 || answers[index] > MAX_OPTION)
+					return null;
+			}
+			index++;
+			i = elementEnd + 1;
+		}
+		return encode(answers, count);
+	}
+
+	/**
+	 * 압축된 답안을 JSON 형식으로 변환한다.
+	 *
+	 * @param packed 압축된 답안
+	 * @return
+	 */
+	public static String toJson(byte[] packed) {
+		int size = size(packed);
+		StringBuilder sb = new StringBuilder(size * 2 + 2).append('[');
+		for(int i = 0; i < size; i++) {
+			if(i > 0)
+				sb.append(',');
+			sb.append(get(packed, i));
+		}
+		return sb.append(']').toString();
+	}
+
+	private static byte[] encode(int[] answers, int count) {
+		if(count > MAX_QUESTIONS)
+			throw new IllegalArgumentException("문항 수가 너무 많습니다: " + count);
+		byte[] packed = new byte[HEADER_SIZE + (count * BITS + 7) / 8];
+		packed[0] = VERSION;
+		packed[1] = (byte)(count >>> 8);
+		packed[2] = (byte)count;
+		for(int i = 0; i < count; i++) {
+			int answer = answers[i] < 0 || answers[i] > MAX_OPTION ? 0 : answers[i];
+			int bit = i * BITS;
+			int pos = HEADER_SIZE + (bit >> 3);
+			int word = answer << (16 - BITS - (bit & 7));
+			packed[pos] |= (byte)(word >>> 8);
+			if(pos + 1 < packed.length)
+				packed[pos + 1] |= (byte)word;
+		}
+		return packed;
+	}
+
+	private static void checkHeader(byte[] packed) {
+		if(packed == null || packed.length < HEADER_SIZE || packed[0] != VERSION)
+			throw new IllegalArgumentException("지원하지 않는 답안 형식입니다.");
+	}
+
+	private static boolean isBlank(String text, int from, int to) {
+		for(int i = from; i < to; i++)
+			if(!Character.isWhitespace(text.charAt(i)))
+				return false;
+		return true;
+	}
+}
@@ -0,0 +1,77 @@
+package com.github.koobh95.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * - 응답 본문 압축(Content-Encoding)에 사용되는 로직을 모아놓은 유틸리티 클래스.
+ * - gzip과 deflate(zlib 형식)를 지원하며, 클라이언트가 둘 다 허용한다면 gzip을 사용한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class CompressionUtil {
+	public static final String GZIP = "gzip";
+	public static final String DEFLATE = "deflate";
+	// 이보다 작은 본문은 압축으로 줄어드는 크기보다 압축 비용이 크므로 압축하지 않는다.
+	public static final int MIN_COMPRESS_SIZE = 1024;
+
+	/**
+	 * - Accept-Encoding 헤더에서 사용할 압축 방식을 선택한다.
+	 * - q=0으로 지정된 방식은 허용하지 않은 것으로 처리하며, "*"는 gzip을 허용한 것으로 처리한다.
+	 *
+	 * @param acceptEncoding Accept-Encoding 헤더 값
+	 * @return GZIP, DEFLATE 혹은 압축할 수 없다면 null
+	 */
+	public static String selectEncoding(String acceptEncoding) {
+		if(StringUtil.isEmpty(acceptEncoding))
+			return null;
+
+		boolean deflate = false;
+		for(String token : acceptEncoding.split(",")) {
+			String[] parts = token.split(";");
+			String coding = parts[0].trim();
+			if(parts.length > 1 && isZeroQuality(parts[1]))
+				continue;
+			if(GZIP.equalsIgnoreCase(coding) || "*".equals(coding))
+				return GZIP;
+			if(DEFLATE.equalsIgnoreCase(coding))
+				deflate = true;
+		}
+		return deflate ? DEFLATE : null;
+	}
+
+	/**
+	 * 데이터를 지정된 방식으로 압축한다.
+	 *
+	 * @param data 압축할 데이터
+	 * @param encoding GZIP 혹은 DEFLATE
+	 * @return
+	 */
+	public static byte[] compress(byte[] data, String encoding) {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length / 4 + 64);
+		try(OutputStream os = GZIP.equals(encoding) ?
+				new GZIPOutputStream(bos) : new DeflaterOutputStream(bos)) {
+			os.write(data);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e); // 메모리에 쓰므로 발생하지 않는다.
+		}
+		return bos.toByteArray();
+	}
+
+	// "q=0", "q=0.0" 등 품질 값이 0인지 여부
+	private static boolean isZeroQuality(String param) {
+		String value = param.trim();
+		if(!value.startsWith("q="))
+			return false;
+		try {
+			return Double.parseDouble(value.substring(2)) == 0;
+		} catch(NumberFormatException e) {
+			return false;
+		}
+	}
+}
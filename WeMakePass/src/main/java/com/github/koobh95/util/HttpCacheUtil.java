@@ -0,0 +1,74 @@
+package com.github.koobh95.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.github.koobh95.cache.CachedPayload;
+
+/**
+ * - 캐시된 데이터(CachedPayload)를 ETag, Cache-Control 헤더와 함께 응답하는 유틸리티 클래스.
+ * - 응답에 ETag가 있으면 스프링(HttpEntityMethodProcessor)이 요청의 If-None-Match 헤더와 비교하여
+ *  일치할 경우 본문 없이 304(Not Modified)로 응답하므로, 클라이언트가 이미 가진 데이터는 다시
+ *  직렬화하거나 전송하지 않는다.
+ * - 로그인한 사용자만 조회할 수 있는 데이터이므로 Cache-Control은 private로 지정하여 공유 캐시
+ *  (프록시)에는 저장되지 않도록 한다.
+ * - 미리 압축된 데이터를 응답할 때는 CompressionFilter와 같이 약한(weak) ETag를 사용한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class HttpCacheUtil {
+	// 한 번 등록되면 변경되지 않는 데이터(시험 문제, 답안 등)
+	public static final CacheControl IMMUTABLE =
+			CacheControl.maxAge(1, TimeUnit.DAYS).cachePrivate();
+	// 드물게 변경되는 참조 데이터(시험 목록, 게시판 카테고리 등)
+	public static final CacheControl REFERENCE =
+			CacheControl.maxAge(10, TimeUnit.MINUTES).cachePrivate();
+
+	/**
+	 * - 미리 직렬화된 JSON 데이터를 본문으로 응답한다.
+	 * - 클라이언트가 gzip을 허용하고 미리 압축된 데이터가 있다면 압축된 데이터를 응답한다.
+	 *
+	 * @param payload 응답할 데이터
+	 * @param cacheControl Cache-Control 헤더
+	 * @param acceptEncoding 요청의 Accept-Encoding 헤더 값
+	 * @return
+	 */
+	public static ResponseEntity<byte[]> json(CachedPayload<?> payload,
+			CacheControl cacheControl, String acceptEncoding) {
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.cacheControl(cacheControl);
+		if(payload.getGzip() == null)
+			return builder.eTag(payload.getEtag()).body(payload.getJson());
+
+		builder.varyBy(HttpHeaders.ACCEPT_ENCODING);
+		if(!CompressionUtil.GZIP.equals(
+				CompressionUtil.selectEncoding(acceptEncoding)))
+			return builder.eTag(payload.getEtag()).body(payload.getJson());
+		return builder.eTag("W/" + payload.getEtag())
+				.header(HttpHeaders.CONTENT_ENCODING, CompressionUtil.GZIP)
+				.body(payload.getGzip());
+	}
+
+	/**
+	 * - 캐시된 데이터의 일부(body)를 응답한다. 본문은 응답할 때 직렬화된다.
+	 * - body는 payload에서 파생된 데이터이므로 payload의 ETag를 그대로 사용한다.
+	 *
+	 * @param body 응답 본문
+	 * @param payload body를 포함하는 캐시된 데이터
+	 * @param cacheControl Cache-Control 헤더
+	 * @return
+	 */
+	public static <T> ResponseEntity<T> derived(T body, CachedPayload<?> payload,
+			CacheControl cacheControl) {
+		return ResponseEntity.ok()
+				.eTag(payload.getEtag())
+				.cacheControl(cacheControl)
+				.body(body);
+	}
+}
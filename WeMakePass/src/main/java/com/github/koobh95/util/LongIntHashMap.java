@@ -0,0 +1,97 @@
+package com.github.koobh95.util;
+
+import java.util.Arrays;
+
+/**
+ * - long 키와 int 값을 boxing 없이 저장하는 Open addressing(선형 탐사) 방식의 해시 맵.
+ * - 요청 처리 중 한 번 만들어 사용하고 버리는 용도이므로 삭제는 지원하지 않는다. 
+ * - 스레드에 안전하지 않다.
+ * 
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class LongIntHashMap {
+	public static final int NO_VALUE = -1; // 키가 존재하지 않을 때 반환되는 값
+	
+	private long[] keys;
+	private int[] values;
+	private boolean[] used;
+	private int mask;
+	private int size;
+	
+	/**
+	 * @param expectedSize 저장할 것으로 예상되는 키의 수
+	 */
+	public LongIntHashMap(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2) - 1) << 1;
+		allocate(capacity);
+	}
+	
+	/**
+	 * 키에 값을 저장한다. 이미 존재하는 키라면 값을 덮어쓴다.
+	 * 
+	 * @param key
+	 * @param value
+	 */
+	public void put(long key, int value) {
+		if((size + 1) * 2 > keys.length)
+			resize();
+		
+		int slot = slot(key);
+		if(!used[slot]) {
+			used[slot] = true;
+			keys[slot] = key;
+			size++;
+		}
+		values[slot] = value;
+	}
+	
+	/**
+	 * 키에 저장된 값을 반환한다.
+	 * 
+	 * @param key
+	 * @return 키가 존재하지 않는다면 NO_VALUE
+	 */
+	public int get(long key) {
+		int slot = slot(key);
+		return used[slot] ? values[slot] : NO_VALUE;
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	// 키가 저장되어 있거나 저장될 위치를 찾는다.
+	private int slot(long key) {
+		int slot = hash(key) & mask;
+		while(used[slot] && keys[slot] != key)
+			slot = (slot + 1) & mask;
+		return slot;
+	}
+	
+	// 연속된 번호가 한 곳에 몰리지 않도록 비트를 섞는다.
+	private static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32));
+	}
+	
+	private void resize() {
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+		boolean[] oldUsed = used;
+		allocate(oldKeys.length * 2);
+		size = 0;
+		for(int i = 0; i < oldKeys.length; i++) {
+			if(oldUsed[i])
+				put(oldKeys[i], oldValues[i]);
+		}
+	}
+	
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new int[capacity];
+		used = new boolean[capacity];
+		Arrays.fill(values, NO_VALUE);
+		mask = capacity - 1;
+	}
+}
@@ -0,0 +1,71 @@
+package com.github.koobh95.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * - 생성 비용이 크고 스레드에 안전하지 않은 객체(Mac, Cipher 등)를 재사용하기 위한 작은 객체 풀.
+ * - ThreadLocal은 스레드마다 객체를 만들기 때문에 요청마다 새로 생성되는 가상 스레드에서는 재사용되지
+ *  않는다. 풀은 스레드와 관계없이 객체를 공유하며, 객체를 사용하는 구간은 CPU 연산이므로 동시에
+ *  사용되는 객체 수는 CPU 코어 수 정도로 제한된다.
+ * - 풀이 비어 있다면 새로 생성하여 빌려주고, 반환될 때 보관 중인 객체가 maxIdle개 이상이라면 버린다.
+ * - 잠금 없이 동작하므로 가상 스레드에서도 캐리어 스레드가 고정(pinning)되지 않는다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ * @param <T> 재사용할 객체 타입
+ */
+public class ObjectPool<T> {
+	private final Supplier<T> factory;
+	private final int maxIdle;
+	private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger idleCount = new AtomicInteger();
+
+	/**
+	 * @param factory 풀이 비어 있을 때 객체를 생성하는 함수
+	 * @param maxIdle 보관할 최대 객체 수
+	 */
+	public ObjectPool(Supplier<T> factory, int maxIdle) {
+		this.factory = factory;
+		this.maxIdle = maxIdle;
+	}
+
+	/**
+	 * CPU 코어 수의 두 배까지 객체를 보관하는 풀을 생성한다.
+	 *
+	 * @param factory 풀이 비어 있을 때 객체를 생성하는 함수
+	 * @return
+	 */
+	public static <T> ObjectPool<T> ofProcessors(Supplier<T> factory) {
+		return new ObjectPool<>(factory,
+				Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	/**
+	 * 보관 중인 객체를 빌린다. 보관 중인 객체가 없다면 새로 생성한다.
+	 *
+	 * @return
+	 */
+	public T borrow() {
+		T object = idle.poll();
+		if(object == null)
+			return factory.get();
+		idleCount.decrementAndGet();
+		return object;
+	}
+
+	/**
+	 * 빌린 객체를 반환한다. 사용 중 예외가 발생하여 상태를 알 수 없는 객체는 반환하지 않고 버려야 한다.
+	 *
+	 * @param object 반환할 객체
+	 */
+	public void release(T object) {
+		if(idleCount.incrementAndGet() > maxIdle) {
+			idleCount.decrementAndGet();
+			return;
+		}
+		idle.offer(object);
+	}
+}
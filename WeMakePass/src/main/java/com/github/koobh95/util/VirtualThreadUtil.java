@@ -0,0 +1,171 @@
+package com.github.koobh95.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.core.env.Environment;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * - 가상 스레드(JDK 21 이상)를 사용하는 ThreadFactory, Executor를 생성하는 유틸리티 클래스.
+ * - 프로젝트는 Java 11로 컴파일되므로 가상 스레드 API는 리플렉션으로 호출하며, JDK 21 미만에서
+ *  실행되면 가상 스레드를 사용하지 않는다. JDK 19, 20의 Thread.ofVirtual()은 미리보기(preview)
+ *  API이므로 메서드가 있더라도 JDK 버전으로 확인한다.
+ * - 서버 실행 시 "-Dthread.virtual=true" 옵션을 지정하면 AsyncConfig의 스레드 풀과
+ *  SchedulerConfig의 스케줄러(메일 발송 등)가 가상 스레드를 사용한다.
+ * - 서블릿 요청을 처리하는 스레드는 war를 실행하는 Tomcat이 생성하므로 애플리케이션에서
+ *  바꿀 수 없으며, StandardVirtualThreadExecutor를 지원하는 Tomcat이라면 server.xml에서
+ *  Connector가 가상 스레드 Executor를 사용하도록 설정한다.
+ *  <pre>
+ *  &lt;Executor name="virtualThreadExecutor" namePrefix="http-vt-"
+ *      className="org.apache.catalina.core.StandardVirtualThreadExecutor"/&gt;
+ *  &lt;Connector port="8080" protocol="HTTP/1.1" executor="virtualThreadExecutor" .../&gt;
+ *  </pre>
+ *  요청 스레드가 가상 스레드이더라도 동시에 DB를 사용하는 요청 수는 커넥션 풀의 크기로 제한되며,
+ *  요청 스레드에서 사용하는 Mac, Cipher는 ThreadLocal이 아닌 ObjectPool로 재사용한다.
+ * - 가상 스레드가 synchronized 블록 안에서 I/O를 기다리면 캐리어 스레드가 고정(pinning)되어
+ *  다른 가상 스레드를 실행하지 못한다. "-Djdk.tracePinnedThreads=short" 옵션을 함께 지정하면
+ *  고정이 발생한 위치의 스택이 출력된다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+@Log4j2
+public class VirtualThreadUtil {
+	public static final String PROPERTY_NAME = "thread.virtual";
+
+	private static final Method OF_VIRTUAL = findOfVirtual();
+
+	/**
+	 * 현재 JVM에서 가상 스레드를 사용할 수 있는지 여부
+	 *
+	 * @return
+	 */
+	public static boolean isSupported() {
+		return OF_VIRTUAL != null;
+	}
+
+	/**
+	 * - thread.virtual 속성이 true이고 가상 스레드를 사용할 수 있는지 여부.
+	 * - 속성이 true이지만 가상 스레드를 사용할 수 없다면 경고를 남기고 false를 반환한다.
+	 *
+	 * @param environment
+	 * @return
+	 */
+	public static boolean isEnabled(Environment environment) {
+		if(!environment.getProperty(PROPERTY_NAME, Boolean.class, false))
+			return false;
+		if(!isSupported()) {
+			log.warn("가상 스레드는 JDK 21 이상에서만 사용할 수 있습니다. (java.version="
+					+ System.getProperty("java.version") + ')');
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 이름이 prefix + 번호인 가상 스레드를 생성하는 ThreadFactory를 반환한다.
+	 *
+	 * @param prefix 스레드 이름 접두사
+	 * @return
+	 */
+	public static ThreadFactory newThreadFactory(String prefix) {
+		if(!isSupported())
+			throw new IllegalStateException("가상 스레드를 사용할 수 없습니다.");
+		try {
+			Object builder = OF_VIRTUAL.invoke(null);
+			Class<?> builderType = OF_VIRTUAL.getReturnType();
+			builder = builderType.getMethod("name", String.class, long.class)
+					.invoke(builder, prefix, 0L);
+			return (ThreadFactory)builderType.getMethod("factory").invoke(builder);
+		} catch(NoSuchMethodException | IllegalAccessException
+				| InvocationTargetException e) {
+			throw new IllegalStateException("가상 스레드 ThreadFactory를 생성할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 작업마다 새로운 가상 스레드를 생성하여 실행하는 ExecutorService를 반환한다.
+	 *
+	 * @param prefix 스레드 이름 접두사
+	 * @return
+	 */
+	public static ExecutorService newExecutor(String prefix) {
+		ThreadFactory threadFactory = newThreadFactory(prefix);
+		try {
+			return (ExecutorService)Executors.class
+					.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+					.invoke(null, threadFactory);
+		} catch(NoSuchMethodException | IllegalAccessException
+				| InvocationTargetException e) {
+			throw new IllegalStateException("가상 스레드 Executor를 생성할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * - 작업마다 가상 스레드를 생성하되 동시에 처리 중인 작업 수를 maxTasks로 제한하는 Executor를
+	 *  반환한다.
+	 * - 가상 스레드는 개수 제한이 없으므로, 스레드 풀의 대기열처럼 가득 차면
+	 *  RejectedExecutionException으로 즉시 거절하기 위해 사용한다.
+	 *
+	 * @param prefix 스레드 이름 접두사
+	 * @param maxTasks 동시에 처리 중일 수 있는 최대 작업 수
+	 * @return
+	 */
+	public static BoundedExecutor newBoundedExecutor(String prefix, int maxTasks) {
+		return new BoundedExecutor(newExecutor(prefix), maxTasks);
+	}
+
+	// Thread.ofVirtual() 메서드, JDK 21 미만이라면 null
+	private static Method findOfVirtual() {
+		if(Runtime.version().feature() < 21)
+			return null;
+		try {
+			return Thread.class.getMethod("ofVirtual");
+		} catch(NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 동시에 처리 중인 작업 수를 제한하는 Executor. 컨텍스트가 종료될 때 shutdown()이 호출된다.
+	 */
+	public static class BoundedExecutor implements Executor {
+		private final ExecutorService executor;
+		private final Semaphore permits;
+
+		private BoundedExecutor(ExecutorService executor, int maxTasks) {
+			this.executor = executor;
+			this.permits = new Semaphore(maxTasks);
+		}
+
+		@Override
+		public void execute(Runnable task) {
+			if(!permits.tryAcquire())
+				throw new RejectedExecutionException("처리 중인 작업이 너무 많습니다.");
+			try {
+				executor.execute(() -> {
+					try {
+						task.run();
+					} finally {
+						permits.release();
+					}
+				});
+			} catch(RejectedExecutionException e) {
+				permits.release();
+				throw e;
+			}
+		}
+
+		public void shutdown() {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,18 @@
+-- exam_result_tb.answer_sheet_bin 컬럼 추가(AnswerSheetCodec으로 압축된 답안)
+-- hibernate.hbm2ddl.auto=update 환경에서는 컬럼이 자동으로 추가되므로 ALTER 문은 생략해도 된다.
+-- 기존 JSON 답안(answer_sheet)은 애플리케이션이 시작될 때 AnswerSheetMigrationService가 변환한다.
+-- 변환이 끝난 결과의 answer_sheet는 NULL이 되므로, 변환 후 아래 MOVE로 테이블의 빈 공간을 회수할 수 있다.
+
+ALTER TABLE exam_result_tb ADD (answer_sheet_bin RAW(2000));
+
+-- ALTER TABLE exam_result_tb MOVE;
+-- ALTER INDEX <exam_result_tb의 인덱스> REBUILD;
+
+-- 변환 작업의 완료 기록(data_migration_tb), hbm2ddl.auto=update 환경에서는 자동으로 생성된다.
+-- 변환이 끝나면 'exam_result_answer_sheet_bin' 행이 추가되며, 이후 시작할 때는 변환하지 않는다.
+-- 변환을 다시 실행하려면 해당 행을 삭제한다.
+CREATE TABLE data_migration_tb (
+    migration_name VARCHAR2(100) NOT NULL,
+    completed_date TIMESTAMP,
+    PRIMARY KEY (migration_name)
+);
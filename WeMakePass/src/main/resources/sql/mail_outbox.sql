@@ -0,0 +1,25 @@
+-- 메일 발송 대기열(mail_outbox_tb) 테이블 생성
+-- hibernate.hbm2ddl.auto=update 환경에서는 테이블과 인덱스가 자동으로 생성되므로 생략해도 된다.
+
+CREATE SEQUENCE seq_mail_outbox_outboxNo START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE mail_outbox_tb (
+    outbox_no         NUMBER(19,0)   NOT NULL,
+    recipient         VARCHAR2(255),
+    subject           VARCHAR2(255),
+    content           CLOB,
+    status            VARCHAR2(255),
+    attempts          NUMBER(10,0)   NOT NULL,
+    next_attempt_date TIMESTAMP,
+    reg_date          TIMESTAMP,
+    expire_date       TIMESTAMP,
+    sent_date         TIMESTAMP,
+    last_error        VARCHAR2(1000),
+    PRIMARY KEY (outbox_no)
+);
+
+CREATE INDEX idx_mail_outbox_status_next 
+    ON mail_outbox_tb (status, next_attempt_date);
+
+-- 만료 시간(expire_date)이 추가되기 전에 생성된 테이블에 컬럼 추가
+-- ALTER TABLE mail_outbox_tb ADD (expire_date TIMESTAMP);
@@ -0,0 +1,13 @@
+-- post_tb.reply_count 컬럼 추가 및 기존 데이터 보정
+-- hibernate.hbm2ddl.auto=update 환경에서는 컬럼이 자동으로 추가되므로 ALTER 문은 생략해도 된다.
+-- 배포 직후 1회 실행하여 기존 게시글의 댓글 수를 채운다.
+
+ALTER TABLE post_tb ADD (reply_count NUMBER(10,0) DEFAULT 0 NOT NULL);
+
+UPDATE post_tb p
+   SET p.reply_count = (SELECT COUNT(*)
+                          FROM reply_tb r
+                         WHERE r.post_no = p.post_no
+                           AND r.delete_date IS NULL);
+
+COMMIT;
@@ -0,0 +1,9 @@
+-- 시퀀스 INCREMENT BY 변경(allocationSize = 50, pooled optimizer)
+-- Entity의 allocationSize와 DB 시퀀스의 INCREMENT BY가 다르면 EntityManagerFactory 생성 시 예외가 발생하므로
+-- 새 버전을 배포하기 전에 1회 실행한다.
+-- pooled 방식은 nextval로 받은 값을 상한으로 하여 (nextval - 49) ~ nextval 범위의 번호를 사용하므로
+-- 기존 번호와 겹치지 않는다. 서버가 재시작되면 사용하지 않은 번호만큼 건너뛸 수 있다.
+
+ALTER SEQUENCE seq_post_postNo INCREMENT BY 50;
+ALTER SEQUENCE seq_reply_replyNo INCREMENT BY 50;
+ALTER SEQUENCE seq_examResult_examResultId INCREMENT BY 50;
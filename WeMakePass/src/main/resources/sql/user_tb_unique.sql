@@ -0,0 +1,11 @@
+-- user_tb의 닉네임, 이메일 유니크 제약 조건 추가
+-- hibernate.hbm2ddl.auto=update 환경에서는 제약 조건이 자동으로 추가되므로 생략해도 된다.
+-- 회원가입 시 중복 검사를 통과한 요청이 동시에 저장되더라도 한 요청만 저장되도록 한다. 제약 조건을
+-- 위반한 요청은 UserServiceImpl이 중복된 항목의 에러 코드(NICKNAME_DUPLICATED 등)로 응답한다.
+-- 추가하기 전에 중복된 닉네임, 이메일이 있는지 아래 조회로 확인하고 정리해야 한다.
+
+-- SELECT nickname, COUNT(*) FROM user_tb GROUP BY nickname HAVING COUNT(*) > 1;
+-- SELECT email, COUNT(*) FROM user_tb GROUP BY email HAVING COUNT(*) > 1;
+
+ALTER TABLE user_tb ADD CONSTRAINT uk_user_tb_nickname UNIQUE (nickname);
+ALTER TABLE user_tb ADD CONSTRAINT uk_user_tb_email UNIQUE (email);
@@ -0,0 +1,325 @@
+package com.github.koobh95.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.mail.MessagingException;
+import javax.mail.Provider;
+import javax.mail.Session;
+import javax.mail.URLName;
+import javax.sql.DataSource;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import com.github.koobh95.data.model.entity.MailOutbox;
+import com.github.koobh95.data.model.enums.MailOutboxStatus;
+import com.github.koobh95.data.repository.MailOutboxRepository;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import com.sun.mail.smtp.SMTPTransport;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * - MailDispatchServiceImpl 테스트.
+ * - 발송 대기열은 내장 H2(In-memory) DB에, SMTP 서버는 내장 GreenMail 서버를 사용하며
+ *  dispatch()를 직접 호출하여 발송한다.
+ * - SMTP 연결 횟수는 Session에 등록한 CountingTransport로 확인한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class MailDispatchServiceImplTest {
+	private static AnnotationConfigApplicationContext context;
+	private static MailOutboxRepository mailOutboxRepository;
+	private static JdbcTemplate jdbcTemplate;
+
+	private GreenMail greenMail;
+	private MailDispatchServiceImpl mailDispatchService;
+
+	// MailDispatchServiceImpl의 MAX_ATTEMPTS, BASE_BACKOFF
+	private static final int MAX_ATTEMPTS = 5;
+	private static final long BASE_BACKOFF = 30 * 1000;
+	// 서버가 거부하는 수신자, GreenMail은 '>'를 포함한 RCPT TO 명령을 501로 거부한다.
+	private static final String REJECTED_RECIPIENT = "\"a>b\"@example.com";
+
+	@BeforeClass
+	public static void setUpContext() {
+		context = new AnnotationConfigApplicationContext(TestConfig.class);
+		mailOutboxRepository = context.getBean(MailOutboxRepository.class);
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+	}
+
+	@AfterClass
+	public static void closeContext() {
+		context.close();
+	}
+
+	@Before
+	public void setUp() throws MessagingException {
+		mailOutboxRepository.deleteAll();
+		greenMail = new GreenMail(new ServerSetup(0, "127.0.0.1",
+				ServerSetup.PROTOCOL_SMTP));
+		greenMail.start();
+
+		Session session = Session.getInstance(new Properties());
+		session.setProvider(new Provider(Provider.Type.TRANSPORT, "smtp",
+				CountingTransport.class.getName(), "WeMakePass", null));
+		JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+		javaMailSender.setSession(session);
+		javaMailSender.setHost("127.0.0.1");
+		javaMailSender.setPort(greenMail.getSmtp().getPort());
+		CountingTransport.connects.set(0);
+		mailDispatchService = new MailDispatchServiceImpl(mailOutboxRepository,
+				javaMailSender);
+	}
+
+	@After
+	public void tearDown() {
+		mailDispatchService.destroy();
+		greenMail.stop();
+	}
+
+	@Test
+	public void sendsBatchesOverOneTransport() throws MessagingException {
+		long[] first = save(3);
+		assertEquals(3, mailDispatchService.dispatch());
+		long[] second = save(2);
+		assertEquals(2, mailDispatchService.dispatch());
+
+		assertEquals(5, greenMail.getReceivedMessages().length);
+		assertEquals("인증 번호 안내",
+				greenMail.getReceivedMessages()[0].getSubject());
+		assertEquals(1, CountingTransport.connects.get());
+		for(long[] outboxNos : new long[][] {first, second})
+			for(long outboxNo : outboxNos) {
+				MailOutbox mail = find(outboxNo);
+				assertEquals(MailOutboxStatus.SENT, mail.getStatus());
+				assertEquals(1, mail.getAttempts());
+				assertNotNull(mail.getSentDate());
+				assertNull(mail.getContent());
+			}
+	}
+
+	@Test
+	public void rejectedMailBacksOffThenFails() {
+		long rejected = mailOutboxRepository.save(MailOutbox.create(
+				REJECTED_RECIPIENT, "인증 번호 안내", "<h3>123456</h3>")).getOutboxNo();
+		long accepted = save(1)[0];
+
+		// 거부된 메일 이후의 메일은 같은 연결로 계속 발송한다.
+		LocalDateTime before = LocalDateTime.now();
+		assertEquals(1, mailDispatchService.dispatch());
+		LocalDateTime after = LocalDateTime.now();
+		assertEquals(MailOutboxStatus.SENT, find(accepted).getStatus());
+		assertBackoff(find(rejected), 1, before, after);
+
+		// 재시도 대기 시간이 지나지 않았다면 발송하지 않는다.
+		assertEquals(0, mailDispatchService.dispatch());
+		assertEquals(1, find(rejected).getAttempts());
+
+		for(int attempts = 2; attempts < MAX_ATTEMPTS; attempts++) {
+			makeDue(rejected);
+			before = LocalDateTime.now();
+			mailDispatchService.dispatch();
+			after = LocalDateTime.now();
+			assertBackoff(find(rejected), attempts, before, after);
+		}
+
+		makeDue(rejected);
+		mailDispatchService.dispatch();
+		MailOutbox mail = find(rejected);
+		assertEquals(MailOutboxStatus.FAILED, mail.getStatus());
+		assertEquals(MAX_ATTEMPTS, mail.getAttempts());
+		assertNotNull(mail.getLastError());
+
+		// FAILED 상태의 메일은 더 이상 시도하지 않는다.
+		makeDue(rejected);
+		mailDispatchService.dispatch();
+		assertEquals(MAX_ATTEMPTS, find(rejected).getAttempts());
+		assertEquals(1, greenMail.getReceivedMessages().length);
+		assertEquals(1, CountingTransport.connects.get());
+	}
+
+	@Test
+	public void outageLeavesMailPending() {
+		long sent = save(1)[0];
+		assertEquals(1, mailDispatchService.dispatch());
+
+		greenMail.stop();
+		long[] pending = save(2);
+		assertEquals(0, mailDispatchService.dispatch());
+		for(long outboxNo : pending) {
+			MailOutbox mail = find(outboxNo);
+			assertEquals(MailOutboxStatus.PENDING, mail.getStatus());
+			assertEquals(0, mail.getAttempts());
+			assertNull(mail.getLastError());
+			assertNotNull(mail.getContent());
+		}
+		assertEquals(MailOutboxStatus.SENT, find(sent).getStatus());
+
+		// 연결에 실패하면 발송을 중단하므로 다음 주기에는 연결을 시도하지 않는다.
+		int connects = CountingTransport.connects.get();
+		assertEquals(0, mailDispatchService.dispatch());
+		assertEquals(connects, CountingTransport.connects.get());
+		assertEquals(0, find(pending[0]).getAttempts());
+	}
+
+	@Test
+	public void expiredMailIsNotSent() {
+		long expired = mailOutboxRepository.save(MailOutbox.create(
+				"user@example.com", "인증 번호 안내", "<h3>123456</h3>",
+				Duration.ZERO)).getOutboxNo();
+		long valid = mailOutboxRepository.save(MailOutbox.create(
+				"user@example.com", "인증 번호 안내", "<h3>654321</h3>",
+				Duration.ofMinutes(3))).getOutboxNo();
+
+		assertEquals(1, mailDispatchService.dispatch());
+		assertEquals(1, greenMail.getReceivedMessages().length);
+		assertEquals(MailOutboxStatus.SENT, find(valid).getStatus());
+
+		MailOutbox mail = find(expired);
+		assertEquals(MailOutboxStatus.FAILED, mail.getStatus());
+		assertEquals(0, mail.getAttempts());
+		assertNull(mail.getContent());
+	}
+
+	@Test
+	public void mailExpiresWhileSendingIsPaused() {
+		greenMail.stop();
+		long outboxNo = save(1)[0];
+		assertEquals(0, mailDispatchService.dispatch());
+		assertEquals(MailOutboxStatus.PENDING, find(outboxNo).getStatus());
+
+		jdbcTemplate.update(
+				"UPDATE mail_outbox_tb SET expire_date = ? WHERE outbox_no = ?",
+				LocalDateTime.now().minusSeconds(1), outboxNo);
+		assertEquals(0, mailDispatchService.dispatch());
+		MailOutbox mail = find(outboxNo);
+		assertEquals(MailOutboxStatus.FAILED, mail.getStatus());
+		assertNull(mail.getContent());
+	}
+
+	// 발송할 메일을 count개 저장하고 식별 번호를 반환한다.
+	private long[] save(int count) {
+		long[] outboxNos = new long[count];
+		for(int i = 0; i < count; i++)
+			outboxNos[i] = mailOutboxRepository.save(MailOutbox.create(
+					"user" + i + "@example.com", "인증 번호 안내",
+					"<h3>123456</h3>")).getOutboxNo();
+		return outboxNos;
+	}
+
+	private MailOutbox find(long outboxNo) {
+		return mailOutboxRepository.findById(outboxNo).get();
+	}
+
+	// 재시도 대기 시간이 지난 것으로 만든다.
+	private void makeDue(long outboxNo) {
+		jdbcTemplate.update(
+				"UPDATE mail_outbox_tb SET next_attempt_date = ? WHERE outbox_no = ?",
+				LocalDateTime.now().minusSeconds(1), outboxNo);
+	}
+
+	// attempts번 실패한 메일이 BASE_BACKOFF부터 두 배씩 늘어나는 시간 이후 재시도되는지 확인한다.
+	private void assertBackoff(MailOutbox mail, int attempts,
+			LocalDateTime before, LocalDateTime after) {
+		Duration backoff = Duration.ofMillis(BASE_BACKOFF << (attempts - 1));
+		assertEquals(MailOutboxStatus.PENDING, mail.getStatus());
+		assertEquals(attempts, mail.getAttempts());
+		assertNotNull(mail.getLastError());
+		// DB에 저장된 시간의 정밀도를 고려하여 ms 단위로 비교한다.
+		assertTrue(!mail.getNextAttemptDate().isBefore(
+				before.truncatedTo(ChronoUnit.MILLIS).plus(backoff)));
+		assertTrue(!mail.getNextAttemptDate().isAfter(after.plus(backoff)));
+	}
+
+	/**
+	 * SMTP 서버에 연결을 시도한 횟수를 세는 Transport.
+	 */
+	public static class CountingTransport extends SMTPTransport {
+		private static final AtomicInteger connects = new AtomicInteger();
+
+		public CountingTransport(Session session, URLName urlname) {
+			super(session, urlname);
+		}
+
+		@Override
+		protected boolean protocolConnect(String host, int port, String user,
+				String password) throws MessagingException {
+			connects.incrementAndGet();
+			return super.protocolConnect(host, port, user, password);
+		}
+	}
+
+	/**
+	 * 발송 대기열(MailOutboxRepository)만 사용하는 내장 H2 DB 설정.
+	 */
+	@Configuration
+	@EnableTransactionManagement
+	@EnableJpaRepositories("com.github.koobh95.data.repository")
+	static class TestConfig {
+		@Bean
+		public LocalContainerEntityManagerFactoryBean entityManagerFactory() {
+			LocalContainerEntityManagerFactoryBean em
+				= new LocalContainerEntityManagerFactoryBean();
+			em.setDataSource(dataSource());
+			em.setPackagesToScan(new String[] {
+					"com.github.koobh95.data.model.entity" });
+			em.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+			Properties properties = new Properties();
+			properties.setProperty("hibernate.hbm2ddl.auto", "create");
+			properties.setProperty("hibernate.dialect",
+					"org.hibernate.dialect.H2Dialect");
+			properties.setProperty("hibernate.cache.use_second_level_cache", "false");
+			properties.setProperty("hibernate.cache.use_query_cache", "false");
+			em.setJpaProperties(properties);
+			return em;
+		}
+
+		@Bean
+		public DataSource dataSource() {
+			HikariConfig config = new HikariConfig();
+			config.setPoolName("wmp-test-pool");
+			config.setJdbcUrl("jdbc:h2:mem:wmp_mail_test;DB_CLOSE_DELAY=-1");
+			config.setUsername("sa");
+			return new HikariDataSource(config);
+		}
+
+		@Bean
+		public JdbcTemplate jdbcTemplate() {
+			return new JdbcTemplate(dataSource());
+		}
+
+		@Bean
+		public PlatformTransactionManager transactionManager() {
+			JpaTransactionManager transactionManager =
+					new JpaTransactionManager(entityManagerFactory().getObject());
+			transactionManager.setDataSource(dataSource());
+			return transactionManager;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.github.koobh95.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * - AnswerSheetCodec 테스트.
+ * - 답안 이관(AnswerSheetMigrationService)은 변환한 답안의 JSON 원본을 지우므로, 변환 결과가
+ *  원본과 같은지와 변환할 수 없는 답안을 거부하는지 확인한다.
+ *
+ * @author BH-Ku
+ * @since 2026-10-18
+ */
+public class AnswerSheetCodecTest {
+
+	@Test
+	public void roundTripAtBoundarySizes() {
+		for(int count : new int[] {0, 1, 7, 8, AnswerSheetCodec.MAX_QUESTIONS}) {
+			int[] answers = new int[count];
+			for(int i = 0; i < count; i++)
+				answers[i] = (i * 5 + 3) % (AnswerSheetCodec.MAX_OPTION + 1);
+
+			byte[] packed = AnswerSheetCodec.encode(answers);
+			assertEquals(count, AnswerSheetCodec.size(packed));
+			assertArrayEquals(answers, AnswerSheetCodec.decode(packed));
+			for(int i = 0; i < count; i++)
+				assertEquals(answers[i], AnswerSheetCodec.get(packed, i));
+
+			String json = AnswerSheetCodec.toJson(packed);
+			assertArrayEquals(packed, AnswerSheetCodec.fromJson(json));
+			assertTrue(packed.length <= AnswerSheetCodec.MAX_SIZE);
+		}
+	}
+
+	@Test
+	public void maxQuestionsFillsColumn() {
+		byte[] packed = AnswerSheetCodec.encode(new int[AnswerSheetCodec.MAX_QUESTIONS]);
+		assertTrue(packed.length <= AnswerSheetCodec.MAX_SIZE);
+
+		try {
+			AnswerSheetCodec.encode(new int[AnswerSheetCodec.MAX_QUESTIONS + 1]);
+			fail();
+		} catch(IllegalArgumentException e) {
+		}
+		assertNull(AnswerSheetCodec.fromJson(
+				AnswerSheetCodec.toJson(packed).replace("]", ",0]")));
+	}
+
+	@Test
+	public void bitLayoutAcrossByteBoundary() {
+		// 001 010 011 | 100 101 110 111 000 -> 00101001 11001011 10111000
+		byte[] packed = AnswerSheetCodec.encode(new int[] {1, 2, 3, 4, 5, 6, 7, 0});
+		assertArrayEquals(new byte[] {AnswerSheetCodec.VERSION, 0, 8,
+				(byte)0b00101001, (byte)0b11001011, (byte)0b10111000}, packed);
+
+		// 세 번째 답안(비트 6 ~ 8)은 첫 번째 바이트의 마지막 두 비트와 두 번째 바이트의 첫 비트에 걸친다.
+		packed = AnswerSheetCodec.encode(new int[] {0, 0, 7});
+		assertArrayEquals(new byte[] {AnswerSheetCodec.VERSION, 0, 3,
+				(byte)0b00000011, (byte)0b10000000}, packed);
+		assertEquals(7, AnswerSheetCodec.get(packed, 2));
+
+		// 문항 수는 big-endian 2바이트로 저장된다.
+		packed = AnswerSheetCodec.encode(new int[300]);
+		assertEquals(1, packed[1]);
+		assertEquals(44, packed[2]);
+	}
+
+	@Test
+	public void fromJsonMatchesEncode() {
+		assertArrayEquals(AnswerSheetCodec.encode(new int[] {1, 3, 0, 2}),
+				AnswerSheetCodec.fromJson("[1,3,0,2]"));
+		assertArrayEquals(AnswerSheetCodec.encode(new int[] {1, 0, 7}),
+				AnswerSheetCodec.fromJson(" [ 1 , null ,7 ] "));
+		assertArrayEquals(AnswerSheetCodec.encode(new int[0]),
+				AnswerSheetCodec.fromJson("[]"));
+	}
+
+	@Test
+	public void fromJsonRejectsOutOfRange() {
+		assertNull(AnswerSheetCodec.fromJson("[1,8]"));
+		assertNull(AnswerSheetCodec.fromJson("[-1,2]"));
+		assertNull(AnswerSheetCodec.fromJson("[2147483648]"));
+	}
+
+	@Test
+	public void fromJsonRejectsNonInteger() {
+		assertNull(AnswerSheetCodec.fromJson("[1.5]"));
+		assertNull(AnswerSheetCodec.fromJson("[1e0]"));
+		assertNull(AnswerSheetCodec.fromJson("[\"1\"]"));
+		assertNull(AnswerSheetCodec.fromJson("[true]"));
+	}
+
+	@Test
+	public void fromJsonRejectsMalformed() {
+		assertNull(AnswerSheetCodec.fromJson(null));
+		assertNull(AnswerSheetCodec.fromJson(""));
+		assertNull(AnswerSheetCodec.fromJson("[1,2"));
+		assertNull(AnswerSheetCodec.fromJson("1,2]"));
+		assertNull(AnswerSheetCodec.fromJson("[1,,2]"));
+		assertNull(AnswerSheetCodec.fromJson("[,]"));
+		assertNull(AnswerSheetCodec.fromJson("[1,2]x"));
+		assertNull(AnswerSheetCodec.fromJson("{\"a\":1}"));
+		assertNull(AnswerSheetCodec.fromJson("[[1],2]"));
+		assertNull(AnswerSheetCodec.fromJson("[1,[2,3]]"));
+		assertNull(AnswerSheetCodec.fromJson("[{\"a\":1}]"));
+		assertNull(AnswerSheetCodec.fromJson("[1][2]"));
+	}
+}